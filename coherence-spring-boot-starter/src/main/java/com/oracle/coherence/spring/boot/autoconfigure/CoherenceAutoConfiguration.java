@@ -56,8 +56,12 @@ public class CoherenceAutoConfiguration {
 	@Bean
 	@Conditional(CachingEnabledCondition.class)
 	@ConditionalOnMissingBean(CacheManager.class)
-	CoherenceCacheManager cacheManager(Coherence coherence) {
-		return new CoherenceCacheManager(coherence);
+	CoherenceCacheManager cacheManager(Coherence coherence, CoherenceProperties coherenceProperties) {
+		final CoherenceProperties.CacheProperties cacheProperties = coherenceProperties.getCache();
+		final CoherenceCacheManager cacheManager = new CoherenceCacheManager(coherence, cacheProperties.getDefaults());
+		cacheManager.setCacheConfigurations(cacheProperties.getCaches());
+		cacheManager.setCacheNames(cacheProperties.getCacheNames());
+		return cacheManager;
 	}
 
 	@Bean
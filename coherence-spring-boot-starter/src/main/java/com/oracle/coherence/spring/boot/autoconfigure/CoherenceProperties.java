@@ -12,6 +12,8 @@ import java.util.List;
 import java.util.Map;
 
 import com.oracle.coherence.spring.boot.autoconfigure.support.LogType;
+import com.oracle.coherence.spring.cache.CoherenceCacheConfiguration;
+import com.oracle.coherence.spring.configuration.DispatchExecutorResolver;
 import com.oracle.coherence.spring.configuration.session.AbstractSessionConfigurationBean;
 import com.oracle.coherence.spring.configuration.session.GrpcSessionConfigurationBean;
 import com.oracle.coherence.spring.configuration.session.SessionConfigurationBean;
@@ -88,6 +90,16 @@ public class CoherenceProperties {
 	 */
 	private SessionProperties sessions = new SessionProperties();
 
+	/**
+	 * Cache configuration used by the {@link com.oracle.coherence.spring.cache.CoherenceCacheManager}.
+	 */
+	private CacheProperties cache = new CacheProperties();
+
+	/**
+	 * Configuration of the dispatch of Coherence events and topic messages to asynchronous listeners.
+	 */
+	private DispatchProperties dispatch = new DispatchProperties();
+
 	public SessionProperties getSessions() {
 		return this.sessions;
 	}
@@ -96,6 +108,22 @@ public class CoherenceProperties {
 		this.sessions = sessions;
 	}
 
+	public CacheProperties getCache() {
+		return this.cache;
+	}
+
+	public void setCache(CacheProperties cache) {
+		this.cache = cache;
+	}
+
+	public DispatchProperties getDispatch() {
+		return this.dispatch;
+	}
+
+	public void setDispatch(DispatchProperties dispatch) {
+		this.dispatch = dispatch;
+	}
+
 	public Map<String, String> getProperties() {
 		return this.properties;
 	}
@@ -301,4 +329,87 @@ public class CoherenceProperties {
 			return sessionConfigurationBeans;
 		}
 	}
+
+	/**
+	 * Coherence Cache Configuration for Spring's cache abstraction.
+	 */
+	public static class CacheProperties {
+
+		/**
+		 * Configuration applied to all caches that have no cache-specific configuration.
+		 */
+		private CoherenceCacheConfiguration defaults = new CoherenceCacheConfiguration();
+
+		/**
+		 * Cache-specific configuration keyed by cache name. A cache-specific configuration replaces
+		 * the default configuration as a whole.
+		 */
+		private Map<String, CoherenceCacheConfiguration> caches = new HashMap<>();
+
+		/**
+		 * Names of caches that are created and warmed up on startup, in addition to the caches that have
+		 * a cache-specific configuration.
+		 */
+		private List<String> cacheNames = new ArrayList<>();
+
+		public CoherenceCacheConfiguration getDefaults() {
+			return this.defaults;
+		}
+
+		public void setDefaults(CoherenceCacheConfiguration defaults) {
+			this.defaults = defaults;
+		}
+
+		public Map<String, CoherenceCacheConfiguration> getCaches() {
+			return this.caches;
+		}
+
+		public void setCaches(Map<String, CoherenceCacheConfiguration> caches) {
+			this.caches = caches;
+		}
+
+		public List<String> getCacheNames() {
+			return this.cacheNames;
+		}
+
+		public void setCacheNames(List<String> cacheNames) {
+			this.cacheNames = cacheNames;
+		}
+	}
+
+	/**
+	 * Configuration of the dispatch of Coherence events and topic messages to asynchronous listeners.
+	 * Bound to the properties read by the {@link DispatchExecutorResolver}.
+	 */
+	public static class DispatchProperties {
+
+		/**
+		 * Whether asynchronous listeners are dispatched to a dedicated thread per concurrent event or message,
+		 * instead of the shared common fork-join pool or Reactor parallel scheduler. Ignored if an Executor bean
+		 * named 'coherenceDispatchExecutor' is present.
+		 */
+		private boolean threadPerTask;
+
+		/**
+		 * Maximum number of concurrent threads if 'threadPerTask' is enabled. Once reached, further events and
+		 * messages are queued until a listener completes.
+		 */
+		private int concurrencyLimit = DispatchExecutorResolver.DEFAULT_CONCURRENCY_LIMIT;
+
+		public boolean isThreadPerTask() {
+			return this.threadPerTask;
+		}
+
+		public void setThreadPerTask(boolean threadPerTask) {
+			this.threadPerTask = threadPerTask;
+		}
+
+		public int getConcurrencyLimit() {
+			return this.concurrencyLimit;
+		}
+
+		public void setConcurrencyLimit(int concurrencyLimit) {
+			this.concurrencyLimit = concurrencyLimit;
+		}
+	}
 }
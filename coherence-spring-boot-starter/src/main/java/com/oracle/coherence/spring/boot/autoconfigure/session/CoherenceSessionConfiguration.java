@@ -47,6 +47,13 @@ public class CoherenceSessionConfiguration {
 			setSessionMapName(coherenceSessionProperties.getMapName());
 			setFlushMode(coherenceSessionProperties.getFlushMode());
 			setSaveMode(coherenceSessionProperties.getSaveMode());
+			setBinaryAttributes(coherenceSessionProperties.isBinaryAttributes());
+			setLocalCacheMaxSize(coherenceSessionProperties.getLocalCacheMaxSize());
+			setLastAccessedTimeGranularityInSeconds((int) coherenceSessionProperties.getLastAccessedTimeGranularity().getSeconds());
+			setLastAccessedTimeGranularityRatio(coherenceSessionProperties.getLastAccessedTimeGranularityRatio());
+			setWriteMode(coherenceSessionProperties.getWriteMode());
+			setWriteAcknowledgementTimeoutInMillis((int) coherenceSessionProperties.getWriteAcknowledgementTimeout().toMillis());
+			setMaxPendingWrites(coherenceSessionProperties.getMaxPendingWrites());
 		}
 
 	}
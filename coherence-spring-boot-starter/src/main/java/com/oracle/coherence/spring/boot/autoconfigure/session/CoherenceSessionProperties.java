@@ -6,6 +6,11 @@
  */
 package com.oracle.coherence.spring.boot.autoconfigure.session;
 
+import java.time.Duration;
+
+import com.oracle.coherence.spring.session.CoherenceIndexedSessionRepository;
+import com.oracle.coherence.spring.session.SessionWriteMode;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.session.FlushMode;
 import org.springframework.session.SaveMode;
@@ -38,6 +43,48 @@ public class CoherenceSessionProperties {
 	 */
 	private SaveMode saveMode = SaveMode.ON_SET_ATTRIBUTE;
 
+	/**
+	 * Whether session attributes are stored as serialized values that are only deserialized
+	 * when accessed.
+	 */
+	private boolean binaryAttributes;
+
+	/**
+	 * Maximum number of sessions cached locally and revalidated against the session store on
+	 * read. A value of 0 disables the local cache.
+	 */
+	private int localCacheMaxSize;
+
+	/**
+	 * Minimum amount of time the last accessed time of a session must have advanced before it
+	 * is saved without other changes of the session.
+	 */
+	private Duration lastAccessedTimeGranularity = Duration.ZERO;
+
+	/**
+	 * Minimum advance of the last accessed time before it is saved without other changes of
+	 * the session, as a fraction of the maximum inactive interval of the session.
+	 */
+	private double lastAccessedTimeGranularityRatio;
+
+	/**
+	 * Session write mode. Determines whether saving a session waits for the session changes
+	 * to be written to the session store.
+	 */
+	private SessionWriteMode writeMode = SessionWriteMode.SYNC;
+
+	/**
+	 * Maximum time saving a session waits for the session changes to be written with the
+	 * ACKNOWLEDGED write mode.
+	 */
+	private Duration writeAcknowledgementTimeout = Duration.ofMillis(100);
+
+	/**
+	 * Maximum number of session writes pending at a time with the asynchronous write
+	 * modes. Once reached, saving a session waits for a pending write to complete.
+	 */
+	private int maxPendingWrites = CoherenceIndexedSessionRepository.DEFAULT_MAX_PENDING_WRITES;
+
 	public String getMapName() {
 		return this.mapName;
 	}
@@ -62,4 +109,60 @@ public class CoherenceSessionProperties {
 		this.saveMode = saveMode;
 	}
 
+	public boolean isBinaryAttributes() {
+		return this.binaryAttributes;
+	}
+
+	public void setBinaryAttributes(boolean binaryAttributes) {
+		this.binaryAttributes = binaryAttributes;
+	}
+
+	public int getLocalCacheMaxSize() {
+		return this.localCacheMaxSize;
+	}
+
+	public void setLocalCacheMaxSize(int localCacheMaxSize) {
+		this.localCacheMaxSize = localCacheMaxSize;
+	}
+
+	public Duration getLastAccessedTimeGranularity() {
+		return this.lastAccessedTimeGranularity;
+	}
+
+	public void setLastAccessedTimeGranularity(Duration lastAccessedTimeGranularity) {
+		this.lastAccessedTimeGranularity = lastAccessedTimeGranularity;
+	}
+
+	public double getLastAccessedTimeGranularityRatio() {
+		return this.lastAccessedTimeGranularityRatio;
+	}
+
+	public void setLastAccessedTimeGranularityRatio(double lastAccessedTimeGranularityRatio) {
+		this.lastAccessedTimeGranularityRatio = lastAccessedTimeGranularityRatio;
+	}
+
+	public SessionWriteMode getWriteMode() {
+		return this.writeMode;
+	}
+
+	public void setWriteMode(SessionWriteMode writeMode) {
+		this.writeMode = writeMode;
+	}
+
+	public Duration getWriteAcknowledgementTimeout() {
+		return this.writeAcknowledgementTimeout;
+	}
+
+	public void setWriteAcknowledgementTimeout(Duration writeAcknowledgementTimeout) {
+		this.writeAcknowledgementTimeout = writeAcknowledgementTimeout;
+	}
+
+	public int getMaxPendingWrites() {
+		return this.maxPendingWrites;
+	}
+
+	public void setMaxPendingWrites(int maxPendingWrites) {
+		this.maxPendingWrites = maxPendingWrites;
+	}
+
 }
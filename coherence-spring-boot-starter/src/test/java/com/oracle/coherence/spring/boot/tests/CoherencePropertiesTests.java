@@ -6,10 +6,12 @@
  */
 package com.oracle.coherence.spring.boot.tests;
 
+import java.time.Duration;
 import java.util.List;
 
 import com.oracle.coherence.spring.boot.autoconfigure.CoherenceProperties;
 import com.oracle.coherence.spring.boot.autoconfigure.support.LogType;
+import com.oracle.coherence.spring.cache.CoherenceCacheConfiguration;
 import com.oracle.coherence.spring.configuration.session.GrpcSessionConfigurationBean;
 import com.oracle.coherence.spring.configuration.session.SessionConfigurationBean;
 import com.tangosol.net.Coherence;
@@ -100,6 +102,28 @@ public class CoherencePropertiesTests {
 		assertThat(this.coherenceProperties.getProperties().get("coherence.log.format")).isEqualTo("foobar");
 	}
 
+	@Test
+	void testCoherenceCacheProperties() {
+		final CoherenceCacheConfiguration defaults = this.coherenceProperties.getCache().getDefaults();
+		assertThat(defaults.getTimeToLive()).isEqualTo(Duration.ofMinutes(10));
+		assertThat(defaults.isCacheNullValues()).isTrue();
+		assertThat(defaults.isLocalCacheEnabled()).isFalse();
+
+		assertThat(this.coherenceProperties.getCache().getCaches()).hasSize(1);
+		final CoherenceCacheConfiguration books = this.coherenceProperties.getCache().getCaches().get("books");
+		assertThat(books.getTimeToLive()).isEqualTo(Duration.ofSeconds(30));
+		assertThat(books.isLocalCacheEnabled()).isTrue();
+		assertThat(books.getLocalCacheMaxSize()).isEqualTo(500);
+		assertThat(books.getPreloadKeys()).containsExactly("978-0-13-468599-1");
+		assertThat(this.coherenceProperties.getCache().getCacheNames()).containsExactly("authors");
+	}
+
+	@Test
+	void testCoherenceDispatchProperties() {
+		assertThat(this.coherenceProperties.getDispatch().isThreadPerTask()).isTrue();
+		assertThat(this.coherenceProperties.getDispatch().getConcurrencyLimit()).isEqualTo(16);
+	}
+
 	private void validateConfigUri(String expectedConfigUri, SessionConfiguration sessionConfiguration) {
 		final ConfigurableCacheFactorySessionConfig configurableCacheFactorySessionConfig =
 			(ConfigurableCacheFactorySessionConfig) sessionConfiguration;
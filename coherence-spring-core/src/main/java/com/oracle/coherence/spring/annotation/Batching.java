@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the {@link CoherencePublisher#batchSize() batch size} and {@link CoherencePublisher#linger() linger time}
+ * of the {@link CoherencePublisher} interface for a single method. Both attributes replace those of the interface,
+ * so a method annotated with {@code @Batching} and no attributes publishes each message immediately.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Batching {
+	/**
+	 * The number of messages accumulated before they are published, see {@link CoherencePublisher#batchSize()}.
+	 * @return the batch size, {@code 0} if batches are not limited by size
+	 */
+	int batchSize() default 0;
+
+	/**
+	 * The maximum time a message is held back, as ISO-8601 duration, see {@link CoherencePublisher#linger()}.
+	 * @return the linger time
+	 */
+	String linger() default "";
+}
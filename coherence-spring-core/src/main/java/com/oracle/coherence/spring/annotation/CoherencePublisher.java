@@ -33,12 +33,50 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 @Target(ElementType.TYPE)
 public @interface CoherencePublisher {
 	/**
-	 * The maximum duration to block synchronous send operations.
+	 * The maximum duration to block send operations once {@link #maxInFlight()} messages are in flight, as
+	 * ISO-8601 duration. {@code PT0S} fails immediately with a
+	 * {@link com.oracle.coherence.spring.messaging.exceptions.CoherencePublisherException}. Not set by default,
+	 * which blocks until capacity becomes available. Also limits the time a reactive send waits for the status
+	 * of a message.
 	 *
 	 * @return The timeout
 	 */
 	String maxBlock() default "";
 
+	/**
+	 * The maximum number of messages per topic that were accepted but not yet published. Once reached, send
+	 * operations block according to {@link #maxBlock()}. Reactive sources never block, instead each of them is
+	 * not requested further messages while this number of its own messages is in flight.
+	 *
+	 * @return the maximum number of in-flight messages, {@code 0} if not limited
+	 */
+	int maxInFlight() default 0;
+
+	/**
+	 * The maximum time a message is held back to be published together with other messages to the same topic,
+	 * as ISO-8601 duration, e.g. {@code PT0.005S}. Not set by default, which disables time based batching
+	 * unless a {@link #batchSize()} greater than {@code 1} is set, in which case it defaults to 100 milliseconds.
+	 * Must not be {@code PT0S} if such a batch size is set, as a batch that is not full would never be published.
+	 *
+	 * @return the linger time
+	 * @see #batchSize()
+	 */
+	String linger() default "";
+
+	/**
+	 * The number of messages to the same topic that are accumulated before they are published as a batch.
+	 * Each caller still receives its own {@link com.tangosol.net.topic.Publisher.Status} future. A batch that
+	 * is not full is published once the {@link #linger()} time, which applies to any batch size greater than
+	 * {@code 1}, elapsed or when the proxy, which implements
+	 * {@link java.io.Flushable}, is flushed. If neither batch size nor linger time are set, each message is
+	 * published immediately. A batch is handed to the Coherence publisher in one burst, which sends the
+	 * messages queued per channel with as few requests as possible. Methods may override the batch size and
+	 * linger time with {@link Batching}.
+	 *
+	 * @return the batch size, {@code 0} if batches are not limited by size
+	 */
+	int batchSize() default 0;
+
 	/**
 	 * The value may indicate a suggestion for a logical component name,
 	 * to be turned into a Spring bean in case of an autodetected component.
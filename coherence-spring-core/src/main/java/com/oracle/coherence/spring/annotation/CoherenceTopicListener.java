@@ -30,4 +30,51 @@ public @interface CoherenceTopicListener {
 	 * @return The {@link CommitStrategy}
 	 */
 	CommitStrategy commitStrategy() default CommitStrategy.SYNC;
+
+	/**
+	 * The maximum number of elements received at once by a batch listener. A method that accepts a
+	 * {@link java.util.List} of element values becomes a batch listener by specifying a maxBatchSize greater than
+	 * zero; otherwise each element is expected to be a {@link java.util.List} itself. A method that accepts a
+	 * {@link java.util.List} of {@link com.tangosol.net.topic.Subscriber.Element Subscriber.Element}s is always a
+	 * batch listener, receiving up to {@code 100} elements at once unless a maxBatchSize is specified. Unless the
+	 * {@link #commitStrategy()} is {@link CommitStrategy#MANUAL}, each batch is committed once at its highest
+	 * position per channel.
+	 *
+	 * @return the maximum number of elements passed to a batch listener, {@code 0} if not specified
+	 */
+	int maxBatchSize() default 0;
+
+	/**
+	 * The maximum number of messages, or batches of messages for a batch listener, processed concurrently.
+	 * Messages received from different channels are processed concurrently on the {@code consumers}
+	 * {@link java.util.concurrent.ExecutorService}, if one is configured, while the messages of a single
+	 * channel are always processed and committed in order. The default of {@code 1} processes one message at
+	 * a time.
+	 *
+	 * @return the maximum number of messages processed concurrently
+	 */
+	int concurrency() default 1;
+
+	/**
+	 * The number of messages, or batches of messages for a batch listener, received ahead of processing, so
+	 * that the next messages are available as soon as the listener method returns. The default of {@code 0}
+	 * requests the next message once the previous one has been processed.
+	 *
+	 * @return the number of messages received ahead of processing
+	 */
+	int prefetch() default 0;
+
+	/**
+	 * The maximum number of incomplete asynchronous results, i.e. {@link java.util.concurrent.CompletionStage}
+	 * or reactive results, returned by the listener method, whether or not the results are sent to a topic using
+	 * {@link org.springframework.messaging.handler.annotation.SendTo @SendTo}. Once the maximum is reached, no
+	 * further messages are received until results complete. The default of {@code 0} does not limit asynchronous
+	 * results.
+	 * <p>
+	 * Reactive results of a method without {@code @SendTo} are only subscribed to if a maximum is set, so that they
+	 * can be counted. Otherwise they are ignored.
+	 *
+	 * @return the maximum number of incomplete asynchronous results
+	 */
+	int maxOutstandingResults() default 0;
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Pins a {@link com.oracle.coherence.spring.event.CoherenceEventListener} or {@link CoherenceTopicListener}
+ * method to the {@link java.util.concurrent.Executor} bean with the given name, overriding the default
+ * dispatch executor resolved by the
+ * {@link com.oracle.coherence.spring.configuration.DispatchExecutorResolver}. Has no effect on
+ * {@link com.oracle.coherence.spring.annotation.event.Synchronous} event listeners, which are always
+ * notified on the Coherence event thread.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ListenerExecutor {
+	/**
+	 * The name of the {@link java.util.concurrent.Executor} bean.
+	 * @return the bean name
+	 */
+	String value();
+}
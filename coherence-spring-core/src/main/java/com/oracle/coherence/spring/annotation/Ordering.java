@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies how the messages sent by a {@link CoherencePublisher} method are assigned to the channels of
+ * the topic. May be placed on a method or on the {@link CoherencePublisher} interface, in which case it
+ * applies to all of its methods.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see OrderingKey
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Ordering {
+	/**
+	 * The strategy used to select the channel of a message.
+	 * @return the {@link OrderingStrategy}
+	 */
+	OrderingStrategy value();
+}
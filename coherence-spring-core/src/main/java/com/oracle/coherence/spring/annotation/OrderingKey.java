@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the parameter of a {@link CoherencePublisher} method that holds the ordering key of the message.
+ * Messages with equal ordering keys are published to the same channel of the topic and are therefore
+ * received in the order they were published, while messages with different keys are spread across all
+ * channels. Implies {@link OrderingStrategy#HASH}.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see Ordering
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OrderingKey {
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.annotation;
+
+/**
+ * The strategies used by {@link CoherencePublisher} methods to assign messages to the channels of a topic,
+ * mapped to the corresponding {@link com.tangosol.net.topic.Publisher.OrderBy} options.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see Ordering
+ */
+public enum OrderingStrategy {
+	/**
+	 * Messages published by the same thread are published to the same channel and are received in order.
+	 * This is the default of Coherence.
+	 */
+	THREAD,
+	/**
+	 * Messages are published to the channel selected by the hash of their {@link OrderingKey ordering key},
+	 * or of the message itself if the method has no {@link OrderingKey} parameter. The hash is the
+	 * {@link Object#hashCode() hash code} of the key, or of its name for enums, so equal keys only select the
+	 * same channel in all JVMs if their hash code is stable across JVMs, as for strings and boxed primitives.
+	 * Keys must not be {@code null}. Messages with equal keys are received in order. A publisher method creates
+	 * one Coherence publisher per channel of each topic it publishes to, once a message is sent to that channel.
+	 */
+	HASH,
+	/**
+	 * Messages are distributed over all channels in turn, without any ordering guarantees.
+	 */
+	ROUND_ROBIN,
+	/**
+	 * Messages may be published to any channel, without any ordering guarantees.
+	 */
+	NONE,
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.annotation.event;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A qualifier annotation that can be applied to {@link com.oracle.coherence.spring.event.CoherenceEventListener}
+ * annotated methods that receive a {@link java.util.List} of {@link com.tangosol.util.MapEvent MapEvents} to
+ * configure how events are buffered into batches. A batch is delivered once it reached its maximum size or its
+ * first event waited for the maximum wait time, whichever comes first. Methods receiving a list of map events
+ * without this annotation use the default settings.
+ * <p>
+ * Batches are always delivered asynchronously, one at a time, in the order the events were raised. Batches waiting
+ * for delivery are queued up to the {@link DispatchQueue#capacity() capacity} of a {@link DispatchQueue} annotation
+ * on the method, which may only specify a single lane and the {@link OverflowPolicy#BLOCK BLOCK} or
+ * {@link OverflowPolicy#DROP_OLDEST DROP_OLDEST} overflow policy.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Batch {
+
+	/**
+	 * The maximum number of events per batch.
+	 * @return the maximum batch size
+	 */
+	int maxSize() default 100;
+
+	/**
+	 * The maximum time the first event of a batch waits for more events, either as ISO-8601 duration, e.g.
+	 * {@code PT0.1S}, or with a unit suffix, e.g. {@code 100ms}.
+	 * @return the maximum wait time
+	 */
+	String maxWait() default "100ms";
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.annotation.event;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A qualifier annotation that can be applied to {@link com.oracle.coherence.spring.event.CoherenceEventListener}
+ * annotated methods that receive {@link com.tangosol.util.MapEvent MapEvents} to collapse the events raised for
+ * the same key within a time window. Once the window elapsed, a single event per key is delivered, carrying the
+ * old value of the first and the new value of the last event of the window. Methods accepting a
+ * {@link java.util.List} of map events receive all events of a window as one batch.
+ * <p>
+ * Coalesced events are always delivered asynchronously, so this annotation cannot be combined with
+ * {@link Synchronous}. It cannot be combined with {@link Batch} or {@link DispatchQueue} either.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesce {
+
+	/**
+	 * The time window events are collapsed in, either as ISO-8601 duration, e.g. {@code PT0.05S}, or with a
+	 * unit suffix, e.g. {@code 50ms}.
+	 * @return the coalescing window
+	 */
+	String window();
+}
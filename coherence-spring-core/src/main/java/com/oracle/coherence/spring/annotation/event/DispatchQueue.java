@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.annotation.event;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A qualifier annotation that can be applied to asynchronous {@link com.oracle.coherence.spring.event.CoherenceEventListener}
+ * annotated methods that receive {@link com.tangosol.util.MapEvent MapEvents} to configure the queue events are
+ * dispatched through. Events are assigned to a lane by the hash of their key, and each lane delivers its events
+ * one at a time, so events for the same key are received in the order they were raised.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DispatchQueue {
+
+	/**
+	 * The number of lanes, {@code 0} to use the number of available processors.
+	 * @return the number of lanes
+	 */
+	int lanes() default 0;
+
+	/**
+	 * The maximum number of events queued per lane.
+	 * @return the capacity of each lane
+	 */
+	int capacity() default 1024;
+
+	/**
+	 * The policy applied when an event arrives for a full lane.
+	 * @return the overflow policy
+	 */
+	OverflowPolicy overflow() default OverflowPolicy.BLOCK;
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.annotation.event;
+
+/**
+ * The policy applied by the dispatch queue of an asynchronous map listener when
+ * a new event arrives while the queue is full.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see DispatchQueue
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * Block the thread raising the event until the queue has room.
+	 */
+	BLOCK,
+
+	/**
+	 * Discard the oldest queued event to make room for the new one.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * Replace a queued event for the same key with the new one, so that only the latest
+	 * event per key is delivered. If no event for the key is queued, block like {@link #BLOCK}.
+	 */
+	COALESCE
+}
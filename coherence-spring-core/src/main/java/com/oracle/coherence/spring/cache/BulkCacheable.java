@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that the result of a bulk lookup method can be cached per key. The annotated method must
+ * accept a single parameter of type {@link java.util.Collection}, {@link java.util.List} or
+ * {@link java.util.Set} holding the keys, and must declare {@link java.util.Map} as return type for the
+ * values keyed by those keys.
+ * <p>
+ * On invocation, all keys are looked up using {@link CoherenceCache#getAll(java.util.Collection,
+ * java.util.function.Function)}. The annotated method is only invoked for the keys that are not
+ * cached, and the values it returns are written back in a single operation.
+ * <pre>
+ * &#64;BulkCacheable("books")
+ * public Map&lt;String, Book&gt; findBooks(Collection&lt;String&gt; isbns) {
+ *     ...
+ * }
+ * </pre>
+ * Requires caching to be enabled, e.g. using {@link org.springframework.cache.annotation.EnableCaching}.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see BulkCacheableInterceptor
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface BulkCacheable {
+
+	/**
+	 * The name of the cache used to store the values.
+	 * @return the name of the cache
+	 */
+	String value();
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Registers the infrastructure {@link Advisor} that applies the {@link BulkCacheableInterceptor} to
+ * methods annotated with {@link BulkCacheable}. The advisor is picked up by the auto-proxy creator
+ * registered by {@link org.springframework.cache.annotation.EnableCaching}.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+@Configuration(proxyBeanMethods = false)
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+public class BulkCacheableConfiguration {
+
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	static Advisor bulkCacheableAdvisor(ObjectProvider<CacheManager> cacheManagerProvider) {
+		return new DefaultPointcutAdvisor(AnnotationMatchingPointcut.forMethodAnnotation(BulkCacheable.class),
+				new BulkCacheableInterceptor(cacheManagerProvider));
+	}
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MethodInterceptor} handling methods annotated with {@link BulkCacheable}.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+public class BulkCacheableInterceptor implements MethodInterceptor {
+
+	/**
+	 * The supported types of the keys parameter. The keys passed on to the method for the missing keys are
+	 * created as {@link ArrayList} or {@link LinkedHashSet}, so that narrower types are not supported.
+	 */
+	private static final List<Class<?>> KEYS_TYPES = Arrays.asList(Collection.class, List.class, Set.class);
+
+	private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+	/**
+	 * Create a {@link BulkCacheableInterceptor}.
+	 * @param cacheManagerProvider provides the {@link CacheManager} lazily, must not be null
+	 */
+	public BulkCacheableInterceptor(ObjectProvider<CacheManager> cacheManagerProvider) {
+		Assert.notNull(cacheManagerProvider, "cacheManagerProvider must not be null.");
+		this.cacheManagerProvider = cacheManagerProvider;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		final Method method = invocation.getMethod();
+		final BulkCacheable bulkCacheable = AnnotatedElementUtils.findMergedAnnotation(method, BulkCacheable.class);
+
+		if (bulkCacheable == null) {
+			return invocation.proceed();
+		}
+		validate(method);
+
+		final Collection<Object> keys = (Collection<Object>) invocation.getArguments()[0];
+		if (keys == null || keys.isEmpty()) {
+			return invocation.proceed();
+		}
+
+		final Cache cache = this.cacheManagerProvider.getObject().getCache(bulkCacheable.value());
+		Assert.state(cache != null, () -> String.format("Cannot find cache named '%s' for %s", bulkCacheable.value(), method));
+
+		final Class<?> keysType = method.getParameterTypes()[0];
+		if (cache instanceof CoherenceCache) {
+			return ((CoherenceCache) cache).getAll(keys, (missingKeys) -> invokeForKeys(invocation, keysType, missingKeys));
+		}
+
+		final Map<Object, Object> result = new LinkedHashMap<>();
+		final Set<Object> missingKeys = new LinkedHashSet<>();
+		for (Object key : keys) {
+			final Cache.ValueWrapper valueWrapper = cache.get(key);
+			if (valueWrapper == null) {
+				missingKeys.add(key);
+			}
+			else if (valueWrapper.get() != null) {
+				result.put(key, valueWrapper.get());
+			}
+		}
+		if (!missingKeys.isEmpty()) {
+			final Map<Object, Object> loadedValues = invokeForKeys(invocation, keysType, missingKeys);
+			if (loadedValues != null) {
+				loadedValues.forEach((key, value) -> {
+					cache.put(key, value);
+					if (value != null) {
+						result.put(key, value);
+					}
+				});
+			}
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Object, Object> invokeForKeys(MethodInvocation invocation, Class<?> keysType, Collection<Object> keys) {
+		final Collection<Object> arguments = (Set.class.isAssignableFrom(keysType))
+				? new LinkedHashSet<>(keys)
+				: new ArrayList<>(keys);
+		try {
+			return (Map<Object, Object>) ((ProxyMethodInvocation) invocation).invocableClone(arguments).proceed();
+		}
+		catch (RuntimeException | Error ex) {
+			throw ex;
+		}
+		catch (Throwable ex) {
+			throw new IllegalStateException("Invoking bulk cacheable method failed.", ex);
+		}
+	}
+
+	private void validate(Method method) {
+		final Class<?>[] parameterTypes = method.getParameterTypes();
+		if (parameterTypes.length != 1 || !KEYS_TYPES.contains(parameterTypes[0])) {
+			throw new IllegalStateException(String.format(
+					"@BulkCacheable method %s must declare a single Collection, List or Set parameter.", method));
+		}
+		if (!Map.class.equals(method.getReturnType())) {
+			throw new IllegalStateException(String.format(
+					"@BulkCacheable method %s must return a Map.", method));
+		}
+	}
+
+}
@@ -6,13 +6,35 @@
  */
 package com.oracle.coherence.spring.cache;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import com.tangosol.net.AsyncNamedCache;
 import com.tangosol.net.NamedCache;
+import com.tangosol.net.cache.CacheMap;
+import com.tangosol.util.Filter;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
 import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
 import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.util.Assert;
 
 /**
  * Coherence-specific implementation of {@link Cache} that defines common cache operations.
@@ -22,33 +44,124 @@ import org.springframework.cache.support.SimpleValueWrapper;
  */
 public class CoherenceCache implements Cache {
 
+	private static final Log logger = LogFactory.getLog(CoherenceCache.class);
+
 	private final NamedCache<Object, Object> cache;
 
+	/**
+	 * The asynchronous view of the underlying cache.
+	 */
+	private final AsyncNamedCache<Object, Object> asyncCache;
+
+	/**
+	 * The optional local cache tier, {@code null} if not enabled.
+	 */
+	private final LocalCacheTier localCache;
+
+	/**
+	 * The strategy used to load missing values.
+	 */
+	private final LoadingMode loadingMode;
+
+	/**
+	 * Loads currently in progress, keyed by cache key. Only used with {@link LoadingMode#SINGLE_FLIGHT}.
+	 */
+	private final ConcurrentMap<Object, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+	/**
+	 * The expiry of new entries in milliseconds, or {@link CacheMap#EXPIRY_DEFAULT}.
+	 */
+	private final long timeToLive;
+
+	/**
+	 * Whether {@code null} values are stored as {@link NullValue#INSTANCE}.
+	 */
+	private final boolean cacheNullValues;
+
+	/**
+	 * The remaining time-to-live in milliseconds at which entries are refreshed ahead of their expiry,
+	 * {@code 0} if refresh-ahead is disabled.
+	 */
+	private final long refreshAheadThreshold;
+
+	/**
+	 * The {@link Executor} running refresh-ahead loads, {@code null} if refresh-ahead is disabled.
+	 */
+	private final Executor refreshExecutor;
+
 	public CoherenceCache(NamedCache<Object, Object> cache) {
+		this(cache, new CoherenceCacheConfiguration());
+	}
+
+	/**
+	 * Create a {@link CoherenceCache} using the provided {@link CoherenceCacheConfiguration}.
+	 * @param cache the underlying {@link NamedCache}, must not be null
+	 * @param cacheConfiguration the cache configuration, must not be null
+	 */
+	public CoherenceCache(NamedCache<Object, Object> cache, CoherenceCacheConfiguration cacheConfiguration) {
+		this(cache, cacheConfiguration, null);
+	}
+
+	/**
+	 * Create a {@link CoherenceCache} using the provided {@link CoherenceCacheConfiguration}.
+	 * @param cache the underlying {@link NamedCache}, must not be null
+	 * @param cacheConfiguration the cache configuration, must not be null
+	 * @param refreshExecutor the {@link Executor} running refresh-ahead loads, must not be null if
+	 * refresh-ahead is enabled
+	 */
+	public CoherenceCache(NamedCache<Object, Object> cache, CoherenceCacheConfiguration cacheConfiguration,
+			Executor refreshExecutor) {
 		super();
+		Assert.notNull(cache, "cache must not be null.");
+		Assert.notNull(cacheConfiguration, "cacheConfiguration must not be null.");
 		this.cache = cache;
+		this.asyncCache = cache.async();
+		this.localCache = (cacheConfiguration.isLocalCacheEnabled())
+				? new LocalCacheTier(cache, cacheConfiguration.getLocalCacheMaxSize())
+				: null;
+		this.loadingMode = cacheConfiguration.getLoadingMode();
+		this.timeToLive = (cacheConfiguration.getTimeToLive().isZero())
+				? CacheMap.EXPIRY_DEFAULT
+				: cacheConfiguration.getTimeToLive().toMillis();
+		this.cacheNullValues = cacheConfiguration.isCacheNullValues();
+
+		if (cacheConfiguration.getRefreshAheadFactor() > 0) {
+			Assert.isTrue(this.timeToLive != CacheMap.EXPIRY_DEFAULT, "refresh-ahead requires a timeToLive.");
+			Assert.notNull(refreshExecutor, "refresh-ahead requires a refreshExecutor.");
+			this.refreshAheadThreshold = Math.max(1L,
+					(long) (this.timeToLive * (1 - cacheConfiguration.getRefreshAheadFactor())));
+			this.refreshExecutor = refreshExecutor;
+		}
+		else {
+			this.refreshAheadThreshold = 0;
+			this.refreshExecutor = null;
+		}
 	}
 
 	@Override
 	public void clear() {
 		this.cache.clear();
+		if (this.localCache != null) {
+			this.localCache.clear();
+		}
 	}
 
 	@Override
 	public void evict(Object key) {
 		this.cache.remove(key);
+		invalidateLocal(key);
 	}
 
 	@Override
 	public ValueWrapper get(Object key) {
-		final Object value = this.cache.get(key);
-		return (value != null) ? new SimpleValueWrapper(value) : null;
+		final Object value = lookup(key);
+		return (value != null) ? new SimpleValueWrapper(fromStoreValue(value)) : null;
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T get(Object key, Class<T> type) {
-		final Object value = this.cache.get(key);
+		final Object value = fromStoreValue(lookup(key));
 		if (type != null && value != null && !type.isInstance(value)) {
 			throw new IllegalStateException(
 				String.format("Cached value '%s' is not of required type '%s'.", value, type.getName()));
@@ -59,16 +172,19 @@ public class CoherenceCache implements Cache {
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T get(Object key, Callable<T> valueLoader) {
-		final Object value = this.cache.get(key);
+		final Object value = (this.refreshAheadThreshold > 0) ? lookupRefreshAhead(key, valueLoader) : lookup(key);
 		if (value != null) {
-			return (T) value;
+			return (T) fromStoreValue(value);
+		}
+		else if (this.loadingMode == LoadingMode.SINGLE_FLIGHT) {
+			return (T) loadSingleFlight(key, valueLoader);
 		}
 		else {
 			this.cache.lock(key);
 			try {
 				final Object value2 = this.cache.get(key);
 				if (value2 != null) {
-					return (T) value2;
+					return (T) fromStoreValue(value2);
 				}
 				else {
 					return loadValue(key, valueLoader);
@@ -91,23 +207,471 @@ public class CoherenceCache implements Cache {
 	}
 
 	private <T> T loadValue(Object key, Callable<T> valueLoader) {
-		T value;
+		final T value = callValueLoader(valueLoader);
+		put(key, value);
+		return value;
+	}
+
+	/**
+	 * Load the value for the given key, sharing a single in-flight load between concurrent callers within
+	 * this JVM. The loaded value is stored using an atomic put-if-absent, and if another cluster member
+	 * stored a value first, that value is returned instead.
+	 * @param key the key
+	 * @param valueLoader the value loader
+	 * @return the value, may be null
+	 */
+	private Object loadSingleFlight(Object key, Callable<?> valueLoader) {
+		final CompletableFuture<Object> load = new CompletableFuture<>();
+		final CompletableFuture<Object> inFlightLoad = this.inFlightLoads.putIfAbsent(key, load);
+
+		if (inFlightLoad != null) {
+			try {
+				return inFlightLoad.join();
+			}
+			catch (CompletionException ex) {
+				if (ex.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) ex.getCause();
+				}
+				if (ex.getCause() instanceof Error) {
+					throw (Error) ex.getCause();
+				}
+				throw ex;
+			}
+		}
+
+		try {
+			Object value = callValueLoader(valueLoader);
+			final Object storeValue = toStoreValue(value);
+			if (storeValue != null) {
+				final Object existingValue = (this.timeToLive == CacheMap.EXPIRY_DEFAULT)
+						? this.cache.putIfAbsent(key, storeValue)
+						: this.cache.invoke(key, new PutIfAbsentProcessor(storeValue, this.timeToLive));
+				if (existingValue != null) {
+					value = fromStoreValue(existingValue);
+				}
+				invalidateLocal(key);
+			}
+			load.complete(value);
+			return value;
+		}
+		catch (Throwable ex) {
+			load.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.inFlightLoads.remove(key, load);
+		}
+	}
+
+	/**
+	 * Return the value for the given key and schedule a background refresh using the given value loader if
+	 * the entry is due for one and no other caller in the cluster is already refreshing it. Values are served
+	 * from the local cache tier, if enabled, until they are due for a refresh. Otherwise, the entry is read
+	 * without locking it, and only entries that are due for a refresh are read again using the
+	 * {@link RefreshAheadProcessor}, which grants the refresh to a single caller.
+	 * @param key the key
+	 * @param valueLoader the value loader
+	 * @return the stored value or {@code null}
+	 */
+	private Object lookupRefreshAhead(Object key, Callable<?> valueLoader) {
+		if (this.localCache == null) {
+			return readRefreshAhead(key, valueLoader, null);
+		}
+		final Object value = this.localCache.getUnlessRefreshDue(key);
+		if (value != null) {
+			return value;
+		}
+		return readRefreshAhead(key, valueLoader, this.localCache.reserve(key));
+	}
+
+	private Object readRefreshAhead(Object key, Callable<?> valueLoader, Object reservation) {
+		final long readTime = System.currentTimeMillis();
+		RefreshAheadProcessor.Result result = this.cache.aggregate(Collections.singleton(key),
+				new RefreshAheadAggregator());
+		if (result != null && isRefreshDue(result)) {
+			result = this.cache.invoke(key, new RefreshAheadProcessor(this.refreshAheadThreshold));
+		}
+		if (result == null) {
+			if (reservation != null) {
+				this.localCache.complete(key, reservation, null);
+			}
+			return null;
+		}
+		if (result.isRefresh()) {
+			try {
+				this.refreshExecutor.execute(() -> refresh(key, valueLoader));
+			}
+			catch (RejectedExecutionException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Refresh of key '%s' in cache '%s' rejected, the entry will "
+							+ "expire unless it is refreshed by a subsequent read.", key, getName()));
+				}
+			}
+		}
+		if (reservation != null) {
+			final long refreshTime = (result.getExpiry() > 0)
+					? readTime + result.getExpiry() - this.refreshAheadThreshold
+					: Long.MAX_VALUE;
+			this.localCache.complete(key, reservation, result.getValue(), refreshTime);
+		}
+		return result.getValue();
+	}
+
+	private boolean isRefreshDue(RefreshAheadProcessor.Result result) {
+		return result.getExpiry() > 0 && result.getExpiry() <= this.refreshAheadThreshold;
+	}
+
+	/**
+	 * Reload and store the value for the given key. If the value loader fails or does not return a value
+	 * that can be stored, the entry is evicted, so that stale values are not served beyond their refresh.
+	 * @param key the key
+	 * @param valueLoader the value loader
+	 */
+	private void refresh(Object key, Callable<?> valueLoader) {
 		try {
-			value = valueLoader.call();
+			final Object storeValue = toStoreValue(valueLoader.call());
+			if (storeValue != null) {
+				put(key, storeValue);
+			}
+			else {
+				evict(key);
+			}
+		}
+		catch (Exception ex) {
+			logger.warn(String.format("Refresh of key '%s' in cache '%s' failed, evicting the entry.", key, getName()), ex);
+			evict(key);
+		}
+	}
+
+	private <T> T callValueLoader(Callable<T> valueLoader) {
+		try {
+			return valueLoader.call();
 		}
 		catch (Exception ex) {
 			throw new IllegalStateException("Executing the callable failed.", ex);
 		}
-		put(key, value);
-		return value;
 	}
 
+	/**
+	 * Store the value for the given key using the configured time-to-live. {@code null} values are
+	 * only stored if caching of {@code null} values is enabled.
+	 * @param key the key
+	 * @param value the value
+	 */
 	@Override
 	public void put(Object key, Object value) {
-		if (value == null) {
+		final Object storeValue = toStoreValue(value);
+		if (storeValue == null) {
 			return;
 		}
-		this.cache.putAll(Collections.singletonMap(key, value));
+		if (this.timeToLive == CacheMap.EXPIRY_DEFAULT) {
+			// unlike put(), putAll() does not return the previous value
+			this.cache.putAll(Collections.singletonMap(key, storeValue));
+		}
+		else {
+			this.cache.put(key, storeValue, this.timeToLive);
+		}
+		invalidateLocal(key);
+	}
+
+	/**
+	 * Store all given values in a single round trip using the configured time-to-live. {@code null}
+	 * values are only stored if caching of {@code null} values is enabled.
+	 * @param values the values to store keyed by cache key
+	 */
+	public void putAll(Map<?, ?> values) {
+		final Map<Object, Object> storeValues = new HashMap<>(values.size());
+		for (Map.Entry<?, ?> entry : values.entrySet()) {
+			final Object storeValue = toStoreValue(entry.getValue());
+			if (storeValue != null) {
+				storeValues.put(entry.getKey(), storeValue);
+			}
+		}
+		if (storeValues.isEmpty()) {
+			return;
+		}
+		if (this.timeToLive == CacheMap.EXPIRY_DEFAULT) {
+			this.cache.putAll(storeValues);
+		}
+		else {
+			this.cache.invokeAll(storeValues.keySet(), new PutAllProcessor(storeValues, this.timeToLive));
+		}
+		storeValues.keySet().forEach(this::invalidateLocal);
+	}
+
+	/**
+	 * Return the cached values for the given keys, using a single round trip for all keys that are not
+	 * held by the local cache tier. Keys without a mapping, as well as keys mapped to a cached
+	 * {@code null} value, are not contained in the returned {@link Map}.
+	 * @param keys the keys
+	 * @param <K> the key type
+	 * @param <V> the value type
+	 * @return the cached values keyed by cache key
+	 */
+	public <K, V> Map<K, V> getAll(Collection<? extends K> keys) {
+		return getAll(keys, null);
+	}
+
+	/**
+	 * Return the values for the given keys. All keys that are not held by the local cache tier are
+	 * retrieved in a single round trip. The keys that have no mapping are then passed to the bulk loader
+	 * in a single call, and the loaded values are stored using {@link #putAll(Map)}. If caching of
+	 * {@code null} values is enabled, keys the bulk loader returned no value for are cached as
+	 * {@code null}.
+	 * @param keys the keys
+	 * @param bulkLoader loads the values for all keys that have no mapping, may be null
+	 * @param <K> the key type
+	 * @param <V> the value type
+	 * @return the values keyed by cache key, excluding keys with a {@code null} value
+	 */
+	@SuppressWarnings("unchecked")
+	public <K, V> Map<K, V> getAll(Collection<? extends K> keys, Function<Collection<K>, Map<K, V>> bulkLoader) {
+		final Map<K, V> result = new LinkedHashMap<>(keys.size());
+		final Set<K> remainingKeys = new LinkedHashSet<>(keys);
+
+		if (this.localCache != null) {
+			for (Iterator<K> iterator = remainingKeys.iterator(); iterator.hasNext();) {
+				final K key = iterator.next();
+				final Object value = this.localCache.get(key);
+				if (value != null) {
+					putResult(result, key, value);
+					iterator.remove();
+				}
+			}
+		}
+
+		if (!remainingKeys.isEmpty()) {
+			final Map<Object, Object> reservations = new HashMap<>();
+			if (this.localCache != null) {
+				remainingKeys.forEach((key) -> reservations.put(key, this.localCache.reserve(key)));
+			}
+			final Map<Object, Object> values = this.cache.getAll(remainingKeys);
+			for (Map.Entry<Object, Object> entry : values.entrySet()) {
+				putResult(result, (K) entry.getKey(), entry.getValue());
+				remainingKeys.remove(entry.getKey());
+			}
+			if (this.localCache != null) {
+				reservations.forEach((key, reservation) -> this.localCache.complete(key, reservation, values.get(key)));
+			}
+		}
+
+		if (!remainingKeys.isEmpty() && bulkLoader != null) {
+			final Map<K, V> loadedValues = bulkLoader.apply(Collections.unmodifiableSet(remainingKeys));
+			final Map<Object, Object> valuesToStore = new HashMap<>();
+			for (K key : remainingKeys) {
+				final V value = (loadedValues != null) ? loadedValues.get(key) : null;
+				if (value != null) {
+					result.put(key, value);
+				}
+				valuesToStore.put(key, value);
+			}
+			putAll(valuesToStore);
+		}
+		return result;
+	}
+
+	/**
+	 * Load the values for the given keys and the entries selected by the given filter into the local cache
+	 * tier. Does nothing if the local cache tier is not enabled.
+	 * @param keys the keys to load, must not be null
+	 * @param filter the filter selecting further entries to load, may be null
+	 * @return the number of entries loaded
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public int preload(Collection<?> keys, Filter<?> filter) {
+		Assert.notNull(keys, "keys must not be null.");
+		if (this.localCache == null) {
+			return 0;
+		}
+		final Set<Object> keysToLoad = new LinkedHashSet<>(keys);
+		if (filter != null) {
+			keysToLoad.addAll(this.cache.keySet((Filter) filter));
+		}
+		return (keysToLoad.isEmpty()) ? 0 : getAll(keysToLoad).size();
+	}
+
+	/**
+	 * Asynchronously store the value for the given key. Like {@link #put(Object, Object)},
+	 * {@code null} values are only stored if caching of {@code null} values is enabled.
+	 * @param key the key
+	 * @param value the value
+	 * @return a {@link CompletableFuture} that completes once the value has been stored
+	 */
+	public CompletableFuture<Void> putAsync(Object key, Object value) {
+		final Object storeValue = toStoreValue(value);
+		if (storeValue == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return this.asyncCache.put(key, storeValue, this.timeToLive).thenRun(() -> invalidateLocal(key));
+	}
+
+	/**
+	 * Asynchronously retrieve the value for the given key without blocking the calling thread.
+	 * Matches the signature of {@code Cache.retrieve(Object)} introduced in Spring Framework 6.1.
+	 * @param key the key
+	 * @return a {@link CompletableFuture} that completes with the value or with {@code null}
+	 * if there is no mapping for the key. If caching of {@code null} values is enabled, the
+	 * value is wrapped in a {@link ValueWrapper}.
+	 */
+	public CompletableFuture<?> retrieve(Object key) {
+		return lookupAsync(key).thenApply((value) -> {
+			if (value == null) {
+				return null;
+			}
+			return (this.cacheNullValues) ? new SimpleValueWrapper(fromStoreValue(value)) : value;
+		});
+	}
+
+	/**
+	 * Asynchronously retrieve the value for the given key, obtaining it from the value loader if
+	 * there is no mapping for the key. Matches the signature of
+	 * {@code Cache.retrieve(Object, Supplier)} introduced in Spring Framework 6.1.
+	 * <p>
+	 * Asynchronous loads never lock the key. Irrespective of the configured {@link LoadingMode},
+	 * concurrent loads of the same key within this JVM share a single in-flight load, and the
+	 * loaded value is stored using an atomic put-if-absent.
+	 * @param key the key
+	 * @param valueLoader the value loader
+	 * @param <T> the value type
+	 * @return a {@link CompletableFuture} that completes with the cached or loaded value
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		return lookupAsync(key).thenCompose((value) -> (value != null)
+				? CompletableFuture.completedFuture((T) fromStoreValue(value))
+				: (CompletableFuture<T>) loadAsync(key, valueLoader));
+	}
+
+	/**
+	 * Returns the local cache tier of this cache.
+	 * @return the {@link LocalCacheTier} or {@code null} if the local cache tier is not enabled
+	 */
+	public LocalCacheTier getLocalCache() {
+		return this.localCache;
+	}
+
+	/**
+	 * Return the value for the given key, consulting the local cache tier first, if enabled.
+	 * @param key the key
+	 * @return the value or {@code null}
+	 */
+	private Object lookup(Object key) {
+		if (this.localCache == null) {
+			return this.cache.get(key);
+		}
+		Object value = this.localCache.get(key);
+		if (value == null) {
+			final Object reservation = this.localCache.reserve(key);
+			value = this.cache.get(key);
+			this.localCache.complete(key, reservation, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Asynchronous variant of {@link #lookup(Object)}.
+	 * @param key the key
+	 * @return a {@link CompletableFuture} that completes with the value or {@code null}
+	 */
+	private CompletableFuture<Object> lookupAsync(Object key) {
+		if (this.localCache == null) {
+			return this.asyncCache.get(key);
+		}
+		final Object value = this.localCache.get(key);
+		if (value != null) {
+			return CompletableFuture.completedFuture(value);
+		}
+		final Object reservation = this.localCache.reserve(key);
+		return this.asyncCache.get(key).thenApply((loadedValue) -> {
+			this.localCache.complete(key, reservation, loadedValue);
+			return loadedValue;
+		});
+	}
+
+	/**
+	 * Asynchronous variant of {@link #loadSingleFlight(Object, Callable)}.
+	 * @param key the key
+	 * @param valueLoader the value loader
+	 * @return a {@link CompletableFuture} that completes with the loaded or existing value
+	 */
+	private CompletableFuture<Object> loadAsync(Object key, Supplier<? extends CompletableFuture<?>> valueLoader) {
+		final CompletableFuture<Object> load = new CompletableFuture<>();
+		final CompletableFuture<Object> inFlightLoad = this.inFlightLoads.putIfAbsent(key, load);
+
+		if (inFlightLoad != null) {
+			return inFlightLoad;
+		}
+
+		CompletableFuture<?> loadedValue;
+		try {
+			loadedValue = valueLoader.get();
+		}
+		catch (Throwable ex) {
+			loadedValue = new CompletableFuture<>();
+			loadedValue.completeExceptionally(ex);
+		}
+
+		loadedValue
+				.thenCompose((value) -> {
+					final Object storeValue = toStoreValue(value);
+					if (storeValue == null) {
+						return CompletableFuture.completedFuture(null);
+					}
+					final CompletableFuture<Object> existingValue = (this.timeToLive == CacheMap.EXPIRY_DEFAULT)
+							? this.asyncCache.putIfAbsent(key, storeValue)
+							: this.asyncCache.invoke(key, new PutIfAbsentProcessor(storeValue, this.timeToLive));
+					return existingValue.thenApply((existing) -> (existing != null) ? fromStoreValue(existing) : value);
+				})
+				.whenComplete((value, ex) -> {
+					this.inFlightLoads.remove(key, load);
+					if (ex != null) {
+						load.completeExceptionally(ex);
+					}
+					else {
+						invalidateLocal(key);
+						load.complete(value);
+					}
+				});
+		return load;
+	}
+
+	/**
+	 * Convert the given value to the value stored in the cache.
+	 * @param userValue the value, may be null
+	 * @return the value to store, {@link NullValue#INSTANCE} for {@code null} if caching of
+	 * {@code null} values is enabled
+	 */
+	private Object toStoreValue(Object userValue) {
+		if (userValue == null && this.cacheNullValues) {
+			return NullValue.INSTANCE;
+		}
+		return userValue;
+	}
+
+	/**
+	 * Convert the given stored value to the value returned to the user.
+	 * @param storeValue the stored value, may be null
+	 * @return the value, {@code null} for {@link NullValue#INSTANCE}
+	 */
+	private Object fromStoreValue(Object storeValue) {
+		if (storeValue instanceof NullValue) {
+			return null;
+		}
+		return storeValue;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <K, V> void putResult(Map<K, V> result, K key, Object storeValue) {
+		final Object value = fromStoreValue(storeValue);
+		if (value != null) {
+			result.put(key, (V) value);
+		}
+	}
+
+	private void invalidateLocal(Object key) {
+		if (this.localCache != null) {
+			this.localCache.invalidate(key);
+		}
 	}
 
 	/**
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.tangosol.util.Filter;
+
+import org.springframework.util.Assert;
+
+/**
+ * Per-cache configuration settings used by the {@link CoherenceCacheManager} when creating
+ * {@link CoherenceCache} instances.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+public class CoherenceCacheConfiguration {
+
+	/**
+	 * The default maximum number of entries held by the local cache tier.
+	 */
+	public static final int DEFAULT_LOCAL_CACHE_MAX_SIZE = 10000;
+
+	/**
+	 * Whether a bounded, in-process cache tier is placed in front of the underlying
+	 * {@link com.tangosol.net.NamedCache}. Defaults to {@code false}.
+	 */
+	private boolean localCacheEnabled;
+
+	/**
+	 * The maximum number of entries held by the local cache tier. Defaults to
+	 * {@value #DEFAULT_LOCAL_CACHE_MAX_SIZE}.
+	 */
+	private int localCacheMaxSize = DEFAULT_LOCAL_CACHE_MAX_SIZE;
+
+	/**
+	 * The strategy used to load missing values. Defaults to {@link LoadingMode#LOCKING}.
+	 */
+	private LoadingMode loadingMode = LoadingMode.LOCKING;
+
+	/**
+	 * The time-to-live of cache entries. Defaults to {@link Duration#ZERO}, which applies the expiry
+	 * configured for the underlying {@link com.tangosol.net.NamedCache}.
+	 */
+	private Duration timeToLive = Duration.ZERO;
+
+	/**
+	 * Whether {@code null} values are cached. Defaults to {@code false}.
+	 */
+	private boolean cacheNullValues;
+
+	/**
+	 * The fraction of the time-to-live after which a read schedules a background refresh of the entry.
+	 * Defaults to {@code 0}, which disables refresh-ahead.
+	 */
+	private double refreshAheadFactor;
+
+	/**
+	 * The keys loaded into the local cache tier when the {@link CoherenceCacheManager} is started.
+	 */
+	private Set<Object> preloadKeys = Collections.emptySet();
+
+	/**
+	 * The {@link Filter} selecting the entries loaded into the local cache tier when the
+	 * {@link CoherenceCacheManager} is started, {@code null} if none.
+	 */
+	private Filter<?> preloadFilter;
+
+	/**
+	 * Create a {@link CoherenceCacheConfiguration} using the default settings.
+	 */
+	public CoherenceCacheConfiguration() {
+	}
+
+	/**
+	 * Create a copy of the provided {@link CoherenceCacheConfiguration}.
+	 * @param configuration the configuration to copy, must not be null
+	 */
+	public CoherenceCacheConfiguration(CoherenceCacheConfiguration configuration) {
+		Assert.notNull(configuration, "configuration must not be null.");
+		this.localCacheEnabled = configuration.localCacheEnabled;
+		this.localCacheMaxSize = configuration.localCacheMaxSize;
+		this.loadingMode = configuration.loadingMode;
+		this.timeToLive = configuration.timeToLive;
+		this.cacheNullValues = configuration.cacheNullValues;
+		this.refreshAheadFactor = configuration.refreshAheadFactor;
+		this.preloadKeys = configuration.preloadKeys;
+		this.preloadFilter = configuration.preloadFilter;
+	}
+
+	/**
+	 * Return whether the local cache tier is enabled.
+	 * @return true if the local cache tier is enabled
+	 */
+	public boolean isLocalCacheEnabled() {
+		return this.localCacheEnabled;
+	}
+
+	/**
+	 * Enable or disable the local cache tier. When enabled, deserialized values are kept in
+	 * a bounded on-heap map and are invalidated by events raised by the underlying
+	 * {@link com.tangosol.net.NamedCache}.
+	 * @param localCacheEnabled true to enable the local cache tier
+	 */
+	public void setLocalCacheEnabled(boolean localCacheEnabled) {
+		this.localCacheEnabled = localCacheEnabled;
+	}
+
+	/**
+	 * Return the maximum number of entries held by the local cache tier.
+	 * @return the maximum number of local entries
+	 */
+	public int getLocalCacheMaxSize() {
+		return this.localCacheMaxSize;
+	}
+
+	/**
+	 * Set the maximum number of entries held by the local cache tier. Once the limit is
+	 * reached, the least recently used entries are discarded.
+	 * @param localCacheMaxSize must be greater than zero
+	 */
+	public void setLocalCacheMaxSize(int localCacheMaxSize) {
+		Assert.isTrue(localCacheMaxSize > 0, "localCacheMaxSize must be greater than zero.");
+		this.localCacheMaxSize = localCacheMaxSize;
+	}
+
+	/**
+	 * Return the strategy used to load missing values.
+	 * @return the {@link LoadingMode}
+	 */
+	public LoadingMode getLoadingMode() {
+		return this.loadingMode;
+	}
+
+	/**
+	 * Set the strategy used by {@link CoherenceCache#get(Object, java.util.concurrent.Callable)} to load
+	 * missing values.
+	 * @param loadingMode must not be null
+	 */
+	public void setLoadingMode(LoadingMode loadingMode) {
+		Assert.notNull(loadingMode, "loadingMode must not be null.");
+		this.loadingMode = loadingMode;
+	}
+
+	/**
+	 * Return the time-to-live of cache entries.
+	 * @return the time-to-live, {@link Duration#ZERO} if the default expiry of the cache applies
+	 */
+	public Duration getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Set the time-to-live of cache entries. {@link Duration#ZERO} applies the expiry configured
+	 * for the underlying {@link com.tangosol.net.NamedCache}.
+	 * @param timeToLive must not be null or negative
+	 */
+	public void setTimeToLive(Duration timeToLive) {
+		Assert.notNull(timeToLive, "timeToLive must not be null.");
+		Assert.isTrue(!timeToLive.isNegative(), "timeToLive must not be negative.");
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Return whether {@code null} values are cached.
+	 * @return true if {@code null} values are cached
+	 */
+	public boolean isCacheNullValues() {
+		return this.cacheNullValues;
+	}
+
+	/**
+	 * Set whether {@code null} values are cached. If enabled, {@code null} values are stored as
+	 * {@link org.springframework.cache.support.NullValue#INSTANCE}, so that lookups of values that
+	 * do not exist in the backend are served from the cache.
+	 * @param cacheNullValues true to cache {@code null} values
+	 */
+	public void setCacheNullValues(boolean cacheNullValues) {
+		this.cacheNullValues = cacheNullValues;
+	}
+
+	/**
+	 * Return the fraction of the time-to-live after which a read schedules a background refresh.
+	 * @return the refresh-ahead factor, {@code 0} if refresh-ahead is disabled
+	 */
+	public double getRefreshAheadFactor() {
+		return this.refreshAheadFactor;
+	}
+
+	/**
+	 * Set the fraction of the time-to-live after which a read schedules a background refresh. For example,
+	 * with a time-to-live of 10 minutes and a factor of {@code 0.75}, reads of entries older than 7.5 minutes
+	 * return the current value immediately and reload the entry on the refresh executor of the
+	 * {@link CoherenceCacheManager}. Only applies to
+	 * {@link CoherenceCache#get(Object, java.util.concurrent.Callable)}, which provides the value loader, and
+	 * requires a {@link #setTimeToLive(Duration) time-to-live}.
+	 * @param refreshAheadFactor {@code 0} to disable refresh-ahead, otherwise greater than {@code 0} and less
+	 * than {@code 1}
+	 */
+	public void setRefreshAheadFactor(double refreshAheadFactor) {
+		Assert.isTrue(refreshAheadFactor >= 0 && refreshAheadFactor < 1,
+				"refreshAheadFactor must be greater than or equal to 0 and less than 1.");
+		this.refreshAheadFactor = refreshAheadFactor;
+	}
+
+	/**
+	 * Return the keys loaded into the local cache tier on startup.
+	 * @return the keys, never null
+	 */
+	public Set<Object> getPreloadKeys() {
+		return this.preloadKeys;
+	}
+
+	/**
+	 * Set the keys loaded into the local cache tier when the {@link CoherenceCacheManager} is started.
+	 * Only applies if the {@link #setLocalCacheEnabled(boolean) local cache tier} is enabled.
+	 * @param preloadKeys must not be null
+	 */
+	public void setPreloadKeys(Set<Object> preloadKeys) {
+		Assert.notNull(preloadKeys, "preloadKeys must not be null.");
+		this.preloadKeys = new LinkedHashSet<>(preloadKeys);
+	}
+
+	/**
+	 * Return the {@link Filter} selecting the entries loaded into the local cache tier on startup.
+	 * @return the filter or {@code null}
+	 */
+	public Filter<?> getPreloadFilter() {
+		return this.preloadFilter;
+	}
+
+	/**
+	 * Set the {@link Filter} selecting the entries loaded into the local cache tier when the
+	 * {@link CoherenceCacheManager} is started, in addition to the {@link #setPreloadKeys(Set) preload keys}.
+	 * Only applies if the {@link #setLocalCacheEnabled(boolean) local cache tier} is enabled.
+	 * @param preloadFilter the filter, may be null
+	 */
+	public void setPreloadFilter(Filter<?> preloadFilter) {
+		this.preloadFilter = preloadFilter;
+	}
+
+}
@@ -6,30 +6,99 @@
  */
 package com.oracle.coherence.spring.cache;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import com.tangosol.net.Coherence;
 import com.tangosol.net.NamedCache;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
 /**
  *
  * Implementation of the {@link CacheManager} for Oracle Coherence.
+ * <p>
+ * All caches created by this manager support non-blocking retrieval via
+ * {@link CoherenceCache#retrieve(Object)} and
+ * {@link CoherenceCache#retrieve(Object, java.util.function.Supplier)}, backed by
+ * {@link com.tangosol.net.AsyncNamedCache}.
+ * <p>
+ * As a {@link SmartLifecycle}, the manager warms up on startup: it eagerly creates all caches with a
+ * cache-specific configuration as well as the caches set via {@link #setCacheNames(Collection)}, and
+ * preloads the configured keys into their local cache tier. As this happens while the application context
+ * is refreshed, an application does not report readiness before warm-up has finished.
  *
  * @author Gunnar Hillert
  * @since 3.0
  */
-public class CoherenceCacheManager implements CacheManager {
+public class CoherenceCacheManager implements CacheManager, SmartLifecycle, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(CoherenceCacheManager.class);
+
+	/**
+	 * The maximum number of threads of the default refresh-ahead executor.
+	 */
+	public static final int DEFAULT_REFRESH_THREADS = 4;
+
+	/**
+	 * The maximum number of pending refreshes of the default refresh-ahead executor. Further refreshes
+	 * are rejected until the queue drains.
+	 */
+	public static final int DEFAULT_REFRESH_QUEUE_CAPACITY = 1000;
 
 	private Coherence coherence;
 
 	private final Map<String, CoherenceCache> coherenceCacheMap = new ConcurrentHashMap<String, CoherenceCache>(16);
 
+	/**
+	 * The {@link CoherenceCacheConfiguration} used for caches without a cache-specific configuration.
+	 */
+	private CoherenceCacheConfiguration defaultCacheConfiguration = new CoherenceCacheConfiguration();
+
+	/**
+	 * Cache-specific {@link CoherenceCacheConfiguration}s keyed by cache name.
+	 */
+	private final Map<String, CoherenceCacheConfiguration> cacheConfigurations = new ConcurrentHashMap<>(16);
+
+	/**
+	 * The {@link Executor} running refresh-ahead loads.
+	 */
+	private Executor refreshExecutor;
+
+	/**
+	 * The default refresh-ahead executor created and owned by this manager, if any.
+	 */
+	private ThreadPoolExecutor defaultRefreshExecutor;
+
+	/**
+	 * The names of further caches created on startup.
+	 */
+	private final Set<String> cacheNames = new LinkedHashSet<>();
+
+	/**
+	 * The time it took to warm up each cache, keyed by cache name.
+	 */
+	private final Map<String, Duration> warmUpTimings = Collections.synchronizedMap(new LinkedHashMap<>());
+
+	private volatile boolean running;
+
 	/**
 	 * Constructs a new {@link CoherenceCacheManager} using the provided {@link Coherence} instance.
 	 * @param coherence must not be null
@@ -39,6 +108,70 @@ public class CoherenceCacheManager implements CacheManager {
 		this.coherence = coherence;
 	}
 
+	/**
+	 * Constructs a new {@link CoherenceCacheManager} using the provided {@link Coherence} instance
+	 * and default {@link CoherenceCacheConfiguration}.
+	 * @param coherence must not be null
+	 * @param defaultCacheConfiguration must not be null
+	 */
+	public CoherenceCacheManager(Coherence coherence, CoherenceCacheConfiguration defaultCacheConfiguration) {
+		this(coherence);
+		setDefaultCacheConfiguration(defaultCacheConfiguration);
+	}
+
+	/**
+	 * Set the {@link CoherenceCacheConfiguration} used for caches that have no cache-specific
+	 * configuration. Only affects caches that have not been created yet.
+	 * @param defaultCacheConfiguration must not be null
+	 */
+	public void setDefaultCacheConfiguration(CoherenceCacheConfiguration defaultCacheConfiguration) {
+		Assert.notNull(defaultCacheConfiguration, "The defaultCacheConfiguration must not be null.");
+		this.defaultCacheConfiguration = defaultCacheConfiguration;
+	}
+
+	/**
+	 * Set cache-specific {@link CoherenceCacheConfiguration}s keyed by cache name. Only affects
+	 * caches that have not been created yet.
+	 * @param cacheConfigurations must not be null
+	 */
+	public void setCacheConfigurations(Map<String, CoherenceCacheConfiguration> cacheConfigurations) {
+		Assert.notNull(cacheConfigurations, "The cacheConfigurations must not be null.");
+		this.cacheConfigurations.putAll(cacheConfigurations);
+	}
+
+	/**
+	 * Set the names of caches that are created on startup, in addition to the caches that have a
+	 * cache-specific configuration.
+	 * @param cacheNames must not be null
+	 */
+	public void setCacheNames(Collection<String> cacheNames) {
+		Assert.notNull(cacheNames, "The cacheNames must not be null.");
+		this.cacheNames.addAll(cacheNames);
+	}
+
+	/**
+	 * Set the {@link Executor} running refresh-ahead loads of caches with a
+	 * {@link CoherenceCacheConfiguration#setRefreshAheadFactor(double) refresh-ahead factor}. The executor
+	 * should be bounded and reject refreshes when saturated; rejected refreshes are skipped. If not set, a
+	 * daemon {@link ThreadPoolExecutor} with at most {@value #DEFAULT_REFRESH_THREADS} threads and
+	 * {@value #DEFAULT_REFRESH_QUEUE_CAPACITY} pending refreshes is created on demand and shut down when this
+	 * manager is destroyed. Only affects caches that have not been created yet.
+	 * @param refreshExecutor must not be null
+	 */
+	public void setRefreshExecutor(Executor refreshExecutor) {
+		Assert.notNull(refreshExecutor, "The refreshExecutor must not be null.");
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/**
+	 * Return the {@link CoherenceCacheConfiguration} that applies to the cache with the given name.
+	 * @param name the name of the cache
+	 * @return the cache-specific configuration or the default configuration. Never returns null.
+	 */
+	public CoherenceCacheConfiguration getCacheConfiguration(String name) {
+		return this.cacheConfigurations.getOrDefault(name, this.defaultCacheConfiguration);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -47,11 +180,12 @@ public class CoherenceCacheManager implements CacheManager {
 		final CoherenceCache cache = this.coherenceCacheMap.get(name);
 
 		if (cache == null) {
-			final NamedCache<Object, Object> namedCache = this.coherence.getSession().getCache(name);
-			final CoherenceCache coherenceCache = new CoherenceCache(namedCache);
-			final CoherenceCache preExitingCoherenceCache = this.coherenceCacheMap.putIfAbsent(name, coherenceCache);
-
-			return (preExitingCoherenceCache != null) ? preExitingCoherenceCache : coherenceCache;
+			return this.coherenceCacheMap.computeIfAbsent(name, (cacheName) -> {
+				final NamedCache<Object, Object> namedCache = this.coherence.getSession().getCache(cacheName);
+				final CoherenceCacheConfiguration cacheConfiguration = getCacheConfiguration(cacheName);
+				final Executor executor = (cacheConfiguration.getRefreshAheadFactor() > 0) ? getRefreshExecutor() : null;
+				return new CoherenceCache(namedCache, cacheConfiguration, executor);
+			});
 		}
 		else {
 			return cache;
@@ -66,4 +200,93 @@ public class CoherenceCacheManager implements CacheManager {
 		return this.coherenceCacheMap.keySet();
 	}
 
+	/**
+	 * Return the time it took to warm up each cache on startup, keyed by cache name.
+	 * @return the warm-up timings, empty if the manager has not been started
+	 */
+	public Map<String, Duration> getWarmUpTimings() {
+		synchronized (this.warmUpTimings) {
+			return Collections.unmodifiableMap(new LinkedHashMap<>(this.warmUpTimings));
+		}
+	}
+
+	/**
+	 * Warm up the caches. Invoked once the {@link com.tangosol.net.Coherence} instance has been started by
+	 * the {@link com.oracle.coherence.spring.CoherenceServer}.
+	 */
+	@Override
+	public void start() {
+		if (this.running) {
+			return;
+		}
+		final Set<String> names = new LinkedHashSet<>(this.cacheConfigurations.keySet());
+		names.addAll(this.cacheNames);
+
+		final long start = System.nanoTime();
+		for (String name : names) {
+			warmUp(name);
+		}
+		this.running = true;
+
+		if (!names.isEmpty() && logger.isInfoEnabled()) {
+			logger.info(String.format("Warmed up %s caches in %sms.", names.size(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+		}
+	}
+
+	private void warmUp(String name) {
+		final long start = System.nanoTime();
+		final CoherenceCache cache = (CoherenceCache) getCache(name);
+		final CoherenceCacheConfiguration cacheConfiguration = getCacheConfiguration(name);
+		final int preloaded = cache.preload(cacheConfiguration.getPreloadKeys(), cacheConfiguration.getPreloadFilter());
+		final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+		this.warmUpTimings.put(name, duration);
+
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Warmed up cache '%s' in %sms, preloaded %s entries.",
+					name, duration.toMillis(), preloaded));
+		}
+	}
+
+	@Override
+	public void stop() {
+		this.running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	/**
+	 * Release the local cache tiers of all caches created by this manager and shut down the default
+	 * refresh-ahead executor, if any.
+	 */
+	@Override
+	public synchronized void destroy() {
+		for (CoherenceCache cache : this.coherenceCacheMap.values()) {
+			final LocalCacheTier localCache = cache.getLocalCache();
+			if (localCache != null) {
+				localCache.release();
+			}
+		}
+		this.coherenceCacheMap.clear();
+		if (this.defaultRefreshExecutor != null) {
+			this.defaultRefreshExecutor.shutdownNow();
+			this.defaultRefreshExecutor = null;
+		}
+	}
+
+	private synchronized Executor getRefreshExecutor() {
+		if (this.refreshExecutor == null) {
+			final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("coherence-cache-refresh-");
+			threadFactory.setDaemon(true);
+			this.defaultRefreshExecutor = new ThreadPoolExecutor(DEFAULT_REFRESH_THREADS, DEFAULT_REFRESH_THREADS,
+					60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(DEFAULT_REFRESH_QUEUE_CAPACITY), threadFactory);
+			this.defaultRefreshExecutor.allowCoreThreadTimeOut(true);
+			this.refreshExecutor = this.defaultRefreshExecutor;
+		}
+		return this.refreshExecutor;
+	}
+
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+/**
+ * <p>An enum representing the strategies used by {@link CoherenceCache#get(Object, java.util.concurrent.Callable)}
+ * to load a missing value.</p>
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+public enum LoadingMode {
+	/**
+	 * Lock the key in the cluster using {@link com.tangosol.net.NamedCache#lock(Object)}, re-check the cache and
+	 * invoke the value loader while holding the lock. Guarantees that the loader is executed at most once
+	 * cluster-wide, at the cost of several round trips per miss.
+	 */
+	LOCKING,
+	/**
+	 * Collapse concurrent loads of the same key within the JVM onto a single in-flight load and store the result
+	 * with an atomic put-if-absent. If another member stored a value first, its value is returned instead of the
+	 * locally loaded one. No cluster-wide lock is taken, so the loader may run once per member.
+	 */
+	SINGLE_FLIGHT,
+}
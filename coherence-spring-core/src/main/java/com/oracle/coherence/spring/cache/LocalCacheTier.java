@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tangosol.net.CacheService;
+import com.tangosol.net.MemberEvent;
+import com.tangosol.net.MemberListener;
+import com.tangosol.net.NamedCache;
+import com.tangosol.util.Filter;
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.MapListener;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * A bounded, in-process cache tier that holds deserialized values in front of a
+ * {@link NamedCache}. Entries are evicted in least-recently-used order and are invalidated
+ * by a listener registered against the backing {@link NamedCache}.
+ * <p>
+ * To avoid caching values that were invalidated while being read from the cluster, callers
+ * must {@link #reserve(Object) reserve} a key before reading the backing cache and then
+ * {@link #complete(Object, Object, Object) complete} the reservation. An invalidation that
+ * arrives in between removes the reservation, so the (potentially stale) value is discarded.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+public class LocalCacheTier {
+
+	private static final Log logger = LogFactory.getLog(LocalCacheTier.class);
+
+	/**
+	 * The local entries, in access order.
+	 */
+	private final Map<Object, Object> entries;
+
+	/**
+	 * The backing {@link NamedCache} whose events invalidate local entries.
+	 */
+	private final NamedCache<Object, Object> cache;
+
+	/**
+	 * Listener invalidating local entries on any change in the backing cache.
+	 */
+	private final InvalidationListener invalidationListener = new InvalidationListener();
+
+	/**
+	 * Listener clearing all local entries if the local member is disconnected from the cache service.
+	 */
+	private final DisconnectListener disconnectListener = new DisconnectListener();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder invalidationCount = new LongAdder();
+
+	/**
+	 * Create a {@link LocalCacheTier} and register the invalidation listener with the
+	 * provided {@link NamedCache}.
+	 * @param cache the backing cache, must not be null
+	 * @param maxSize the maximum number of local entries, must be greater than zero
+	 */
+	public LocalCacheTier(NamedCache<Object, Object> cache, int maxSize) {
+		Assert.notNull(cache, "cache must not be null.");
+		Assert.isTrue(maxSize > 0, "maxSize must be greater than zero.");
+		this.cache = cache;
+		this.entries = Collections.synchronizedMap(new LinkedHashMap<Object, Object>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+				return size() > maxSize;
+			}
+		});
+		cache.addMapListener(this.invalidationListener, (Filter<?>) null, true);
+		CacheService service = cache.getCacheService();
+		if (service != null) {
+			service.addMemberListener(this.disconnectListener);
+		}
+	}
+
+	/**
+	 * Return the locally held value for the given key.
+	 * @param key the key
+	 * @return the local value or {@code null} if the key is not held locally
+	 */
+	public Object get(Object key) {
+		Object value = this.entries.get(key);
+		if (value == null || value instanceof Reservation) {
+			this.missCount.increment();
+			return null;
+		}
+		this.hitCount.increment();
+		return (value instanceof RefreshableValue) ? ((RefreshableValue) value).value : value;
+	}
+
+	/**
+	 * Return the locally held value for the given key, unless its refresh time has been reached.
+	 * @param key the key
+	 * @return the local value or {@code null} if the key is not held locally or is due for a refresh
+	 * @see #complete(Object, Object, Object, long)
+	 */
+	public Object getUnlessRefreshDue(Object key) {
+		Object value = this.entries.get(key);
+		if (value instanceof RefreshableValue && ((RefreshableValue) value).refreshTime > System.currentTimeMillis()) {
+			this.hitCount.increment();
+			return ((RefreshableValue) value).value;
+		}
+		this.missCount.increment();
+		return null;
+	}
+
+	/**
+	 * Reserve the given key prior to reading its value from the backing cache.
+	 * @param key the key
+	 * @return the reservation token to be passed to {@link #complete(Object, Object, Object)}
+	 */
+	public Object reserve(Object key) {
+		Reservation reservation = new Reservation();
+		this.entries.put(key, reservation);
+		return reservation;
+	}
+
+	/**
+	 * Store the value read from the backing cache, provided the reservation has not been
+	 * invalidated in the meantime.
+	 * @param key the key
+	 * @param reservation the token returned by {@link #reserve(Object)}
+	 * @param value the value read from the backing cache, may be null
+	 * @return true if the value was stored locally
+	 */
+	public boolean complete(Object key, Object reservation, Object value) {
+		if (value == null) {
+			this.entries.remove(key, reservation);
+			return false;
+		}
+		return this.entries.replace(key, reservation, value);
+	}
+
+	/**
+	 * Store the value read from the backing cache together with the time at which it is due for a
+	 * refresh, provided the reservation has not been invalidated in the meantime.
+	 * @param key the key
+	 * @param reservation the token returned by {@link #reserve(Object)}
+	 * @param value the value read from the backing cache, may be null
+	 * @param refreshTime the time in milliseconds since the epoch from which
+	 * {@link #getUnlessRefreshDue(Object)} no longer returns the value
+	 * @return true if the value was stored locally
+	 */
+	public boolean complete(Object key, Object reservation, Object value, long refreshTime) {
+		return complete(key, reservation, (value != null) ? new RefreshableValue(value, refreshTime) : null);
+	}
+
+	/**
+	 * Remove the given key from the local tier.
+	 * @param key the key to invalidate
+	 */
+	public void invalidate(Object key) {
+		Object removed = this.entries.remove(key);
+		if (removed != null && !(removed instanceof Reservation)) {
+			this.invalidationCount.increment();
+		}
+	}
+
+	/**
+	 * Remove all entries from the local tier.
+	 */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Unregister the listeners from the backing cache and clear all local entries.
+	 */
+	public void release() {
+		if (this.cache.isActive()) {
+			this.cache.removeMapListener(this.invalidationListener, (Filter<?>) null);
+			CacheService service = this.cache.getCacheService();
+			if (service != null) {
+				service.removeMemberListener(this.disconnectListener);
+			}
+		}
+		clear();
+	}
+
+	/**
+	 * Return the number of entries (including pending reservations) held locally.
+	 * @return the number of local entries
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Return the number of reads served from the local tier.
+	 * @return the number of local hits
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of reads that had to go to the backing cache.
+	 * @return the number of local misses
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return the number of local entries removed due to invalidation.
+	 * @return the number of invalidations
+	 */
+	public long getInvalidationCount() {
+		return this.invalidationCount.sum();
+	}
+
+	/**
+	 * Marker placed into the local tier while the value for a key is being read.
+	 */
+	private static final class Reservation {
+	}
+
+	/**
+	 * A local value that is due for a refresh at a given time.
+	 */
+	private static final class RefreshableValue {
+
+		private final Object value;
+
+		private final long refreshTime;
+
+		RefreshableValue(Object value, long refreshTime) {
+			this.value = value;
+			this.refreshTime = refreshTime;
+		}
+	}
+
+	/**
+	 * Synchronous lite {@link MapListener} invalidating local entries.
+	 */
+	private final class InvalidationListener implements MapListener<Object, Object> {
+
+		@Override
+		public void entryInserted(MapEvent<Object, Object> event) {
+			invalidate(event.getKey());
+		}
+
+		@Override
+		public void entryUpdated(MapEvent<Object, Object> event) {
+			invalidate(event.getKey());
+		}
+
+		@Override
+		public void entryDeleted(MapEvent<Object, Object> event) {
+			invalidate(event.getKey());
+		}
+
+		@Override
+		public int characteristics() {
+			return SYNCHRONOUS;
+		}
+	}
+
+	/**
+	 * {@link MemberListener} clearing the local tier when the local member leaves the
+	 * cache service, as invalidation events may have been missed.
+	 */
+	private final class DisconnectListener implements MemberListener {
+
+		@Override
+		public void memberJoined(MemberEvent event) {
+		}
+
+		@Override
+		public void memberLeaving(MemberEvent event) {
+		}
+
+		@Override
+		public void memberLeft(MemberEvent event) {
+			if (event.isLocal()) {
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Clearing local tier of cache '%s' after disconnect.",
+							LocalCacheTier.this.cache.getCacheName()));
+				}
+				clear();
+			}
+		}
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofSerializer;
+import com.tangosol.io.pof.PofWriter;
+
+import org.springframework.cache.support.NullValue;
+
+/**
+ * {@link PofSerializer} for Spring's {@link NullValue}, which is stored in place of {@code null} by caches
+ * that {@link CoherenceCacheConfiguration#setCacheNullValues(boolean) cache null values}. Deserialization
+ * always returns {@link NullValue#INSTANCE}.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+public class NullValuePofSerializer implements PofSerializer<NullValue> {
+
+	@Override
+	public void serialize(PofWriter pofWriter, NullValue value) throws IOException {
+		pofWriter.writeRemainder(null);
+	}
+
+	@Override
+	public NullValue deserialize(PofReader pofReader) throws IOException {
+		pofReader.readRemainder();
+		return (NullValue) NullValue.INSTANCE;
+	}
+
+}
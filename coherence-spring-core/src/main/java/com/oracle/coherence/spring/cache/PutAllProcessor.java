@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.net.cache.CacheMap;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * Coherence {@link InvocableMap.EntryProcessor} that stores multiple values with an expiry in a single
+ * {@link InvocableMap#invokeAll(java.util.Collection, InvocableMap.EntryProcessor)} call, as
+ * {@link java.util.Map#putAll(Map)} does not allow an expiry to be specified.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see CoherenceCache#putAll(Map)
+ */
+public class PutAllProcessor extends AbstractProcessor<Object, Object, Void> implements PortableObject {
+
+	private static final long serialVersionUID = 1L;
+
+	private Map<Object, Object> values;
+
+	private long timeToLive = CacheMap.EXPIRY_DEFAULT;
+
+	/**
+	 * Default constructor for serialization.
+	 */
+	public PutAllProcessor() {
+	}
+
+	/**
+	 * Create a {@link PutAllProcessor}.
+	 * @param values the values to store keyed by cache key
+	 * @param timeToLive the expiry in milliseconds, or {@link CacheMap#EXPIRY_DEFAULT}
+	 */
+	public PutAllProcessor(Map<Object, Object> values, long timeToLive) {
+		this.values = values;
+		this.timeToLive = timeToLive;
+	}
+
+	@Override
+	public Void process(InvocableMap.Entry<Object, Object> entry) {
+		entry.setValue(this.values.get(entry.getKey()), false);
+		if (this.timeToLive != CacheMap.EXPIRY_DEFAULT) {
+			entry.asBinaryEntry().expire(this.timeToLive);
+		}
+		return null;
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+		this.values = pofReader.readMap(0, new HashMap<>());
+		this.timeToLive = pofReader.readLong(1);
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+		pofWriter.writeMap(0, this.values);
+		pofWriter.writeLong(1, this.timeToLive);
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.net.cache.CacheMap;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * Coherence {@link InvocableMap.EntryProcessor} that stores a value with an expiry, unless the entry
+ * is already present. Unlike {@link InvocableMap#putIfAbsent(Object, Object)} it allows the expiry
+ * of the new entry to be specified.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see CoherenceCache#get(Object, java.util.concurrent.Callable)
+ */
+public class PutIfAbsentProcessor extends AbstractProcessor<Object, Object, Object> implements PortableObject {
+
+	private static final long serialVersionUID = 1L;
+
+	private Object value;
+
+	private long timeToLive = CacheMap.EXPIRY_DEFAULT;
+
+	/**
+	 * Default constructor for serialization.
+	 */
+	public PutIfAbsentProcessor() {
+	}
+
+	/**
+	 * Create a {@link PutIfAbsentProcessor}.
+	 * @param value the value to store
+	 * @param timeToLive the expiry in milliseconds, or {@link CacheMap#EXPIRY_DEFAULT}
+	 */
+	public PutIfAbsentProcessor(Object value, long timeToLive) {
+		this.value = value;
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Store the value if the entry is not present.
+	 * @param entry the entry to process
+	 * @return the existing value or {@code null} if the value was stored
+	 */
+	@Override
+	public Object process(InvocableMap.Entry<Object, Object> entry) {
+		if (entry.isPresent()) {
+			return entry.getValue();
+		}
+		entry.setValue(this.value, false);
+		if (this.timeToLive != CacheMap.EXPIRY_DEFAULT) {
+			entry.asBinaryEntry().expire(this.timeToLive);
+		}
+		return null;
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+		this.value = pofReader.readObject(0);
+		this.timeToLive = pofReader.readLong(1);
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+		pofWriter.writeObject(0, this.value);
+		pofWriter.writeLong(1, this.timeToLive);
+	}
+
+}
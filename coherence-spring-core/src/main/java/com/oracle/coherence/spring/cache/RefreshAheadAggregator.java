@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.util.InvocableMap;
+
+/**
+ * Coherence {@link InvocableMap.StreamingAggregator} that returns the value of an entry together with its
+ * remaining time-to-live. Unlike the {@link RefreshAheadProcessor}, it does not lock the entry, so that reads
+ * of entries that are not yet due for a refresh-ahead do not contend with each other. It is meant to be
+ * invoked for a single key.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see CoherenceCacheConfiguration#setRefreshAheadFactor(double)
+ */
+public class RefreshAheadAggregator implements
+		InvocableMap.StreamingAggregator<Object, Object, RefreshAheadProcessor.Result, RefreshAheadProcessor.Result>,
+		PortableObject {
+
+	private static final long serialVersionUID = 1L;
+
+	private transient RefreshAheadProcessor.Result result;
+
+	@Override
+	public InvocableMap.StreamingAggregator<Object, Object, RefreshAheadProcessor.Result, RefreshAheadProcessor.Result> supply() {
+		return new RefreshAheadAggregator();
+	}
+
+	@Override
+	public boolean accumulate(InvocableMap.Entry<?, ?> entry) {
+		this.result = new RefreshAheadProcessor.Result(entry.getValue(), false, entry.asBinaryEntry().getExpiry());
+		return true;
+	}
+
+	@Override
+	public boolean combine(RefreshAheadProcessor.Result partialResult) {
+		if (partialResult != null) {
+			this.result = partialResult;
+		}
+		return true;
+	}
+
+	@Override
+	public RefreshAheadProcessor.Result getPartialResult() {
+		return this.result;
+	}
+
+	/**
+	 * Return the value of the entry and its remaining time-to-live.
+	 * @return the {@link RefreshAheadProcessor.Result} or {@code null} if the entry is not present
+	 */
+	@Override
+	public RefreshAheadProcessor.Result finalizeResult() {
+		return this.result;
+	}
+
+	@Override
+	public int characteristics() {
+		return PARALLEL | PRESENT_ONLY;
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+	}
+
+}
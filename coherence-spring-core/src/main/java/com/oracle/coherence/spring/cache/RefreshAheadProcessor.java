@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * Coherence {@link InvocableMap.EntryProcessor} that returns the value of an entry and determines whether
+ * the entry is due for a refresh-ahead. An entry is due once its remaining time-to-live drops to or below
+ * the refresh threshold. The first caller that finds the entry due is granted the refresh: its expiry is
+ * extended to twice the refresh threshold, so that concurrent readers on any cluster member do not
+ * schedule a refresh of their own while the value is reloaded.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see CoherenceCacheConfiguration#setRefreshAheadFactor(double)
+ */
+public class RefreshAheadProcessor extends AbstractProcessor<Object, Object, RefreshAheadProcessor.Result>
+		implements PortableObject {
+
+	private static final long serialVersionUID = 1L;
+
+	private long refreshThreshold;
+
+	/**
+	 * Default constructor for serialization.
+	 */
+	public RefreshAheadProcessor() {
+	}
+
+	/**
+	 * Create a {@link RefreshAheadProcessor}.
+	 * @param refreshThreshold the remaining time-to-live in milliseconds at which the entry is refreshed
+	 */
+	public RefreshAheadProcessor(long refreshThreshold) {
+		this.refreshThreshold = refreshThreshold;
+	}
+
+	/**
+	 * Return the value of the entry and whether the caller is granted its refresh.
+	 * @param entry the entry to process
+	 * @return the {@link Result} or {@code null} if the entry is not present
+	 */
+	@Override
+	public Result process(InvocableMap.Entry<Object, Object> entry) {
+		if (!entry.isPresent()) {
+			return null;
+		}
+		final BinaryEntry<Object, Object> binaryEntry = entry.asBinaryEntry();
+		final long remaining = binaryEntry.getExpiry();
+		final boolean refresh = remaining > 0 && remaining <= this.refreshThreshold;
+		if (refresh) {
+			binaryEntry.expire(2 * this.refreshThreshold);
+		}
+		return new Result(entry.getValue(), refresh, refresh ? 2 * this.refreshThreshold : remaining);
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+		this.refreshThreshold = pofReader.readLong(0);
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+		pofWriter.writeLong(0, this.refreshThreshold);
+	}
+
+	/**
+	 * The result of a {@link RefreshAheadProcessor}.
+	 */
+	public static class Result implements PortableObject, Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private Object value;
+
+		private boolean refresh;
+
+		private long expiry;
+
+		/**
+		 * Default constructor for serialization.
+		 */
+		public Result() {
+		}
+
+		/**
+		 * Create a {@link Result}.
+		 * @param value the current value
+		 * @param refresh whether the caller has been granted the refresh
+		 */
+		public Result(Object value, boolean refresh) {
+			this(value, refresh, 0L);
+		}
+
+		/**
+		 * Create a {@link Result}.
+		 * @param value the current value
+		 * @param refresh whether the caller has been granted the refresh
+		 * @param expiry the remaining time-to-live of the entry in milliseconds
+		 */
+		public Result(Object value, boolean refresh, long expiry) {
+			this.value = value;
+			this.refresh = refresh;
+			this.expiry = expiry;
+		}
+
+		/**
+		 * Return the current value of the entry.
+		 * @return the value
+		 */
+		public Object getValue() {
+			return this.value;
+		}
+
+		/**
+		 * Return whether the caller has been granted the refresh of the entry.
+		 * @return true if the caller must refresh the entry
+		 */
+		public boolean isRefresh() {
+			return this.refresh;
+		}
+
+		/**
+		 * Return the remaining time-to-live of the entry when it was read.
+		 * @return the remaining time-to-live in milliseconds, zero or negative if the entry does not expire
+		 */
+		public long getExpiry() {
+			return this.expiry;
+		}
+
+		@Override
+		public void readExternal(PofReader pofReader) throws IOException {
+			this.value = pofReader.readObject(0);
+			this.refresh = pofReader.readBoolean(1);
+			this.expiry = pofReader.readLong(2);
+		}
+
+		@Override
+		public void writeExternal(PofWriter pofWriter) throws IOException {
+			pofWriter.writeObject(0, this.value);
+			pofWriter.writeBoolean(1, this.refresh);
+			pofWriter.writeLong(2, this.expiry);
+		}
+
+	}
+
+}
@@ -10,6 +10,7 @@ import javax.annotation.PostConstruct;
 
 import com.oracle.coherence.spring.CoherenceServer;
 import com.oracle.coherence.spring.annotation.Name;
+import com.oracle.coherence.spring.cache.BulkCacheableConfiguration;
 import com.oracle.coherence.spring.event.CoherenceEventListenerCandidates;
 import com.oracle.coherence.spring.event.CoherenceEventListenerMethodProcessor;
 import com.oracle.coherence.spring.event.mapevent.MapListenerRegistrationBean;
@@ -51,7 +52,8 @@ import org.springframework.context.annotation.Scope;
 		MapEventTransformerConfiguration.class,
 		SerializerConfiguration.class,
 		NamedTopicConfiguration.class,
-		CoherenceTopicListenerSubscribers.class
+		CoherenceTopicListenerSubscribers.class,
+		BulkCacheableConfiguration.class
 })
 @PropertySource("classpath:coherence-spring.properties")
 public class CoherenceSpringConfiguration {
@@ -158,6 +160,15 @@ public class CoherenceSpringConfiguration {
 				.orElseThrow(() -> new IllegalStateException("No Session has been configured with the name " + sessionName));
 	}
 
+	/**
+	 * Resolves the executors used to dispatch to asynchronous Coherence event and topic listeners.
+	 * @return the {@link DispatchExecutorResolver}
+	 */
+	@Bean
+	public DispatchExecutorResolver dispatchExecutorResolver() {
+		return new DispatchExecutorResolver();
+	}
+
 	@Bean
 	MapListenerRegistrationBean mapListenerRegistrationBean(
 			FilterService filterService,
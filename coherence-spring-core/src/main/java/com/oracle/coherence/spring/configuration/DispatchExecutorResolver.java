@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.configuration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolves the {@link Executor} used to dispatch Coherence events and topic messages to asynchronous
+ * Spring listener methods. In order of precedence, listeners are dispatched to:
+ * <ul>
+ *     <li>the {@link Executor} bean named by {@link com.oracle.coherence.spring.annotation.ListenerExecutor}
+ *     on the listener method</li>
+ *     <li>the {@link Executor} bean named {@value #DISPATCH_EXECUTOR_BEAN_NAME}</li>
+ *     <li>a thread-per-task executor, if the {@value #THREAD_PER_TASK_PROPERTY} property is {@code true}</li>
+ *     <li>the default of the respective listener type, i.e. the common {@link java.util.concurrent.ForkJoinPool}
+ *     for event listeners and the Reactor parallel scheduler for topic listeners</li>
+ * </ul>
+ * A thread-per-task executor does not share its threads with other users of the common pool, so that
+ * listeners performing blocking I/O cannot starve them. The number of its concurrent threads is limited by the
+ * {@value #CONCURRENCY_LIMIT_PROPERTY} property; once reached, further tasks are queued until a thread becomes
+ * available. Dispatching never blocks, as it happens on Coherence service threads, so the queue is unbounded.
+ * Idle threads are terminated after {@value #KEEP_ALIVE_SECONDS} seconds.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+public class DispatchExecutorResolver implements BeanFactoryAware, EnvironmentAware {
+
+	/**
+	 * The name of the {@link Executor} bean used to dispatch to all asynchronous listeners.
+	 */
+	public static final String DISPATCH_EXECUTOR_BEAN_NAME = "coherenceDispatchExecutor";
+
+	/**
+	 * The property enabling the thread-per-task executor for all asynchronous listeners.
+	 */
+	public static final String THREAD_PER_TASK_PROPERTY = "coherence.dispatch.thread-per-task";
+
+	/**
+	 * The property setting the maximum number of concurrent threads of the thread-per-task executor.
+	 */
+	public static final String CONCURRENCY_LIMIT_PROPERTY = "coherence.dispatch.concurrency-limit";
+
+	/**
+	 * The default maximum number of concurrent threads of the thread-per-task executor.
+	 */
+	public static final int DEFAULT_CONCURRENCY_LIMIT = 256;
+
+	/**
+	 * The time in seconds an idle thread of the thread-per-task executor is kept alive.
+	 */
+	static final long KEEP_ALIVE_SECONDS = 60;
+
+	private BeanFactory beanFactory;
+
+	private Environment environment;
+
+	private volatile Executor defaultExecutor;
+
+	private volatile boolean defaultExecutorResolved;
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	/**
+	 * Return the {@link Executor} for a listener.
+	 * @param executorName the name of the {@link Executor} bean the listener is pinned to, may be null
+	 * @return the executor or {@code null} if the default of the listener type applies
+	 */
+	@Nullable
+	public Executor getExecutor(@Nullable String executorName) {
+		if (StringUtils.hasText(executorName)) {
+			return this.beanFactory.getBean(executorName, Executor.class);
+		}
+		return getDefaultExecutor();
+	}
+
+	/**
+	 * Return the {@link Executor} for listeners that are not pinned to a specific executor.
+	 * @return the executor or {@code null} if the default of the listener type applies
+	 */
+	@Nullable
+	public Executor getDefaultExecutor() {
+		if (!this.defaultExecutorResolved) {
+			synchronized (this) {
+				if (!this.defaultExecutorResolved) {
+					this.defaultExecutor = resolveDefaultExecutor();
+					this.defaultExecutorResolved = true;
+				}
+			}
+		}
+		return this.defaultExecutor;
+	}
+
+	private Executor resolveDefaultExecutor() {
+		if (this.beanFactory != null && this.beanFactory.containsBean(DISPATCH_EXECUTOR_BEAN_NAME)) {
+			return this.beanFactory.getBean(DISPATCH_EXECUTOR_BEAN_NAME, Executor.class);
+		}
+		if (this.environment != null && this.environment.getProperty(THREAD_PER_TASK_PROPERTY, Boolean.class, false)) {
+			final int concurrencyLimit = this.environment.getProperty(CONCURRENCY_LIMIT_PROPERTY, Integer.class,
+					DEFAULT_CONCURRENCY_LIMIT);
+			Assert.isTrue(concurrencyLimit > 0, () -> CONCURRENCY_LIMIT_PROPERTY + " must be greater than 0.");
+			final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("coherence-dispatch-");
+			threadFactory.setDaemon(true);
+			final ThreadPoolExecutor executor = new ThreadPoolExecutor(concurrencyLimit, concurrencyLimit,
+					KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.configuration.support;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Invokes a single-argument callback method, such as an event listener or topic listener method, through a
+ * {@link MethodHandle} that is created once, instead of using reflection for each invocation. If the target
+ * bean is a singleton, it is looked up once on first use and bound to the {@link MethodHandle}. Otherwise the
+ * bean is retrieved from the {@link BeanFactory} for each invocation.
+ * <p>
+ * Unlike {@link Method#invoke(Object, Object...)}, exceptions thrown by the callback method are propagated as is,
+ * without being wrapped in an {@link java.lang.reflect.InvocationTargetException}.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+public final class CallbackInvoker {
+
+	private static final MethodType UNBOUND_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+
+	private final Method method;
+
+	/**
+	 * The handle taking the target and the argument.
+	 */
+	private final MethodHandle handle;
+
+	private final BeanFactory beanFactory;
+
+	private final String beanName;
+
+	private final boolean singleton;
+
+	/**
+	 * The handle bound to the singleton target, created on first use.
+	 */
+	private volatile MethodHandle boundHandle;
+
+	private CallbackInvoker(Method method, BeanFactory beanFactory, String beanName, Object target) {
+		Assert.notNull(method, "method must not be null.");
+		Assert.isTrue(method.getParameterCount() == 1, () -> "Callback method must have exactly one parameter: " + method);
+		this.method = method;
+		this.beanFactory = beanFactory;
+		this.beanName = beanName;
+		this.singleton = (target != null) || beanFactory.isSingleton(beanName);
+		try {
+			ReflectionUtils.makeAccessible(method);
+			this.handle = MethodHandles.lookup().unreflect(method).asType(UNBOUND_TYPE);
+		}
+		catch (IllegalAccessException ex) {
+			throw new IllegalStateException("Unable to access callback method " + method, ex);
+		}
+		if (target != null) {
+			this.boundHandle = this.handle.bindTo(target);
+		}
+	}
+
+	/**
+	 * Create a {@link CallbackInvoker} for a method of the bean with the given name.
+	 * @param method the callback method
+	 * @param beanFactory the bean factory to retrieve the bean from
+	 * @param beanName the name of the bean declaring the method
+	 * @return the {@link CallbackInvoker}
+	 */
+	public static CallbackInvoker forBean(Method method, BeanFactory beanFactory, String beanName) {
+		Assert.notNull(beanFactory, "beanFactory must not be null.");
+		Assert.hasText(beanName, "beanName must not be empty.");
+		return new CallbackInvoker(method, beanFactory, beanName, null);
+	}
+
+	/**
+	 * Create a {@link CallbackInvoker} for a method of the given target.
+	 * @param method the callback method
+	 * @param target the object declaring the method
+	 * @return the {@link CallbackInvoker}
+	 */
+	public static CallbackInvoker forTarget(Method method, Object target) {
+		Assert.notNull(target, "target must not be null.");
+		return new CallbackInvoker(method, null, null, target);
+	}
+
+	/**
+	 * Return the callback method.
+	 * @return the method
+	 */
+	public Method getMethod() {
+		return this.method;
+	}
+
+	/**
+	 * Invoke the callback method.
+	 * @param argument the argument to pass
+	 * @return the result of the method, {@code null} for {@code void} methods
+	 * @throws Throwable any exception thrown by the method
+	 */
+	public Object invoke(Object argument) throws Throwable {
+		if (!this.singleton) {
+			return (Object) this.handle.invokeExact(this.beanFactory.getBean(this.beanName), argument);
+		}
+		MethodHandle boundHandle = this.boundHandle;
+		if (boundHandle == null) {
+			boundHandle = this.handle.bindTo(this.beanFactory.getBean(this.beanName));
+			this.boundHandle = boundHandle;
+		}
+		return (Object) boundHandle.invokeExact(argument);
+	}
+
+	/**
+	 * Invoke the callback method, rethrowing checked exceptions as {@link UndeclaredThrowableException},
+	 * like {@link ReflectionUtils#invokeMethod(Method, Object, Object...)}.
+	 * @param argument the argument to pass
+	 * @return the result of the method, {@code null} for {@code void} methods
+	 */
+	public Object invokeUnchecked(Object argument) {
+		try {
+			return invoke(argument);
+		}
+		catch (RuntimeException | Error ex) {
+			throw ex;
+		}
+		catch (Throwable ex) {
+			throw new UndeclaredThrowableException(ex);
+		}
+	}
+}
@@ -10,14 +10,20 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.oracle.coherence.spring.annotation.ListenerExecutor;
 import com.oracle.coherence.spring.annotation.event.Synchronous;
+import com.oracle.coherence.spring.configuration.DispatchExecutorResolver;
+import com.oracle.coherence.spring.configuration.support.CallbackInvoker;
 import com.oracle.coherence.spring.event.liveevent.MethodEventObserver;
 import com.oracle.coherence.spring.event.mapevent.MethodMapListener;
 
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.util.Assert;
 
 /**
@@ -34,6 +40,8 @@ public abstract class BaseMethodObserver {
 	protected final String beanName;
 	protected final Method method;
 	private ApplicationContext applicationContext;
+	private volatile Executor executor;
+	private volatile CallbackInvoker invoker;
 
 	/**
 	 * Create a {@link MethodEventObserver}.
@@ -56,6 +64,20 @@ public abstract class BaseMethodObserver {
 		return this.applicationContext.getBean(this.beanName);
 	}
 
+	/**
+	 * Return the {@link CallbackInvoker} used to invoke the {@link #method}, created on first use.
+	 * @return the invoker
+	 */
+	protected CallbackInvoker getInvoker() {
+		CallbackInvoker invoker = this.invoker;
+		if (invoker == null) {
+			Assert.notNull(this.applicationContext, "ApplicationContext must no be null");
+			invoker = CallbackInvoker.forBean(this.method, this.applicationContext, this.beanName);
+			this.invoker = invoker;
+		}
+		return invoker;
+	}
+
 	public String getId() {
 		return this.method.toString();
 	}
@@ -69,4 +91,34 @@ public abstract class BaseMethodObserver {
 	public boolean isAsync() {
 		return !this.method.isAnnotationPresent(Synchronous.class);
 	}
+
+	/**
+	 * Return the {@link Executor} used to notify asynchronous observers.
+	 * @return the executor resolved by the {@link DispatchExecutorResolver}, or the common
+	 * {@link ForkJoinPool} if none is configured
+	 */
+	public Executor getExecutor() {
+		Executor executor = this.executor;
+		if (executor == null) {
+			executor = resolveExecutor();
+			this.executor = executor;
+		}
+		return executor;
+	}
+
+	private Executor resolveExecutor() {
+		final ListenerExecutor listenerExecutor = AnnotationUtils.findAnnotation(this.method, ListenerExecutor.class);
+		final String executorName = (listenerExecutor != null) ? listenerExecutor.value() : null;
+		Executor executor = null;
+		if (this.applicationContext != null) {
+			final DispatchExecutorResolver resolver = this.applicationContext.getBeanProvider(DispatchExecutorResolver.class).getIfAvailable();
+			if (resolver != null) {
+				executor = resolver.getExecutor(executorName);
+			}
+			else if (executorName != null) {
+				executor = this.applicationContext.getBean(executorName, Executor.class);
+			}
+		}
+		return (executor != null) ? executor : ForkJoinPool.commonPool();
+	}
 }
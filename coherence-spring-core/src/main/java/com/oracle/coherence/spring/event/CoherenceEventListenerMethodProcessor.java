@@ -32,6 +32,7 @@ import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.core.MethodIntrospector;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.lang.Nullable;
@@ -138,9 +139,9 @@ public class CoherenceEventListenerMethodProcessor implements BeanFactoryPostPro
 					Class<?> argumentClassType = (arguments.size() == 1) ? arguments.get(0).getType() : null;
 
 					if (argumentClassType == null || (!Event.class.isAssignableFrom(argumentClassType)
-							&& !MapEvent.class.isAssignableFrom(argumentClassType))) {
+							&& !MapEvent.class.isAssignableFrom(argumentClassType) && !isMapEventList(method))) {
 						throw new IllegalArgumentException("The @CoherenceEventListener annotated method "
-								+ method.getName() + " must have a single Coherence Event or MapEvent argument.");
+								+ method.getName() + " must have a single Coherence Event, MapEvent or List of MapEvents argument.");
 					}
 
 					this.addEventListenerCandidate(beanName, method);
@@ -172,6 +173,18 @@ public class CoherenceEventListenerMethodProcessor implements BeanFactoryPostPro
 		this.coherenceEventListenerCandidateMethods.putIfAbsent(beanName, beanMethods);
 	}
 
+	/**
+	 * Return whether the single parameter of the method is a {@link List} of {@link MapEvent MapEvents},
+	 * used to receive map events in batches.
+	 * @param method the method to check
+	 * @return {@code true} if the method receives lists of map events
+	 */
+	private static boolean isMapEventList(Method method) {
+		final ResolvableType parameterType = ResolvableType.forMethodParameter(method, 0);
+		return List.class.equals(parameterType.resolve())
+				&& MapEvent.class.isAssignableFrom(parameterType.getGeneric(0).toClass());
+	}
+
 	/**
 	 * Determine whether the given class is an {@code org.springframework}
 	 * bean class that is not annotated as a user or test {@link Component}...
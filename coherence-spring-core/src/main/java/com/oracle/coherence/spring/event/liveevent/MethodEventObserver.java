@@ -12,7 +12,6 @@ import com.oracle.coherence.spring.event.BaseMethodObserver;
 import com.tangosol.net.events.Event;
 
 import org.springframework.context.ApplicationContext;
-import org.springframework.util.ReflectionUtils;
 
 /**
  * A Coherence event observer implementation that wraps a {@link Method}.
@@ -35,7 +34,6 @@ public class MethodEventObserver<E extends Event<?>> extends BaseMethodObserver
 	}
 
 	public void notify(E event) {
-		ReflectionUtils.makeAccessible(this.method); //TODO
-		ReflectionUtils.invokeMethod(this.method, this.getTargetBean(), event);
+		getInvoker().invokeUnchecked(event);
 	}
 }
@@ -83,7 +83,7 @@ public abstract class EventHandler<E extends Event<T>, T extends Enum<T>>
 					CompletableFuture.supplyAsync(() -> {
 						this.observer.notify(event);
 						return event;
-					});
+					}, this.observer.getExecutor());
 				}
 				else {
 					this.observer.notify(event);
@@ -7,6 +7,7 @@
 package com.oracle.coherence.spring.event.mapevent;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -14,11 +15,15 @@ import com.oracle.coherence.spring.annotation.ExtractorBinding;
 import com.oracle.coherence.spring.annotation.FilterBinding;
 import com.oracle.coherence.spring.annotation.MapEventTransformerBinding;
 import com.oracle.coherence.spring.annotation.SessionName;
+import com.oracle.coherence.spring.annotation.event.Batch;
 import com.oracle.coherence.spring.annotation.event.CacheName;
+import com.oracle.coherence.spring.annotation.event.Coalesce;
 import com.oracle.coherence.spring.annotation.event.Deleted;
+import com.oracle.coherence.spring.annotation.event.DispatchQueue;
 import com.oracle.coherence.spring.annotation.event.Inserted;
 import com.oracle.coherence.spring.annotation.event.Lite;
 import com.oracle.coherence.spring.annotation.event.MapName;
+import com.oracle.coherence.spring.annotation.event.OverflowPolicy;
 import com.oracle.coherence.spring.annotation.event.ScopeName;
 import com.oracle.coherence.spring.annotation.event.ServiceName;
 import com.oracle.coherence.spring.annotation.event.Synchronous;
@@ -29,6 +34,8 @@ import com.tangosol.net.events.partition.cache.CacheLifecycleEvent;
 import com.tangosol.util.MapEventTransformer;
 import com.tangosol.util.MapListener;
 
+import org.springframework.util.Assert;
+
 /**
  * {@link MapListener} implementation that dispatches {@code MapEvent}s
  * to {@link CoherenceEventListener}
@@ -43,6 +50,17 @@ import com.tangosol.util.MapListener;
  */
 public class AnnotatedMapListener<K, V> extends SimpleMapListener {
 
+	/**
+	 * The maximum number of events per batch of listeners receiving lists of events without {@link Batch}
+	 * annotation.
+	 */
+	private static final int DEFAULT_BATCH_MAX_SIZE = 100;
+
+	/**
+	 * The maximum wait time of batches of listeners receiving lists of events without {@link Batch} annotation.
+	 */
+	private static final Duration DEFAULT_BATCH_MAX_WAIT = Duration.ofMillis(100);
+
 	/**
 	 * The optional annotation specifying the filter to use to filter events.
 	 */
@@ -63,6 +81,9 @@ public class AnnotatedMapListener<K, V> extends SimpleMapListener {
 	public AnnotatedMapListener(MethodMapListener<K, V> observer, Set<Annotation> annotations) {
 		super(observer);
 
+		Batch batch = null;
+		DispatchQueue dispatchQueue = null;
+
 		for (Annotation annotation : observer.getObservedQualifiers()) {
 			if (annotation instanceof CacheName) {
 				setCacheName(((CacheName) annotation).value());
@@ -94,6 +115,35 @@ public class AnnotatedMapListener<K, V> extends SimpleMapListener {
 			else if (annotation instanceof Synchronous) {
 				setSynchronousEvents(true);
 			}
+			else if (annotation instanceof Coalesce) {
+				setCoalesceWindow(parseWindow(((Coalesce) annotation).window()));
+			}
+			else if (annotation instanceof DispatchQueue) {
+				dispatchQueue = (DispatchQueue) annotation;
+				setDispatchQueue(dispatchQueue);
+			}
+			else if (annotation instanceof Batch) {
+				batch = (Batch) annotation;
+			}
+		}
+
+		if (getCoalescer() != null) {
+			Assert.isTrue(batch == null && dispatchQueue == null, () -> "The @CoherenceEventListener method "
+					+ observer.getId() + " cannot combine @Coalesce with @Batch or @DispatchQueue.");
+			Assert.isTrue(!isSynchronous(), () -> "The @CoherenceEventListener method "
+					+ observer.getId() + " cannot combine @Coalesce with @Synchronous, coalesced events are delivered asynchronously.");
+		}
+		else if (observer.isBatch()) {
+			Assert.isTrue(dispatchQueue == null
+					|| (dispatchQueue.lanes() <= 1 && dispatchQueue.overflow() != OverflowPolicy.COALESCE),
+					() -> "The @CoherenceEventListener method " + observer.getId()
+							+ " receives batches, which are delivered through a single lane without COALESCE overflow.");
+			if (batch != null) {
+				setBatch(batch.maxSize(), parseWindow(batch.maxWait()));
+			}
+			else {
+				setBatch(DEFAULT_BATCH_MAX_SIZE, DEFAULT_BATCH_MAX_WAIT);
+			}
 		}
 
 		this.filterAnnotations = annotations.stream()
@@ -149,6 +199,20 @@ public class AnnotatedMapListener<K, V> extends SimpleMapListener {
 		}
 	}
 
+	/**
+	 * Parse a coalescing window or batch wait time, either as ISO-8601 duration or with a unit suffix such as {@code 50ms}.
+	 * @param window the window to parse
+	 * @return the parsed window
+	 */
+	static Duration parseWindow(String window) {
+		Assert.hasText(window, "The duration must not be empty.");
+		final String value = window.trim();
+		if (value.startsWith("P") || value.startsWith("p")) {
+			return Duration.parse(value);
+		}
+		return Duration.ofNanos(new com.oracle.coherence.common.util.Duration(value).getNanos());
+	}
+
 	@Override
 	public String toString() {
 		return "AnnotatedMapListener{" +
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.event.mapevent;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.tangosol.util.MapEvent;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * Buffers {@link MapEvent MapEvents} into batches that are passed to a consumer once they reached their maximum
+ * size or their first event waited for the maximum wait time. Completed batches are taken out under the lock of
+ * the batcher and passed to the consumer after it was released, one at a time and in order. Batches are also
+ * completed on a scheduler thread shared by all batchers, so the consumer must hand them off without blocking.
+ *
+ * @param <K> the type of the cache key
+ * @param <V> the type of the cache value
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see com.oracle.coherence.spring.annotation.event.Batch
+ */
+public class MapEventBatcher<K, V> {
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final int maxSize;
+
+	private final long maxWaitNanos;
+
+	private final Consumer<List<MapEvent<K, V>>> consumer;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final AtomicLong batchCount = new AtomicLong();
+
+	/**
+	 * The events of the current batch, {@code null} if no batch is open. Guarded by {@code this}.
+	 */
+	private List<MapEvent<K, V>> batch;
+
+	/**
+	 * The scheduled flush of the current batch. Guarded by {@code this}.
+	 */
+	private ScheduledFuture<?> flushTask;
+
+	/**
+	 * The completed batches not passed to the consumer yet. Guarded by {@code this}.
+	 */
+	private final ArrayDeque<List<MapEvent<K, V>>> completed = new ArrayDeque<>();
+
+	/**
+	 * Whether a thread is passing completed batches to the consumer. Guarded by {@code this}.
+	 */
+	private boolean delivering;
+
+	/**
+	 * Create a {@link MapEventBatcher} that flushes batches on a shared scheduler.
+	 * @param maxSize the maximum number of events per batch, must be greater than zero
+	 * @param maxWait the maximum time the first event of a batch waits, must be greater than zero
+	 * @param consumer the consumer of the batches, must not block
+	 */
+	public MapEventBatcher(int maxSize, Duration maxWait, Consumer<List<MapEvent<K, V>>> consumer) {
+		this(maxSize, maxWait, consumer, MapEventScheduler.get());
+	}
+
+	/**
+	 * Create a {@link MapEventBatcher}.
+	 * @param maxSize the maximum number of events per batch, must be greater than zero
+	 * @param maxWait the maximum time the first event of a batch waits, must be greater than zero
+	 * @param consumer the consumer of the batches, must not block
+	 * @param scheduler the scheduler used to flush batches after the maximum wait time
+	 */
+	public MapEventBatcher(int maxSize, Duration maxWait, Consumer<List<MapEvent<K, V>>> consumer,
+			ScheduledExecutorService scheduler) {
+		Assert.isTrue(maxSize > 0, "maxSize must be greater than zero.");
+		Assert.notNull(maxWait, "maxWait must not be null.");
+		Assert.isTrue(!maxWait.isNegative() && !maxWait.isZero(), "maxWait must be greater than zero.");
+		Assert.notNull(consumer, "consumer must not be null.");
+		Assert.notNull(scheduler, "scheduler must not be null.");
+		this.maxSize = maxSize;
+		this.maxWaitNanos = maxWait.toNanos();
+		this.consumer = consumer;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Add an event to the current batch, passing the batch to the consumer if it is full.
+	 * @param event the event
+	 */
+	public void add(MapEvent<K, V> event) {
+		synchronized (this) {
+			if (this.batch == null) {
+				this.batch = new ArrayList<>(Math.min(this.maxSize, 64));
+				if (this.maxSize > 1) {
+					this.flushTask = this.scheduler.schedule(this::flush, this.maxWaitNanos, TimeUnit.NANOSECONDS);
+				}
+			}
+			this.batch.add(event);
+			if (this.batch.size() >= this.maxSize) {
+				completeBatch();
+			}
+		}
+		deliverCompleted();
+	}
+
+	/**
+	 * Pass the current batch, if any, to the consumer.
+	 */
+	public void flush() {
+		synchronized (this) {
+			completeBatch();
+		}
+		deliverCompleted();
+	}
+
+	/**
+	 * Return the number of batches passed to the consumer.
+	 * @return the number of batches
+	 */
+	public long getBatchCount() {
+		return this.batchCount.get();
+	}
+
+	/**
+	 * Return the number of events in the current batch.
+	 * @return the number of pending events
+	 */
+	public synchronized int getPendingCount() {
+		return (this.batch != null) ? this.batch.size() : 0;
+	}
+
+	/**
+	 * Move the current batch, if any, to the completed batches. Must be called while holding the lock.
+	 */
+	private void completeBatch() {
+		final List<MapEvent<K, V>> events = this.batch;
+		this.batch = null;
+		if (this.flushTask != null) {
+			this.flushTask.cancel(false);
+			this.flushTask = null;
+		}
+		if (events != null) {
+			this.completed.add(events);
+		}
+	}
+
+	/**
+	 * Pass the completed batches to the consumer, unless another thread already does.
+	 */
+	private void deliverCompleted() {
+		synchronized (this) {
+			if (this.delivering || this.completed.isEmpty()) {
+				return;
+			}
+			this.delivering = true;
+		}
+		while (true) {
+			final List<MapEvent<K, V>> events;
+			synchronized (this) {
+				events = this.completed.poll();
+				if (events == null) {
+					this.delivering = false;
+					return;
+				}
+			}
+			deliver(events);
+		}
+	}
+
+	private void deliver(List<MapEvent<K, V>> events) {
+		this.batchCount.incrementAndGet();
+		try {
+			this.consumer.accept(events);
+		}
+		catch (Throwable ex) {
+			this.logger.error("Error delivering a batch of " + events.size() + " map events", ex);
+		}
+	}
+}
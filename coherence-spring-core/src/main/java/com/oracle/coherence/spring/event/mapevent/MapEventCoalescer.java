@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.event.mapevent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import com.tangosol.util.MapEvent;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * Collapses the {@link MapEvent MapEvents} raised for the same key within a time window. The window opens with
+ * the first event received after the previous window was flushed. Once it elapsed, one event per key is passed
+ * to the consumer, in the order the keys were first seen, as a single list. Windows are flushed on a scheduler
+ * thread shared by all coalescers, so the consumer must hand the events off without blocking.
+ * <p>
+ * The collapsed event carries the old value of the first and the new value of the last event for the key. Its
+ * type is the type of the last event, except that an insert followed by updates is reported as insert and a
+ * delete followed by an insert is reported as update. No event is reported for a key that was inserted and
+ * deleted again within the window.
+ *
+ * @param <K> the type of the cache key
+ * @param <V> the type of the cache value
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see com.oracle.coherence.spring.annotation.event.Coalesce
+ */
+public class MapEventCoalescer<K, V> {
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final long windowNanos;
+
+	private final Consumer<List<MapEvent<K, V>>> consumer;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final AtomicLong coalescedCount = new AtomicLong();
+
+	/**
+	 * The first and last event per key of the current window, {@code null} if no window is open. Guarded by
+	 * {@code this}.
+	 */
+	private Map<Object, FirstAndLast<K, V>> pending;
+
+	/**
+	 * Create a {@link MapEventCoalescer} that flushes its windows on a shared scheduler.
+	 * @param window the length of the window, must be greater than zero
+	 * @param consumer the consumer of the collapsed events, must not block
+	 */
+	public MapEventCoalescer(Duration window, Consumer<List<MapEvent<K, V>>> consumer) {
+		this(window, consumer, MapEventScheduler.get());
+	}
+
+	/**
+	 * Create a {@link MapEventCoalescer}.
+	 * @param window the length of the window, must be greater than zero
+	 * @param consumer the consumer of the collapsed events, must not block
+	 * @param scheduler the scheduler used to flush windows
+	 */
+	public MapEventCoalescer(Duration window, Consumer<List<MapEvent<K, V>>> consumer, ScheduledExecutorService scheduler) {
+		Assert.notNull(window, "window must not be null.");
+		Assert.isTrue(!window.isNegative() && !window.isZero(), "window must be greater than zero.");
+		Assert.notNull(consumer, "consumer must not be null.");
+		Assert.notNull(scheduler, "scheduler must not be null.");
+		this.windowNanos = window.toNanos();
+		this.consumer = consumer;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Add an event to the current window, opening a new window if none is open.
+	 * @param event the event
+	 */
+	public void add(MapEvent<K, V> event) {
+		final Object key = event.getKey();
+		synchronized (this) {
+			if (this.pending == null) {
+				this.pending = new LinkedHashMap<>();
+				this.scheduler.schedule(this::flush, this.windowNanos, TimeUnit.NANOSECONDS);
+			}
+			final FirstAndLast<K, V> events = this.pending.get(key);
+			if (events == null) {
+				this.pending.put(key, new FirstAndLast<>(event));
+				return;
+			}
+			events.last = event;
+		}
+		this.coalescedCount.incrementAndGet();
+	}
+
+	/**
+	 * Close the current window and pass its collapsed events to the consumer.
+	 */
+	public void flush() {
+		final Map<Object, FirstAndLast<K, V>> events;
+		synchronized (this) {
+			events = this.pending;
+			this.pending = null;
+		}
+		if (events == null || events.isEmpty()) {
+			return;
+		}
+		final List<MapEvent<K, V>> collapsed = new ArrayList<>(events.size());
+		for (FirstAndLast<K, V> firstAndLast : events.values()) {
+			final MapEvent<K, V> event = collapse(firstAndLast.first, firstAndLast.last);
+			if (event != null) {
+				collapsed.add(event);
+			}
+		}
+		if (collapsed.isEmpty()) {
+			return;
+		}
+		try {
+			this.consumer.accept(collapsed);
+		}
+		catch (Throwable ex) {
+			this.logger.error("Error delivering " + collapsed.size() + " coalesced map events", ex);
+		}
+	}
+
+	/**
+	 * Return the number of events that were collapsed into an earlier event for the same key.
+	 * @return the number of coalesced events
+	 */
+	public long getCoalescedCount() {
+		return this.coalescedCount.get();
+	}
+
+	/**
+	 * Return the number of keys with events in the current window.
+	 * @return the number of pending keys
+	 */
+	public synchronized int getPendingCount() {
+		return (this.pending != null) ? this.pending.size() : 0;
+	}
+
+	/**
+	 * Collapse the first and the last event for a key.
+	 * @param first the first event
+	 * @param last the last event
+	 * @param <K> the type of the cache key
+	 * @param <V> the type of the cache value
+	 * @return the collapsed event or {@code null} if the key was inserted and deleted again
+	 */
+	@Nullable
+	static <K, V> MapEvent<K, V> collapse(MapEvent<K, V> first, MapEvent<K, V> last) {
+		if (first == last) {
+			return first;
+		}
+		int id = last.getId();
+		if (first.getId() == MapEvent.ENTRY_INSERTED && id == MapEvent.ENTRY_DELETED) {
+			return null;
+		}
+		if (first.getId() == MapEvent.ENTRY_INSERTED && id == MapEvent.ENTRY_UPDATED) {
+			id = MapEvent.ENTRY_INSERTED;
+		}
+		else if (first.getId() == MapEvent.ENTRY_DELETED && id == MapEvent.ENTRY_INSERTED) {
+			id = MapEvent.ENTRY_UPDATED;
+		}
+		return new MapEvent<>(last.getMap(), id, last.getKey(), first.getOldValue(), last.getNewValue());
+	}
+
+	/**
+	 * The first and the last event for a key within a window.
+	 */
+	private static final class FirstAndLast<K, V> {
+
+		private final MapEvent<K, V> first;
+
+		private MapEvent<K, V> last;
+
+		FirstAndLast(MapEvent<K, V> event) {
+			this.first = event;
+			this.last = event;
+		}
+	}
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.event.mapevent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import com.oracle.coherence.spring.annotation.event.OverflowPolicy;
+import com.tangosol.util.MapEvent;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * Dispatches {@link MapEvent MapEvents} to an asynchronous listener through a fixed number of bounded lanes.
+ * Events are assigned to a lane by the hash of their key. Each lane delivers its events one at a time on the
+ * provided {@link Executor}, so events for the same key are received in the order they were raised, while events
+ * for different keys may be delivered concurrently. Once a lane is full, the configured {@link OverflowPolicy}
+ * applies.
+ * <p>
+ * Exceptions thrown by the listener are logged and do not stop the delivery of subsequent events.
+ *
+ * @param <K> the type of the cache key
+ * @param <V> the type of the cache value
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+public class MapEventDispatcher<K, V> {
+
+	/**
+	 * The maximum number of events a lane delivers before it yields its thread to other tasks of the executor.
+	 */
+	private static final int MAX_EVENTS_PER_RUN = 64;
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final Consumer<MapEvent<K, V>> listener;
+
+	private final Executor executor;
+
+	private final int capacity;
+
+	private final OverflowPolicy overflowPolicy;
+
+	private final List<Lane> lanes;
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	private final AtomicLong coalescedCount = new AtomicLong();
+
+	/**
+	 * Create a {@link MapEventDispatcher}.
+	 * @param listener the listener to deliver events to
+	 * @param executor the executor the lanes deliver events on
+	 * @param lanes the number of lanes, must be greater than zero
+	 * @param capacity the maximum number of events queued per lane, must be greater than zero
+	 * @param overflowPolicy the policy applied when an event arrives for a full lane
+	 */
+	public MapEventDispatcher(Consumer<MapEvent<K, V>> listener, Executor executor, int lanes, int capacity,
+			OverflowPolicy overflowPolicy) {
+		Assert.notNull(listener, "listener must not be null.");
+		Assert.notNull(executor, "executor must not be null.");
+		Assert.isTrue(lanes > 0, "lanes must be greater than zero.");
+		Assert.isTrue(capacity > 0, "capacity must be greater than zero.");
+		Assert.notNull(overflowPolicy, "overflowPolicy must not be null.");
+		this.listener = listener;
+		this.executor = executor;
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+		this.lanes = new ArrayList<>(lanes);
+		for (int i = 0; i < lanes; i++) {
+			this.lanes.add(new Lane());
+		}
+	}
+
+	/**
+	 * Queue the event for delivery. Depending on the {@link OverflowPolicy}, this method blocks while the lane
+	 * of the event is full.
+	 * @param event the event to deliver
+	 */
+	public void dispatch(MapEvent<K, V> event) {
+		final Object key = event.getKey();
+		this.lanes.get(Math.floorMod(Objects.hashCode(key), this.lanes.size())).offer(key, event);
+	}
+
+	/**
+	 * Return the number of lanes.
+	 * @return the number of lanes
+	 */
+	public int getLaneCount() {
+		return this.lanes.size();
+	}
+
+	/**
+	 * Return the number of events queued in all lanes that were not delivered yet.
+	 * @return the queue depth
+	 */
+	public int getQueueDepth() {
+		int depth = 0;
+		for (Lane lane : this.lanes) {
+			depth += lane.size();
+		}
+		return depth;
+	}
+
+	/**
+	 * Return how long the oldest queued event has been waiting for delivery.
+	 * @return the lag in milliseconds, {@code 0} if no event is queued
+	 */
+	public long getLagMillis() {
+		final long now = System.nanoTime();
+		long lag = 0;
+		for (Lane lane : this.lanes) {
+			final long enqueued = lane.oldestEnqueuedNanos();
+			if (enqueued != 0) {
+				lag = Math.max(lag, now - enqueued);
+			}
+		}
+		return TimeUnit.NANOSECONDS.toMillis(lag);
+	}
+
+	/**
+	 * Return the number of events discarded by {@link OverflowPolicy#DROP_OLDEST}.
+	 * @return the number of dropped events
+	 */
+	public long getDroppedCount() {
+		return this.droppedCount.get();
+	}
+
+	/**
+	 * Return the number of events replaced by a later event for the same key by {@link OverflowPolicy#COALESCE}.
+	 * @return the number of coalesced events
+	 */
+	public long getCoalescedCount() {
+		return this.coalescedCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return "MapEventDispatcher{" +
+				"lanes=" + this.lanes.size() +
+				", capacity=" + this.capacity +
+				", overflowPolicy=" + this.overflowPolicy +
+				", queueDepth=" + getQueueDepth() +
+				'}';
+	}
+
+	// ----- inner class Lane -----------------------------------------------
+
+	/**
+	 * A bounded queue of events that is drained by at most one task of the executor at a time.
+	 */
+	private final class Lane implements Runnable {
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final Condition notFull = this.lock.newCondition();
+
+		private final ArrayDeque<PendingEvent<K, V>> queue = new ArrayDeque<>();
+
+		/**
+		 * The queued event per key, only maintained for {@link OverflowPolicy#COALESCE}.
+		 */
+		private final Map<Object, PendingEvent<K, V>> pendingByKey =
+				(MapEventDispatcher.this.overflowPolicy == OverflowPolicy.COALESCE) ? new HashMap<>() : null;
+
+		/**
+		 * Whether a drain task is submitted or running. Guarded by {@code lock}.
+		 */
+		private boolean scheduled;
+
+		void offer(Object key, MapEvent<K, V> event) {
+			boolean submit = false;
+			this.lock.lock();
+			try {
+				if (this.queue.size() >= MapEventDispatcher.this.capacity) {
+					if (MapEventDispatcher.this.overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+						remove(this.queue.poll());
+						MapEventDispatcher.this.droppedCount.incrementAndGet();
+					}
+					else {
+						final PendingEvent<K, V> pending = (this.pendingByKey != null) ? this.pendingByKey.get(key) : null;
+						if (pending != null) {
+							pending.event = event;
+							MapEventDispatcher.this.coalescedCount.incrementAndGet();
+							return;
+						}
+						if (!awaitNotFull(event)) {
+							return;
+						}
+					}
+				}
+				final PendingEvent<K, V> pending = new PendingEvent<>(key, event);
+				this.queue.add(pending);
+				if (this.pendingByKey != null) {
+					this.pendingByKey.put(key, pending);
+				}
+				if (!this.scheduled) {
+					this.scheduled = true;
+					submit = true;
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+			if (submit) {
+				submit();
+			}
+		}
+
+		private boolean awaitNotFull(MapEvent<K, V> event) {
+			try {
+				while (this.queue.size() >= MapEventDispatcher.this.capacity) {
+					this.notFull.await();
+				}
+				return true;
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				MapEventDispatcher.this.logger.warn("Interrupted while waiting to dispatch " + event + ", the event is discarded.");
+				return false;
+			}
+		}
+
+		private void submit() {
+			try {
+				MapEventDispatcher.this.executor.execute(this);
+			}
+			catch (RejectedExecutionException ex) {
+				MapEventDispatcher.this.logger.error("Unable to dispatch map events, the executor rejected the task.", ex);
+				this.lock.lock();
+				try {
+					this.scheduled = false;
+				}
+				finally {
+					this.lock.unlock();
+				}
+			}
+		}
+
+		private void remove(PendingEvent<K, V> pending) {
+			if (this.pendingByKey != null && pending != null) {
+				this.pendingByKey.remove(pending.key, pending);
+			}
+		}
+
+		@Override
+		public void run() {
+			for (int i = 0; i < MAX_EVENTS_PER_RUN; i++) {
+				final PendingEvent<K, V> pending;
+				this.lock.lock();
+				try {
+					pending = this.queue.poll();
+					if (pending == null) {
+						this.scheduled = false;
+						return;
+					}
+					remove(pending);
+					this.notFull.signal();
+				}
+				finally {
+					this.lock.unlock();
+				}
+				try {
+					MapEventDispatcher.this.listener.accept(pending.event);
+				}
+				catch (Throwable ex) {
+					MapEventDispatcher.this.logger.error("Error notifying listener of " + pending.event, ex);
+				}
+			}
+			submit();
+		}
+
+		int size() {
+			this.lock.lock();
+			try {
+				return this.queue.size();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		long oldestEnqueuedNanos() {
+			this.lock.lock();
+			try {
+				final PendingEvent<K, V> oldest = this.queue.peek();
+				return (oldest != null) ? oldest.enqueuedNanos : 0;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	// ----- inner class PendingEvent ---------------------------------------
+
+	private static final class PendingEvent<K, V> {
+		private final Object key;
+		private final long enqueuedNanos = System.nanoTime();
+		private MapEvent<K, V> event;
+
+		PendingEvent(Object key, MapEvent<K, V> event) {
+			this.key = key;
+			this.event = event;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.event.mapevent;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Holds the scheduler shared by all {@link MapEventCoalescer coalescers} and {@link MapEventBatcher batchers},
+ * created on first use. Scheduled tasks only hand the pending events over to the listener, so a single daemon
+ * thread is sufficient.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+final class MapEventScheduler {
+
+	private MapEventScheduler() {
+	}
+
+	/**
+	 * Return the shared scheduler.
+	 * @return the scheduler
+	 */
+	static ScheduledExecutorService get() {
+		return Holder.SCHEDULER;
+	}
+
+	private static final class Holder {
+
+		private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+		private static ScheduledExecutorService createScheduler() {
+			final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("coherence-map-event-");
+			threadFactory.setDaemon(true);
+			final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+			scheduler.setRemoveOnCancelPolicy(true);
+			return scheduler;
+		}
+	}
+}
@@ -6,9 +6,11 @@
  */
 package com.oracle.coherence.spring.event.mapevent;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -29,6 +31,11 @@ import com.tangosol.util.filter.MapEventTransformerFilter;
 
 /**
  * {@link CoherenceEventListener} responsible for the registration of {@link MapListener}s.
+ * <p>
+ * Listeners are looked up in an immutable routing index keyed by service and cache name, which is built once
+ * after listeners were added. Filters and transformers of a listener are resolved on its first registration
+ * and reused for all further caches, so the cost of registering the listeners of a new cache does not depend
+ * on the number of caches created before.
  *
  * @author Gunnar Hillert
  * @since 3.0
@@ -40,10 +47,16 @@ public class MapListenerRegistrationBean {
 	private MapEventTransformerService mapEventTransformerService;
 
 	/**
-	 * A list of event interceptors for all discovered observer methods.
+	 * A list of event interceptors for all discovered observer methods. Guarded by {@code this}.
 	 */
 	private final Map<String, Map<String, Set<AnnotatedMapListener<?, ?>>>> mapListeners = new HashMap<>();
 
+	/**
+	 * The routing index built from {@link #mapListeners}, {@code null} if listeners were added since it was
+	 * built.
+	 */
+	private volatile Map<String, Map<String, List<Route>>> routes;
+
 	public MapListenerRegistrationBean(
 			FilterService filterService,
 			MapEventTransformerService mapEventTransformerService) {
@@ -66,41 +79,23 @@ public class MapListenerRegistrationBean {
 		String eventSession = event.getSessionName();
 		String eventService = event.getServiceName();
 
-		Set<AnnotatedMapListener<?, ?>> setListeners = getMapListeners(removeScope(eventService), cacheName);
-
-		Session session = Coherence.findSession(eventSession)
-				.orElseThrow(() -> new IllegalStateException("Cannot find a Session with name " + eventSession));
-		NamedCache cache = session.getCache(cacheName);
-
-		for (AnnotatedMapListener<?, ?> listener : setListeners) {
-			if (listener.hasFilterAnnotation()) {
-				// ensure that the listener's filter has been resolved as this
-				// was not possible as discovery time.
-				listener.setFilter(this.filterService.resolve(listener.getFilterAnnotations()));
-			}
-
-			if (listener.hasTransformerAnnotation()) {
-				// ensure that the listener's transformer has been resolved as this
-				// was not possible at discovery time.
-				listener.resolveTransformer(this.mapEventTransformerService);
-			}
-
-			String sScope = listener.getScopeName();
-			boolean fScopeOK = sScope == null || sScope.equals(eventScope);
-			String sSession = listener.getSession();
-			boolean fSessionOK = sSession == null || sSession.equals(eventSession);
+		final Map<String, Map<String, List<Route>>> routes = getRoutes();
+		final String serviceName = removeScope(eventService);
+		NamedCache cache = null;
 
-			if (fScopeOK && fSessionOK) {
-				Filter filter = listener.getFilter();
-				if (filter != null && !(filter instanceof MapEventFilter)) {
-					filter = new MapEventFilter(MapEventFilter.E_ALL, filter);
+		for (List<Route> candidates : lookup(routes, serviceName, cacheName)) {
+			for (Route route : candidates) {
+				if (!route.matches(eventScope, eventSession)) {
+					continue;
 				}
-
-				MapEventTransformer transformer = listener.getTransformer();
-				if (transformer != null) {
-					filter = new MapEventTransformerFilter(filter, transformer);
+				if (cache == null) {
+					Session session = Coherence.findSession(eventSession)
+							.orElseThrow(() -> new IllegalStateException("Cannot find a Session with name " + eventSession));
+					cache = session.getCache(cacheName);
 				}
 
+				final AnnotatedMapListener<?, ?> listener = route.listener;
+				final Filter filter = route.getFilter();
 				try {
 					boolean fLite = listener.isLiteEvent();
 					if (listener.isSynchronous()) {
@@ -140,38 +135,156 @@ public class MapListenerRegistrationBean {
 	 */
 	public Set<AnnotatedMapListener<?, ?>> getMapListeners(String serviceName, String cacheName) {
 		HashSet<AnnotatedMapListener<?, ?>> setResults = new HashSet<>();
-		collectMapListeners(setResults, "*", "*");
-		collectMapListeners(setResults, "*", cacheName);
-		collectMapListeners(setResults, serviceName, "*");
-		collectMapListeners(setResults, serviceName, cacheName);
-
+		for (List<Route> candidates : lookup(getRoutes(), serviceName, cacheName)) {
+			for (Route route : candidates) {
+				setResults.add(route.listener);
+			}
+		}
 		return setResults;
 	}
 
 	/**
-	 * Add all map listeners for the specified service and cache combination to
-	 * the specified result set.
-	 * @param setResults  the set of results to accumulate listeners into
+	 * Return the routes registered for the wildcard and the specified service and cache names. Each listener
+	 * is contained in exactly one of the returned lists.
+	 * @param routes the routing index
 	 * @param serviceName the name of the service
-	 * @param cacheName   the name of the cache
+	 * @param cacheName the name of the cache
+	 * @return the lists of routes, possibly empty
+	 */
+	private static List<List<Route>> lookup(Map<String, Map<String, List<Route>>> routes, String serviceName, String cacheName) {
+		final List<List<Route>> results = new ArrayList<>(4);
+		collectRoutes(results, routes.get(SimpleMapListener.WILD_CARD), cacheName);
+		if (!SimpleMapListener.WILD_CARD.equals(serviceName)) {
+			collectRoutes(results, routes.get(serviceName), cacheName);
+		}
+		return results;
+	}
+
+	private static void collectRoutes(List<List<Route>> results, Map<String, List<Route>> routesByCache, String cacheName) {
+		if (routesByCache == null) {
+			return;
+		}
+		final List<Route> wildCardRoutes = routesByCache.get(SimpleMapListener.WILD_CARD);
+		if (wildCardRoutes != null) {
+			results.add(wildCardRoutes);
+		}
+		if (!SimpleMapListener.WILD_CARD.equals(cacheName)) {
+			final List<Route> cacheRoutes = routesByCache.get(cacheName);
+			if (cacheRoutes != null) {
+				results.add(cacheRoutes);
+			}
+		}
+	}
+
+	/**
+	 * Return the routing index, building it if listeners were added since it was last built.
+	 * @return the immutable routing index
 	 */
-	private void collectMapListeners(HashSet<AnnotatedMapListener<?, ?>> setResults, String serviceName, String cacheName) {
-		Map<String, Set<AnnotatedMapListener<?, ?>>> mapByCache = this.mapListeners.get(serviceName);
-		if (mapByCache != null) {
-			setResults.addAll(mapByCache.getOrDefault(cacheName, Collections.emptySet()));
+	private Map<String, Map<String, List<Route>>> getRoutes() {
+		Map<String, Map<String, List<Route>>> routes = this.routes;
+		if (routes == null) {
+			synchronized (this) {
+				routes = this.routes;
+				if (routes == null) {
+					routes = buildRoutes();
+					this.routes = routes;
+				}
+			}
 		}
+		return routes;
+	}
+
+	private Map<String, Map<String, List<Route>>> buildRoutes() {
+		final Map<String, Map<String, List<Route>>> routes = new HashMap<>();
+		this.mapListeners.forEach((serviceName, listenersByCache) -> {
+			final Map<String, List<Route>> routesByCache = new HashMap<>();
+			listenersByCache.forEach((cacheName, listeners) -> {
+				final List<Route> cacheRoutes = new ArrayList<>(listeners.size());
+				for (AnnotatedMapListener<?, ?> listener : listeners) {
+					cacheRoutes.add(new Route(listener));
+				}
+				routesByCache.put(cacheName, Collections.unmodifiableList(cacheRoutes));
+			});
+			routes.put(serviceName, Collections.unmodifiableMap(routesByCache));
+		});
+		return Collections.unmodifiableMap(routes);
 	}
 
 	/**
 	 * Add specified listener to the collection of discovered observer-based listeners.
 	 * @param listener the listener to add
 	 */
-	public void addMapListener(AnnotatedMapListener<?, ?> listener) {
+	public synchronized void addMapListener(AnnotatedMapListener<?, ?> listener) {
 		final String serviceName = listener.getServiceName();
 		final String cacheName = listener.getCacheName();
 
 		final Map<String, Set<AnnotatedMapListener<?, ?>>> mapByCache = this.mapListeners.computeIfAbsent(serviceName, (s) -> new HashMap<>());
 		final Set<AnnotatedMapListener<?, ?>> setListeners = mapByCache.computeIfAbsent(cacheName, (c) -> new HashSet<>());
 		setListeners.add(listener);
+		this.routes = null;
+	}
+
+	// ----- inner class Route ----------------------------------------------
+
+	/**
+	 * A listener of the routing index together with the filter used to register it, resolved on first use.
+	 */
+	private final class Route {
+
+		private final AnnotatedMapListener<?, ?> listener;
+
+		private volatile boolean resolved;
+
+		private Filter<?> filter;
+
+		Route(AnnotatedMapListener<?, ?> listener) {
+			this.listener = listener;
+		}
+
+		boolean matches(String scope, String session) {
+			final String listenerScope = this.listener.getScopeName();
+			final String listenerSession = this.listener.getSession();
+			return (listenerScope == null || listenerScope.equals(scope))
+					&& (listenerSession == null || listenerSession.equals(session));
+		}
+
+		@SuppressWarnings({"rawtypes", "unchecked"})
+		Filter getFilter() {
+			if (!this.resolved) {
+				synchronized (this) {
+					if (!this.resolved) {
+						this.filter = resolveFilter();
+						this.resolved = true;
+					}
+				}
+			}
+			return this.filter;
+		}
+
+		@SuppressWarnings({"rawtypes", "unchecked"})
+		private Filter resolveFilter() {
+			if (this.listener.hasFilterAnnotation()) {
+				// ensure that the listener's filter has been resolved as this
+				// was not possible as discovery time.
+				this.listener.setFilter(MapListenerRegistrationBean.this.filterService.resolve(this.listener.getFilterAnnotations()));
+			}
+
+			if (this.listener.hasTransformerAnnotation()) {
+				// ensure that the listener's transformer has been resolved as this
+				// was not possible at discovery time.
+				this.listener.resolveTransformer(MapListenerRegistrationBean.this.mapEventTransformerService);
+			}
+
+			Filter filter = this.listener.getFilter();
+			if (filter != null && !(filter instanceof MapEventFilter)) {
+				filter = new MapEventFilter(MapEventFilter.E_ALL, filter);
+			}
+
+			MapEventTransformer transformer = this.listener.getTransformer();
+			if (transformer != null) {
+				filter = new MapEventTransformerFilter(filter, transformer);
+			}
+			return filter;
+		}
 	}
 }
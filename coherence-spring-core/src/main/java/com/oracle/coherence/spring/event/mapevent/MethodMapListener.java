@@ -7,13 +7,14 @@
 package com.oracle.coherence.spring.event.mapevent;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
 
 import com.oracle.coherence.spring.event.BaseMethodObserver;
 import com.oracle.coherence.spring.event.liveevent.MethodEventObserver;
 import com.tangosol.util.MapEvent;
 
 import org.springframework.context.ApplicationContext;
-import org.springframework.util.ReflectionUtils;
 
 /**
  * A {@link BaseMethodObserver} that wraps a map listener {@link Method}.
@@ -26,6 +27,8 @@ import org.springframework.util.ReflectionUtils;
  */
 public class MethodMapListener<K, V> extends BaseMethodObserver {
 
+	private final boolean batch;
+
 	/**
 	 * Create a {@link MethodEventObserver}.
 	 * @param beanName to provide the Spring bean name that has the executable method
@@ -34,6 +37,16 @@ public class MethodMapListener<K, V> extends BaseMethodObserver {
 	 */
 	public MethodMapListener(String beanName, Method method, ApplicationContext applicationContext) {
 		super(beanName, method, applicationContext);
+		this.batch = method.getParameterCount() == 1 && List.class.equals(method.getParameterTypes()[0]);
+	}
+
+	/**
+	 * Return whether the underlying {@link Method} receives a {@link List} of map events instead of
+	 * a single map event.
+	 * @return {@code true} if the method receives batches of events
+	 */
+	public boolean isBatch() {
+		return this.batch;
 	}
 
 	/**
@@ -41,7 +54,21 @@ public class MethodMapListener<K, V> extends BaseMethodObserver {
 	 * @param event the map event
 	 */
 	void notify(MapEvent<K, V> event) {
-		ReflectionUtils.makeAccessible(this.method); //TODO
-		ReflectionUtils.invokeMethod(this.method, this.getTargetBean(), event);
+		getInvoker().invokeUnchecked(isBatch() ? Collections.singletonList(event) : event);
+	}
+
+	/**
+	 * Execute the events using the underlying {@link Method}, either as one batch or one event at a time.
+	 * @param events the map events
+	 */
+	void notifyAll(List<MapEvent<K, V>> events) {
+		if (isBatch()) {
+			getInvoker().invokeUnchecked(events);
+		}
+		else {
+			for (MapEvent<K, V> event : events) {
+				getInvoker().invokeUnchecked(event);
+			}
+		}
 	}
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.event.mapevent;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.oracle.coherence.spring.annotation.event.OverflowPolicy;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * An {@link Executor} that runs its tasks one at a time, in the order they were submitted, on a delegate
+ * {@link Executor}. At most {@code capacity} tasks are queued; once full, {@link OverflowPolicy#BLOCK} blocks
+ * the submitting thread and {@link OverflowPolicy#DROP_OLDEST} discards the oldest queued task.
+ * <p>
+ * Threads that must not block, or that hold a lock ordering their tasks, {@link #offer(Runnable) offer} tasks
+ * instead, which under {@link OverflowPolicy#BLOCK} may exceed the capacity. Threads that may block then
+ * {@link #awaitCapacity() wait for capacity} once they released their locks.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+final class SerialExecutor implements Executor {
+
+	private static final Log logger = LogFactory.getLog(SerialExecutor.class);
+
+	private final Executor delegate;
+
+	private final int capacity;
+
+	private final OverflowPolicy overflowPolicy;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition notFull = this.lock.newCondition();
+
+	/**
+	 * The tasks not started yet. Guarded by {@code lock}.
+	 */
+	private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	/**
+	 * Whether a task is submitted to the delegate or running. Guarded by {@code lock}.
+	 */
+	private boolean active;
+
+	SerialExecutor(Executor delegate, int capacity, OverflowPolicy overflowPolicy) {
+		Assert.notNull(delegate, "delegate must not be null.");
+		Assert.isTrue(capacity > 0, "capacity must be greater than zero.");
+		Assert.isTrue(overflowPolicy == OverflowPolicy.BLOCK || overflowPolicy == OverflowPolicy.DROP_OLDEST,
+				"overflowPolicy must be BLOCK or DROP_OLDEST.");
+		this.delegate = delegate;
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		this.lock.lock();
+		try {
+			if (!awaitNotFull()) {
+				return;
+			}
+			this.tasks.add(task);
+			if (this.active) {
+				return;
+			}
+			this.active = true;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		submit();
+	}
+
+	/**
+	 * Queue a task without waiting for capacity. Under {@link OverflowPolicy#BLOCK}, the queue may exceed its
+	 * capacity, under {@link OverflowPolicy#DROP_OLDEST} the oldest queued tasks are discarded.
+	 * @param task the task
+	 */
+	void offer(Runnable task) {
+		this.lock.lock();
+		try {
+			if (this.overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+				dropOldest();
+			}
+			this.tasks.add(task);
+			if (this.active) {
+				return;
+			}
+			this.active = true;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		submit();
+	}
+
+	/**
+	 * Wait until no more than {@code capacity} tasks are queued. Returns immediately under
+	 * {@link OverflowPolicy#DROP_OLDEST}, which never exceeds the capacity.
+	 */
+	void awaitCapacity() {
+		if (this.overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+			return;
+		}
+		this.lock.lock();
+		try {
+			while (this.tasks.size() > this.capacity) {
+				this.notFull.await();
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void dropOldest() {
+		while (this.tasks.size() >= this.capacity) {
+			this.tasks.poll();
+			this.droppedCount.incrementAndGet();
+		}
+	}
+
+	private boolean awaitNotFull() {
+		if (this.overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+			dropOldest();
+			return true;
+		}
+		try {
+			while (this.tasks.size() >= this.capacity) {
+				this.notFull.await();
+			}
+			return true;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			logger.warn("Interrupted while waiting to run a task, the task is discarded.");
+			return false;
+		}
+	}
+
+	private void submit() {
+		try {
+			this.delegate.execute(this::runNext);
+		}
+		catch (RejectedExecutionException ex) {
+			logger.error("Unable to run tasks, the executor rejected the task.", ex);
+			this.lock.lock();
+			try {
+				this.droppedCount.addAndGet(this.tasks.size());
+				this.tasks.clear();
+				this.active = false;
+				this.notFull.signalAll();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	private void runNext() {
+		final Runnable task;
+		this.lock.lock();
+		try {
+			task = this.tasks.poll();
+			if (task == null) {
+				this.active = false;
+				return;
+			}
+			this.notFull.signal();
+		}
+		finally {
+			this.lock.unlock();
+		}
+		try {
+			task.run();
+		}
+		catch (Throwable ex) {
+			logger.error("Error running task " + task, ex);
+		}
+		this.lock.lock();
+		try {
+			if (this.tasks.isEmpty()) {
+				this.active = false;
+				return;
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		submit();
+	}
+
+	/**
+	 * Return the number of tasks queued but not started yet.
+	 * @return the queue depth
+	 */
+	int getQueueDepth() {
+		this.lock.lock();
+		try {
+			return this.tasks.size();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the number of tasks discarded because the queue was full or the delegate rejected them.
+	 * @return the number of dropped tasks
+	 */
+	long getDroppedCount() {
+		return this.droppedCount.get();
+	}
+}
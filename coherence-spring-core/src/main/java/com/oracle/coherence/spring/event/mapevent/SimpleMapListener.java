@@ -6,9 +6,12 @@
  */
 package com.oracle.coherence.spring.event.mapevent;
 
+import java.time.Duration;
 import java.util.EnumSet;
-import java.util.concurrent.CompletableFuture;
+import java.util.List;
 
+import com.oracle.coherence.spring.annotation.event.DispatchQueue;
+import com.oracle.coherence.spring.annotation.event.OverflowPolicy;
 import com.oracle.coherence.spring.event.CoherenceEventListener;
 import com.tangosol.net.events.partition.cache.CacheLifecycleEvent;
 import com.tangosol.util.Filter;
@@ -18,6 +21,8 @@ import com.tangosol.util.MapListener;
 import com.tangosol.util.comparator.SafeComparator;
 import com.tangosol.util.function.Remote;
 
+import org.springframework.util.Assert;
+
 /**
  * {@link MapListener} implementation that dispatches {@code MapEvent}s
  * to {@link CoherenceEventListener}
@@ -89,6 +94,43 @@ public class SimpleMapListener<K, V> implements MapListener<K, V>, Comparable<Si
 	 */
 	private MapEventTransformer<K, V, ?> transformer;
 
+	/**
+	 * The number of lanes asynchronous events are dispatched through, {@code 0} to use the number of
+	 * available processors.
+	 */
+	private int dispatchLanes;
+
+	/**
+	 * The maximum number of events queued per dispatch lane.
+	 */
+	private int dispatchCapacity = 1024;
+
+	/**
+	 * The policy applied when an event arrives for a full dispatch lane.
+	 */
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+	/**
+	 * The dispatcher of asynchronous events, created on first use.
+	 */
+	private volatile MapEventDispatcher<K, V> dispatcher;
+
+	/**
+	 * The coalescer of events for the same key, {@code null} if events are not coalesced.
+	 */
+	private MapEventCoalescer<K, V> coalescer;
+
+	/**
+	 * The batcher of events for listeners receiving lists of events, {@code null} if events are not batched.
+	 */
+	private MapEventBatcher<K, V> batcher;
+
+	/**
+	 * Runs the delivery of coalesced and batched events in order on the executor of the observer, bounded by the
+	 * capacity and overflow policy of the dispatch queue, created on first use.
+	 */
+	private volatile SerialExecutor serialExecutor;
+
 	public SimpleMapListener(MethodMapListener<K, V> observer) {
 		this.observer = observer;
 	}
@@ -235,6 +277,122 @@ public class SimpleMapListener<K, V> implements MapListener<K, V>, Comparable<Si
 		this.synchronousEvents = synchronousEvents;
 	}
 
+	/**
+	 * Configure the queue asynchronous events are dispatched through.
+	 * @param dispatchQueue the dispatch queue settings
+	 * @see DispatchQueue
+	 */
+	public void setDispatchQueue(DispatchQueue dispatchQueue) {
+		setDispatchQueue(dispatchQueue.lanes(), dispatchQueue.capacity(), dispatchQueue.overflow());
+	}
+
+	/**
+	 * Configure the queue asynchronous events are dispatched through. Batches of events are delivered through
+	 * a single queue of the given capacity instead, which does not support {@link OverflowPolicy#COALESCE}.
+	 * @param lanes the number of lanes, {@code 0} to use the number of available processors
+	 * @param capacity the maximum number of events queued per lane, must be greater than zero
+	 * @param overflowPolicy the policy applied when an event arrives for a full lane
+	 */
+	public void setDispatchQueue(int lanes, int capacity, OverflowPolicy overflowPolicy) {
+		Assert.isTrue(lanes >= 0, "lanes must not be negative.");
+		Assert.isTrue(capacity > 0, "capacity must be greater than zero.");
+		Assert.notNull(overflowPolicy, "overflowPolicy must not be null.");
+		Assert.state(this.dispatcher == null && this.serialExecutor == null,
+				"The dispatch queue cannot be changed once events were dispatched.");
+		this.dispatchLanes = lanes;
+		this.dispatchCapacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Collapse the events raised for the same key within the given time window.
+	 * @param window the coalescing window, must be greater than zero
+	 * @see com.oracle.coherence.spring.annotation.event.Coalesce
+	 */
+	public void setCoalesceWindow(Duration window) {
+		this.coalescer = new MapEventCoalescer<>(window, this::handOffInOrder);
+	}
+
+	/**
+	 * Return the coalescer of events for the same key, which also exposes the number of coalesced events.
+	 * @return the coalescer or {@code null} if events are not coalesced
+	 */
+	public MapEventCoalescer<K, V> getCoalescer() {
+		return this.coalescer;
+	}
+
+	/**
+	 * Buffer events into batches for listeners receiving lists of events. Events of coalesced listeners are
+	 * delivered per coalescing window instead.
+	 * @param maxSize the maximum number of events per batch, must be greater than zero
+	 * @param maxWait the maximum time the first event of a batch waits for more events, must be greater than zero
+	 * @see com.oracle.coherence.spring.annotation.event.Batch
+	 */
+	public void setBatch(int maxSize, Duration maxWait) {
+		this.batcher = new MapEventBatcher<>(maxSize, maxWait, this::handOffInOrder);
+	}
+
+	/**
+	 * Return the batcher of events, which also exposes the number of delivered batches.
+	 * @return the batcher or {@code null} if events are not batched
+	 */
+	public MapEventBatcher<K, V> getBatcher() {
+		return this.batcher;
+	}
+
+	/**
+	 * Queue the delivery of events without blocking, as the caller may be the shared scheduler thread.
+	 * @param events the events
+	 */
+	private void handOffInOrder(List<MapEvent<K, V>> events) {
+		getSerialExecutor().offer(() -> this.observer.notifyAll(events));
+	}
+
+	/**
+	 * Block the calling event thread while more deliveries are queued than the dispatch capacity allows.
+	 */
+	private void awaitDeliveryCapacity() {
+		final SerialExecutor executor = this.serialExecutor;
+		if (executor != null) {
+			executor.awaitCapacity();
+		}
+	}
+
+	private SerialExecutor getSerialExecutor() {
+		SerialExecutor executor = this.serialExecutor;
+		if (executor == null) {
+			synchronized (this) {
+				executor = this.serialExecutor;
+				if (executor == null) {
+					executor = new SerialExecutor(this.observer.getExecutor(), this.dispatchCapacity, this.overflowPolicy);
+					this.serialExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * Return the dispatcher of asynchronous events, which also exposes the queue depth and lag of this
+	 * listener. The dispatcher is created on first use.
+	 * @return the dispatcher
+	 */
+	public MapEventDispatcher<K, V> getDispatcher() {
+		MapEventDispatcher<K, V> dispatcher = this.dispatcher;
+		if (dispatcher == null) {
+			synchronized (this) {
+				dispatcher = this.dispatcher;
+				if (dispatcher == null) {
+					final int lanes = (this.dispatchLanes > 0) ? this.dispatchLanes : Runtime.getRuntime().availableProcessors();
+					dispatcher = new MapEventDispatcher<>(this.observer::notify, this.observer.getExecutor(), lanes,
+							this.dispatchCapacity, this.overflowPolicy);
+					this.dispatcher = dispatcher;
+				}
+			}
+		}
+		return dispatcher;
+	}
+
 	/**
 	 * Add specified event type to a set of types this interceptor should handle.
 	 * @param type the event type to add
@@ -266,11 +424,16 @@ public class SimpleMapListener<K, V> implements MapListener<K, V>, Comparable<Si
 	 */
 	private void handle(MapEventType type, MapEvent<K, V> event) {
 		if (isSupported(type)) {
-			if (this.observer.isAsync()) {
-				CompletableFuture.supplyAsync(() -> {
-					this.observer.notify(event);
-					return event;
-				});
+			if (this.coalescer != null) {
+				this.coalescer.add(event);
+				awaitDeliveryCapacity();
+			}
+			else if (this.batcher != null) {
+				this.batcher.add(event);
+				awaitDeliveryCapacity();
+			}
+			else if (this.observer.isAsync()) {
+				getDispatcher().dispatch(event);
 			}
 			else {
 				this.observer.notify(event);
@@ -6,28 +6,37 @@
  */
 package com.oracle.coherence.spring.messaging;
 
+import java.io.Flushable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import com.oracle.coherence.spring.annotation.Batching;
 import com.oracle.coherence.spring.annotation.CoherencePublisher;
+import com.oracle.coherence.spring.annotation.Ordering;
+import com.oracle.coherence.spring.annotation.OrderingKey;
+import com.oracle.coherence.spring.annotation.OrderingStrategy;
 import com.oracle.coherence.spring.annotation.SessionName;
 import com.oracle.coherence.spring.annotation.Topic;
 import com.oracle.coherence.spring.annotation.Topics;
 import com.tangosol.net.Coherence;
 import com.tangosol.net.Session;
+import com.tangosol.net.topic.NamedTopic;
 import com.tangosol.net.topic.Publisher;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -36,7 +45,8 @@ import org.apache.commons.logging.LogFactory;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.aop.support.AopUtils;
@@ -44,9 +54,11 @@ import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
@@ -61,6 +73,12 @@ import org.springframework.util.StringUtils;
 public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>, MethodInterceptor, BeanClassLoaderAware,
 		DisposableBean {
 
+	/**
+	 * The linger time used if a {@link #setBatchSize(int) batch size} greater than {@code 1} but no
+	 * {@link #setLinger(String) linger time} is set, so that a batch that is not full is eventually published.
+	 */
+	public static final Duration DEFAULT_LINGER = Duration.ofMillis(100);
+
 	protected final Log logger = LogFactory.getLog(getClass());
 
 	private final Object initializationMonitor = new Object();
@@ -79,6 +97,14 @@ public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>,
 
 	private Duration maxBlock;
 
+	private Duration linger;
+
+	private int batchSize;
+
+	private int maxInFlight;
+
+	private ScheduledExecutorService lingerScheduler;
+
 	public CoherencePublisherProxyFactoryBean(Class<?> serviceInterface) {
 		Assert.notNull(serviceInterface, "'serviceInterface' must not be null");
 		Assert.isTrue(serviceInterface.isInterface(), "'serviceInterface' must be an interface");
@@ -91,12 +117,66 @@ public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>,
 		);
 	}
 
+	/**
+	 * Set the maximum time a caller waits for an in-flight message to complete once the
+	 * {@link #setMaxInFlight(int) maximum number of in-flight messages} is reached, as ISO-8601
+	 * {@link Duration}. {@link Duration#ZERO} fails immediately. Not set by default, which waits
+	 * indefinitely. Also limits the time a reactive send waits for the status of a message.
+	 * @param maxBlock the maximum block time, may be empty
+	 */
 	public void setMaxBlock(String maxBlock) {
 		if (StringUtils.hasText(maxBlock)) {
 			this.maxBlock = Duration.parse(maxBlock);
+			Assert.isTrue(!this.maxBlock.isNegative(), "maxBlock must not be negative.");
 		}
 	}
 
+	/**
+	 * Set the maximum number of messages per topic that were accepted but not yet published. Once reached,
+	 * callers wait for at most the {@link #setMaxBlock(String) maximum block time}. Reactive sources never
+	 * block, instead each of them is not requested more messages while this number of its own messages is in
+	 * flight. Defaults to {@code 0}, which does not limit the number of in-flight messages.
+	 * @param maxInFlight must not be negative
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		Assert.isTrue(maxInFlight >= 0, "maxInFlight must not be negative.");
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * Set the maximum time a message is held back to be published as part of a batch, as
+	 * ISO-8601 {@link Duration}. Not set by default, which disables time based batching unless a
+	 * {@link #setBatchSize(int) batch size} greater than {@code 1} is set, in which case the
+	 * {@link #DEFAULT_LINGER} applies. Must not be zero if such a batch size is set.
+	 * @param linger the linger time, may be empty
+	 * @see #setBatchSize(int)
+	 */
+	public void setLinger(String linger) {
+		this.linger = parseLinger(linger);
+	}
+
+	@Nullable
+	private static Duration parseLinger(String linger) {
+		if (!StringUtils.hasText(linger)) {
+			return null;
+		}
+		final Duration duration = Duration.parse(linger);
+		Assert.isTrue(!duration.isNegative(), "linger must not be negative.");
+		return duration;
+	}
+
+	/**
+	 * Set the number of messages that are accumulated per topic before they are published as a batch.
+	 * Defaults to {@code 0}, which publishes messages only once the {@link #setLinger(String) linger time}
+	 * elapsed or the proxy is {@link Flushable#flush() flushed}. If neither batch size nor linger time are set,
+	 * each message is published immediately. Methods annotated with {@link Batching} use its values instead.
+	 * @param batchSize must not be negative
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize >= 0, "batchSize must not be negative.");
+		this.batchSize = batchSize;
+	}
+
 	/**
 	 * Indicate if {@code default} methods on the interface should be proxied as well.
 	 * @param proxyDefaultMethods the boolean flag to proxy default methods
@@ -117,6 +197,10 @@ public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>,
 		if (!this.initialized) {
 			afterPropertiesSet();
 		}
+		if (isFlushMethod(method)) {
+			flush();
+			return null;
+		}
 		PublisherMethod publisherMethod = this.publisherMethods.get(method);
 
 		try {
@@ -136,6 +220,22 @@ public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>,
 		}
 	}
 
+	private static boolean isFlushMethod(Method method) {
+		return "flush".equals(method.getName()) && method.getParameterCount() == 0
+				&& Flushable.class.isAssignableFrom(method.getDeclaringClass());
+	}
+
+	/**
+	 * Publish all batched messages and wait until all messages sent so far have been published.
+	 */
+	private void flush() {
+		final List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (PublisherMethod publisherMethod : this.publisherMethods.values()) {
+			futures.addAll(publisherMethod.flush());
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+	}
+
 	final void afterPropertiesSet() {
 		onInit();
 		this.initialized = true;
@@ -193,6 +293,7 @@ public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>,
 			populatePublisherMethods();
 
 			ProxyFactory cohPublisherProxyFactory = new ProxyFactory(this.serviceInterface, this);
+			cohPublisherProxyFactory.addInterface(Flushable.class);
 			cohPublisherProxyFactory.addAdvice(new DefaultMethodInvokingMethodInterceptor());
 			this.serviceProxy = cohPublisherProxyFactory.getProxy(this.beanClassLoader);
 			this.initialized = true;
@@ -202,6 +303,9 @@ public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>,
 	private void populatePublisherMethods() {
 		Method[] methods = ReflectionUtils.getUniqueDeclaredMethods(this.serviceInterface);
 		for (Method method : methods) {
+			if (isFlushMethod(method)) {
+				continue;
+			}
 			if (Modifier.isAbstract(method.getModifiers())
 					|| (method.isDefault() && this.proxyDefaultMethods)) {
 
@@ -212,17 +316,45 @@ public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>,
 	}
 
 	private PublisherMethod doCreatePublisherMethod(Method method) {
-		PublisherMethod publisherMethod = new PublisherMethod(method);
-		publisherMethod.setMaxBlockDuration(this.maxBlock);
+		final Batching batching = AnnotatedElementUtils.findMergedAnnotation(method, Batching.class);
+		final int batchSize = (batching != null) ? batching.batchSize() : this.batchSize;
+		Assert.isTrue(batchSize >= 0, () -> "batchSize must not be negative for method: " + method.getName());
+		final Duration linger = getLinger(batchSize, (batching != null) ? parseLinger(batching.linger()) : this.linger);
+		PublisherMethod publisherMethod = new PublisherMethod(method, this.maxBlock, this.maxInFlight, batchSize,
+				linger, (linger != null && !linger.isZero()) ? getLingerScheduler() : null);
 		publisherMethod.afterPropertiesSet();
 		return publisherMethod;
 	}
 
+	@Nullable
+	private static Duration getLinger(int batchSize, @Nullable Duration linger) {
+		if (batchSize <= 1) {
+			return linger;
+		}
+		if (linger == null) {
+			return DEFAULT_LINGER;
+		}
+		Assert.isTrue(!linger.isZero(), "linger must not be zero if batchSize is greater than 1.");
+		return linger;
+	}
+
+	private ScheduledExecutorService getLingerScheduler() {
+		if (this.lingerScheduler == null) {
+			final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("coherence-publisher-linger-");
+			threadFactory.setDaemon(true);
+			this.lingerScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		}
+		return this.lingerScheduler;
+	}
+
 	// ------ DisposableBean ------------------------------------------------
 
 	@Override
 	public void destroy() throws Exception {
 		this.publisherMethods.values().forEach(PublisherMethod::close);
+		if (this.lingerScheduler != null) {
+			this.lingerScheduler.shutdownNow();
+		}
 	}
 
 	// ----- inner class SingleSubscriber -----------------------------------
@@ -263,18 +395,42 @@ public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>,
 	private static final class PublisherMethod implements InitializingBean, AutoCloseable  {
 		protected final Log logger = LogFactory.getLog(getClass());
 
-		private final Map<TopicKey, Publisher<Object>> publisherMap = new ConcurrentHashMap<>();
+		/**
+		 * Publishers of dynamic topics, keyed by topic name. The session of a method is fixed, so the topic
+		 * name is sufficient as key.
+		 */
+		private final ConcurrentMap<String, TopicPublisher> publisherMap = new ConcurrentHashMap<>();
+
+		/**
+		 * The publisher of the static topic, {@code null} if the topic is passed as argument.
+		 */
+		private final TopicPublisher staticPublisher;
+
+		private final Duration maxBlockDuration;
+		private final int maxInFlight;
+		private final int batchSize;
+		private final long lingerMillis;
+		private final ScheduledExecutorService lingerScheduler;
+
 		private Class<?> returnType;
 		private boolean initialized;
-		private boolean isReactiveReturnType;
+		private SendMode sendMode;
 		private String topicName;
 		private int topicArgumentIndex = -1;
 		private int valueIndex = -1;
+		private int orderingKeyIndex = -1;
+		private OrderingStrategy ordering;
 		private String sessionName;
-		private Duration maxBlockDuration;
 
-		PublisherMethod(Method method) {
+		PublisherMethod(Method method, Duration maxBlockDuration, int maxInFlight, int batchSize, Duration linger,
+				ScheduledExecutorService lingerScheduler) {
+			this.maxBlockDuration = maxBlockDuration;
+			this.maxInFlight = maxInFlight;
+			this.batchSize = batchSize;
+			this.lingerMillis = (linger != null) ? linger.toMillis() : 0;
+			this.lingerScheduler = lingerScheduler;
 			setup(method);
+			this.staticPublisher = (this.topicArgumentIndex < 0) ? createPublisher(this.topicName) : null;
 		}
 
 		@Override
@@ -300,91 +456,83 @@ public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>,
 
 			Object[] arguments = invocation.getArguments();
 			Object value = arguments[this.valueIndex];
+			Object orderingKey = (this.orderingKeyIndex >= 0) ? arguments[this.orderingKeyIndex] : value;
+
+			TopicPublisher publisher = (this.staticPublisher != null) ? this.staticPublisher
+					: getPublisher(arguments[this.topicArgumentIndex].toString());
+
+			switch (this.sendMode) {
+				case REACTIVE_RETURN:
+					Flux<Publisher.Status> flux = buildSendFlux(invocation, publisher, this.maxBlockDuration, value, orderingKey);
+					return Publishers.convertPublisher(flux, this.returnType);
+				case VALUE:
+					return sendValue(invocation, publisher, value, orderingKey);
+				case REACTIVE_VALUE:
+					return sendReactiveValue(invocation, publisher, value, orderingKey);
+				default:
+					if (value != null && Publishers.isConvertibleToPublisher(value.getClass())) {
+						return sendReactiveValue(invocation, publisher, value, orderingKey);
+					}
+					return sendValue(invocation, publisher, value, orderingKey);
+			}
+		}
 
-			String topic = (this.topicArgumentIndex >= 0)
-					? Optional.of(arguments[this.topicArgumentIndex]).map(Object::toString).orElse(null)
-					: this.topicName;
-
-			Publisher<Object> publisher = getPublisher(topic, this.sessionName);
-
-			boolean isReactiveValue = value != null && Publishers.isConvertibleToPublisher(value.getClass());
+		private CompletableFuture<Publisher.Status> sendValue(MethodInvocation invocation, TopicPublisher publisher,
+				Object value, Object orderingKey) {
+			return publisher.publish(value, orderingKey, (exception) -> wrapException(invocation, exception));
+		}
 
-			if (this.isReactiveReturnType) {
-				// return type is a reactive type
-				Flux<Publisher.Status> flux = buildSendFlux(invocation, publisher, this.maxBlockDuration, value);
-				return Publishers.convertPublisher(flux, this.returnType);
+		private CompletableFuture<?> sendReactiveValue(MethodInvocation invocation, TopicPublisher publisher, Object value,
+				Object orderingKey) {
+			if (!Publishers.isSingle(value.getClass())) {
+				CompletableFuture<List<Publisher.Status>> completableFuture = new CompletableFuture<>();
+				Flux<List<Publisher.Status>> sendFlux = buildSendFlux(invocation, publisher, this.maxBlockDuration, value, orderingKey).collectList().flux();
+				sendFlux.subscribe(new CoherencePublisherProxyFactoryBean.SingleSubscriber<>(completableFuture, invocation));
+				return completableFuture;
 			}
 			else {
-				if (isReactiveValue) {
-					if (!Publishers.isSingle(value.getClass())) {
-						CompletableFuture<List<Publisher.Status>> completableFuture = new CompletableFuture<>();
-						Flux<List<Publisher.Status>> sendFlux = buildSendFlux(invocation, publisher, this.maxBlockDuration, value).collectList().flux();
-						sendFlux.subscribe(new CoherencePublisherProxyFactoryBean.SingleSubscriber<>(completableFuture, invocation));
-						return completableFuture;
-					}
-					else {
-						CompletableFuture<Publisher.Status> completableFuture = new CompletableFuture<>();
-						Flux<Publisher.Status> sendFlux = buildSendFlux(invocation, publisher, this.maxBlockDuration, value);
-						sendFlux.subscribe(new CoherencePublisherProxyFactoryBean.SingleSubscriber<>(completableFuture, invocation));
-						return completableFuture;
-					}
-				}
-				else {
-					CompletableFuture<Publisher.Status> completableFuture = new CompletableFuture<>();
-					publisher.publish(value).handle((status, exception) -> {
-						if (exception != null) {
-							completableFuture.completeExceptionally(wrapException(invocation, exception));
-						}
-						else {
-							completableFuture.complete(status);
-						}
-						return null;
-					});
-					return completableFuture;
-				}
+				CompletableFuture<Publisher.Status> completableFuture = new CompletableFuture<>();
+				Flux<Publisher.Status> sendFlux = buildSendFlux(invocation, publisher, this.maxBlockDuration, value, orderingKey);
+				sendFlux.subscribe(new CoherencePublisherProxyFactoryBean.SingleSubscriber<>(completableFuture, invocation));
+				return completableFuture;
 			}
 		}
 
 		@Nonnull
-		private Publisher<Object> getPublisher(String topicName, String sessionName) {
-			TopicKey key = new TopicKey(topicName, sessionName);
-			return this.publisherMap.compute(key, (k, publisher) -> {
-				if (publisher != null) {
-					return publisher;
-				}
-				final Session session = Coherence.findSession(sessionName)
-						.orElseThrow(() -> new IllegalStateException(String.format("No Session is configured with name '%s'.", sessionName)));
-				return session.getTopic(topicName).createPublisher();
-			});
+		private TopicPublisher getPublisher(String topicName) {
+			final TopicPublisher publisher = this.publisherMap.get(topicName);
+			return (publisher != null) ? publisher : this.publisherMap.computeIfAbsent(topicName, this::createPublisher);
+		}
+
+		@Nonnull
+		private TopicPublisher createPublisher(String topicName) {
+			final Session session = Coherence.findSession(this.sessionName)
+					.orElseThrow(() -> new IllegalStateException(String.format("No Session is configured with name '%s'.", this.sessionName)));
+			final NamedTopic<Object> topic = session.getTopic(topicName);
+			return new TopicPublisher(topic, this.ordering, this.batchSize, this.lingerMillis, this.lingerScheduler,
+					this.maxInFlight, this.maxBlockDuration);
 		}
 
 		private Flux<Publisher.Status> buildSendFlux(
 				MethodInvocation context,
-				Publisher<Object> publisher,
+				TopicPublisher publisher,
 				Duration maxBlock,
-				Object value) {
+				Object value,
+				Object orderingKey) {
 
 			Flux<?> valueFlux = Publishers.convertPublisher(value, Flux.class);
-			Flux<Publisher.Status> sendFlux = valueFlux.flatMap((o) -> Flux.create((emitter) -> publisher.publish(o).handle((status, exception) -> {
-				if (exception != null) {
-					emitter.error(wrapException(context, exception));
-				}
-				else {
-					if (status != null) {
-						emitter.next(status);
-					}
-					emitter.complete();
-				}
-				return null;
-			}), FluxSink.OverflowStrategy.BUFFER));
-
-			if (maxBlock != null) {
-				sendFlux.timeout(maxBlock);
+			// the concurrency bounds the in-flight messages of the source, waiting for a permit would block the
+			// thread emitting the values
+			int concurrency = (this.maxInFlight > 0) ? this.maxInFlight : Queues.SMALL_BUFFER_SIZE;
+			Flux<Publisher.Status> sendFlux = valueFlux.flatMapSequential((o) -> Mono.defer(() -> Mono.fromFuture(publisher.publishWithoutPermit(o, (this.orderingKeyIndex >= 0) ? orderingKey : o)))
+					.onErrorMap((exception) -> wrapException(context, exception)), concurrency, 1);
+
+			if (maxBlock != null && !maxBlock.isZero()) {
+				sendFlux = sendFlux.timeout(maxBlock);
 			}
 			return sendFlux;
 		}
 
-
 		private void setup(Method method) {
 			this.topicName = Utils.getFirstTopicName(method).orElse(null);
 
@@ -398,6 +546,9 @@ public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>,
 				else if (parameterAnnotation.isPresent(Topics.class) || parameterAnnotation.isPresent(Topic.class)) {
 					this.topicArgumentIndex = i;
 				}
+				else if (parameterAnnotation.isPresent(OrderingKey.class)) {
+					this.orderingKeyIndex = i;
+				}
 			}
 			if (!StringUtils.hasLength(this.topicName) && this.topicArgumentIndex < 0) {
 				throw new RuntimeException("No topic specified for method: " + method);
@@ -406,7 +557,7 @@ public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>,
 			if (this.valueIndex < 0) {
 				for (int i = 0; i < parameters.length; i++) {
 					Parameter argument = parameters[i];
-					if (argument.getAnnotation(Topic.class) == null) {
+					if (argument.getAnnotation(Topic.class) == null && argument.getAnnotation(OrderingKey.class) == null) {
 						this.valueIndex = i;
 						break;
 					}
@@ -418,8 +569,23 @@ public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>,
 			}
 
 			this.returnType = method.getReturnType();
-			this.isReactiveReturnType = Publishers.isConvertibleToPublisher(this.returnType);
+			this.sendMode = SendMode.of(this.returnType, parameters[this.valueIndex].getType());
 			this.sessionName = getSessionName(method).orElse(Coherence.DEFAULT_NAME);
+			this.ordering = getOrdering(method);
+			if (this.orderingKeyIndex >= 0 && this.ordering != OrderingStrategy.HASH) {
+				throw new IllegalStateException("@OrderingKey requires OrderingStrategy.HASH for method: " + method.getName());
+			}
+		}
+
+		private OrderingStrategy getOrdering(Method method) {
+			Ordering ordering = AnnotatedElementUtils.findMergedAnnotation(method, Ordering.class);
+			if (ordering == null) {
+				ordering = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), Ordering.class);
+			}
+			if (ordering != null) {
+				return ordering.value();
+			}
+			return (this.orderingKeyIndex >= 0) ? OrderingStrategy.HASH : OrderingStrategy.THREAD;
 		}
 
 		private Optional<String> getSessionName(Method method) {
@@ -430,28 +596,63 @@ public class CoherencePublisherProxyFactoryBean implements FactoryBean<Object>,
 			return Optional.empty();
 		}
 
-		void setMaxBlockDuration(Duration maxBlockDuration) {
-			this.maxBlockDuration = maxBlockDuration;
+		List<CompletableFuture<Void>> flush() {
+			final List<CompletableFuture<Void>> futures = new ArrayList<>();
+			for (TopicPublisher publisher : getPublishers()) {
+				futures.add(publisher.flush());
+			}
+			return futures;
+		}
+
+		private List<TopicPublisher> getPublishers() {
+			final List<TopicPublisher> publishers = new ArrayList<>(this.publisherMap.values());
+			if (this.staticPublisher != null) {
+				publishers.add(this.staticPublisher);
+			}
+			return publishers;
 		}
 
 		@Override
 		public void close() {
-			for (Map.Entry<TopicKey, Publisher<Object>> entry : this.publisherMap.entrySet()) {
-				Publisher<Object> publisher = entry.getValue();
-				try {
-					publisher.flush().get(1, TimeUnit.MINUTES);
-				}
-				catch (Throwable throwable) {
-					this.logger.error("Error flushing publisher", throwable);
-				}
+			getPublishers().forEach(TopicPublisher::close);
+		}
+	}
 
-				try {
-					publisher.close();
-				}
-				catch (Throwable throwable) {
-					this.logger.error("Error closing publisher", throwable);
-				}
+	// ----- inner enum SendMode --------------------------------------------
+
+	/**
+	 * The way a {@link PublisherMethod} sends its value, determined once from the method signature.
+	 */
+	private enum SendMode {
+		/**
+		 * The method returns a reactive type.
+		 */
+		REACTIVE_RETURN,
+		/**
+		 * The value is a plain value, the future returned by {@link TopicPublisher#publish(Object, Object)} is returned
+		 * with its failures wrapped.
+		 */
+		VALUE,
+		/**
+		 * The value is a reactive type, each element is published.
+		 */
+		REACTIVE_VALUE,
+		/**
+		 * The declared value type may or may not be reactive, the value is checked on each call.
+		 */
+		RUNTIME;
+
+		static SendMode of(Class<?> returnType, Class<?> valueType) {
+			if (Publishers.isConvertibleToPublisher(returnType)) {
+				return REACTIVE_RETURN;
+			}
+			if (Publishers.isConvertibleToPublisher(valueType)) {
+				return REACTIVE_VALUE;
+			}
+			if (valueType.isAssignableFrom(org.reactivestreams.Publisher.class)) {
+				return RUNTIME;
 			}
+			return VALUE;
 		}
 	}
 }
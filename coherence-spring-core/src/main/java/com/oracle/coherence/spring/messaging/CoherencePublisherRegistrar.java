@@ -22,6 +22,7 @@ package com.oracle.coherence.spring.messaging;
 import java.util.Map;
 
 import com.oracle.coherence.spring.annotation.CoherencePublisher;
+import com.oracle.coherence.spring.configuration.CoherenceSpringConfiguration;
 
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -75,6 +76,11 @@ public class CoherencePublisherRegistrar implements ImportBeanDefinitionRegistra
 		String serviceInterface = (String) attributes.get(SERVICE_INTERFACE_ATTR);
 		beanDefinitionBuilder.addConstructorArgValue(serviceInterface);
 		beanDefinitionBuilder.addPropertyValue("maxBlock", attributes.get("maxBlock"));
+		beanDefinitionBuilder.addPropertyValue("linger", attributes.get("linger"));
+		beanDefinitionBuilder.addPropertyValue("batchSize", attributes.get("batchSize"));
+		beanDefinitionBuilder.addPropertyValue("maxInFlight", attributes.get("maxInFlight"));
+		// publishers of static topics are created with the proxy
+		beanDefinitionBuilder.addDependsOn(CoherenceSpringConfiguration.COHERENCE_SERVER_BEAN_NAME);
 
 		AbstractBeanDefinition beanDefinition = beanDefinitionBuilder.getBeanDefinition();
 		beanDefinition.setAttribute(FactoryBean.OBJECT_TYPE_ATTRIBUTE, serviceInterface);
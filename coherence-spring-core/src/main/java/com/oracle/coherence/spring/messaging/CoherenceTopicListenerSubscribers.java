@@ -10,14 +10,24 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -29,15 +39,19 @@ import com.oracle.coherence.spring.annotation.CoherenceTopicListener;
 import com.oracle.coherence.spring.annotation.CommitStrategy;
 import com.oracle.coherence.spring.annotation.ExtractorBinding;
 import com.oracle.coherence.spring.annotation.FilterBinding;
+import com.oracle.coherence.spring.annotation.ListenerExecutor;
 import com.oracle.coherence.spring.annotation.SessionName;
 import com.oracle.coherence.spring.annotation.SubscriberGroup;
+import com.oracle.coherence.spring.configuration.DispatchExecutorResolver;
 import com.oracle.coherence.spring.configuration.ExtractorService;
 import com.oracle.coherence.spring.configuration.FilterService;
+import com.oracle.coherence.spring.configuration.support.CallbackInvoker;
 import com.oracle.coherence.spring.messaging.exceptions.CoherenceSubscriberException;
 import com.tangosol.net.Coherence;
 import com.tangosol.net.Session;
 import com.tangosol.net.events.CoherenceLifecycleEvent;
 import com.tangosol.net.topic.NamedTopic;
+import com.tangosol.net.topic.Position;
 import com.tangosol.net.topic.Publisher;
 import com.tangosol.net.topic.Subscriber;
 import com.tangosol.util.Filter;
@@ -52,6 +66,7 @@ import reactor.core.scheduler.Schedulers;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.annotation.MergedAnnotation;
@@ -68,22 +83,43 @@ import org.springframework.util.StringUtils;
 public class CoherenceTopicListenerSubscribers implements ApplicationContextAware, Coherence.LifecycleListener, AutoCloseable {
 	private static final Log logger = LogFactory.getLog(CoherenceTopicListenerSubscribers.class);
 	private static final Void VOID = null;
+
+	/**
+	 * The maximum number of elements received at once by a batch listener accepting a {@link List} of
+	 * {@link Subscriber.Element Subscriber.Elements} that does not specify a maxBatchSize.
+	 */
+	private static final int DEFAULT_MAX_BATCH_SIZE = 100;
 	private final FilterService filterService;
 	private final ExtractorService extractorService;
 	private final CoherenceTopicListenerCandidates candidates;
 	private final List<TopicSubscriber<?, ?, ?>> subscribers = new ArrayList<>();
 	private ApplicationContext applicationContext;
 	private final Scheduler scheduler;
+	private final DispatchExecutorResolver dispatchExecutorResolver;
 	private boolean subscribed;
 
+	/**
+	 * Create the {@link CoherenceTopicListenerSubscribers}. Messages are dispatched to the {@code consumers}
+	 * {@link ExecutorService} if present, otherwise to the default executor of the {@link DispatchExecutorResolver},
+	 * falling back to the Reactor parallel scheduler.
+	 * @param filterService the filter service
+	 * @param extractorService the extractor service
+	 * @param candidates the topic listener methods
+	 * @param executorService the {@code consumers} executor
+	 * @param dispatchExecutorResolver the resolver of listener executors
+	 */
 	public CoherenceTopicListenerSubscribers(FilterService filterService,
 											ExtractorService extractorService,
 											CoherenceTopicListenerCandidates candidates,
-											@Named("consumers") Optional<ExecutorService> executorService) {
+											@Named("consumers") Optional<ExecutorService> executorService,
+											Optional<DispatchExecutorResolver> dispatchExecutorResolver) {
 		this.filterService = filterService;
 		this.extractorService = extractorService;
 		this.candidates = candidates;
-		this.scheduler = executorService.map(Schedulers::fromExecutor).orElseGet(Schedulers::parallel);
+		this.dispatchExecutorResolver = dispatchExecutorResolver.orElse(null);
+		final Executor executor = executorService.isPresent() ? executorService.get()
+				: dispatchExecutorResolver.map(DispatchExecutorResolver::getDefaultExecutor).orElse(null);
+		this.scheduler = (executor != null) ? Schedulers.fromExecutor(executor) : Schedulers.parallel();
 	}
 
 	public boolean isSubscribed() {
@@ -105,6 +141,17 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 		this.subscribers.clear();
 	}
 
+	private Scheduler getScheduler(Method method) {
+		final ListenerExecutor listenerExecutor = AnnotationUtils.findAnnotation(method, ListenerExecutor.class);
+		if (listenerExecutor == null) {
+			return this.scheduler;
+		}
+		final Executor executor = (this.dispatchExecutorResolver != null)
+				? this.dispatchExecutorResolver.getExecutor(listenerExecutor.value())
+				: this.applicationContext.getBean(listenerExecutor.value(), Executor.class);
+		return Schedulers.fromExecutor(executor);
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public void createSubscribers(Coherence coherence) {
 		final Map<String, List<Method>> candidates = this.candidates.getCoherenceTopicListenerCandidateMethods();
@@ -196,7 +243,7 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 						sendToPublishers,
 						bean,
 						method,
-						this.scheduler);
+						getScheduler(method));
 				this.subscribers.add(topicSubscriber);
 				topicSubscriber.nextMessage();
 			}
@@ -280,6 +327,11 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 		 */
 		private final Method method;
 
+		/**
+		 * The invoker of the {@link Method}, bound to the {@link #bean}.
+		 */
+		private final CallbackInvoker invoker;
+
 		/**
 		 * The scheduler service.
 		 */
@@ -296,6 +348,76 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 		 */
 		private final Class<?> paramClass;
 
+		/**
+		 * Whether the {@link Method} receives batches of elements, as it accepts a {@link List} and either specifies
+		 * a maxBatchSize or accepts {@link Subscriber.Element Subscriber.Elements}.
+		 */
+		private final boolean batch;
+
+		/**
+		 * Whether a batch {@link Method} accepts a {@link List} of {@link Subscriber.Element Subscriber.Elements}
+		 * rather than a {@link List} of element values.
+		 */
+		private final boolean batchOfElements;
+
+		/**
+		 * The maximum number of elements received at once for a batch {@link Method}.
+		 */
+		private final int maxBatchSize;
+
+		/**
+		 * The maximum number of messages, or batches of messages, processed concurrently.
+		 */
+		private final int concurrency;
+
+		/**
+		 * The number of messages, or batches of messages, received ahead of processing.
+		 */
+		private final int prefetch;
+
+		/**
+		 * The maximum number of incomplete asynchronous results returned by the {@link Method},
+		 * {@code 0} if unbounded.
+		 */
+		private final int maxOutstandingResults;
+
+		/**
+		 * Whether messages are received ahead of processing them, rather than one after another.
+		 */
+		private final boolean pipelined;
+
+		/**
+		 * The number of messages, or batches of messages, that may still be received before processing of
+		 * previously received ones has to complete. Only used if {@link #pipelined}.
+		 */
+		private final AtomicInteger permits;
+
+		/**
+		 * Whether a receive request is outstanding. Only used if {@link #pipelined}.
+		 */
+		private final AtomicBoolean receiving = new AtomicBoolean();
+
+		/**
+		 * The number of incomplete asynchronous results returned by the {@link Method}.
+		 */
+		private final AtomicInteger outstandingResults = new AtomicInteger();
+
+		/**
+		 * Processing tasks waiting for one of the {@link #concurrency} processing slots.
+		 */
+		private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+
+		/**
+		 * The number of processing tasks currently running.
+		 */
+		private final AtomicInteger activeTasks = new AtomicInteger();
+
+		/**
+		 * The tail of the processing queue of each channel, keyed by channel. Messages of a channel are
+		 * processed in order, messages of different channels concurrently.
+		 */
+		private final ConcurrentMap<Integer, CompletableFuture<Void>> channelLanes = new ConcurrentHashMap<>();
+
 		/**
 		 * Create a {@link TopicSubscriber}.
 		 *
@@ -313,11 +435,44 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 			this.publishers = publishers;
 			this.bean = bean;
 			this.method = method;
+			this.invoker = CallbackInvoker.forTarget(method, bean);
 			this.scheduler = scheduler;
-			this.commitStrategy = Optional.ofNullable(AnnotationUtils.getAnnotation(method, CoherenceTopicListener.class))
-					.map(CoherenceTopicListener::commitStrategy)
+			final Optional<CoherenceTopicListener> annotation =
+					Optional.ofNullable(AnnotationUtils.getAnnotation(method, CoherenceTopicListener.class));
+			this.commitStrategy = annotation.map(CoherenceTopicListener::commitStrategy)
 					.orElse(CommitStrategy.SYNC);
+			final int maxBatchSize = annotation.map(CoherenceTopicListener::maxBatchSize)
+					.orElse(0);
+			this.concurrency = annotation.map(CoherenceTopicListener::concurrency)
+					.orElse(1);
+			this.prefetch = annotation.map(CoherenceTopicListener::prefetch)
+					.orElse(0);
+			this.maxOutstandingResults = annotation.map(CoherenceTopicListener::maxOutstandingResults)
+					.orElse(0);
+			this.pipelined = this.concurrency > 1 || this.prefetch > 0 || this.maxOutstandingResults > 0;
+			this.permits = new AtomicInteger(this.concurrency + this.prefetch);
 			this.paramClass = method.getParameterTypes()[0];
+			final boolean listParameter = List.class.equals(this.paramClass);
+			this.batchOfElements = listParameter && Subscriber.Element.class.isAssignableFrom(
+					ResolvableType.forMethodParameter(method, 0).getGeneric(0).toClass());
+			this.batch = maxBatchSize > 0 || this.batchOfElements;
+			this.maxBatchSize = (maxBatchSize > 0) ? maxBatchSize : DEFAULT_MAX_BATCH_SIZE;
+			if (maxBatchSize < 0) {
+				throw new IllegalArgumentException(String.format(
+						"The maxBatchSize of @CoherenceTopicListener annotated method %s must not be negative.", method));
+			}
+			if (this.batch && !listParameter) {
+				throw new IllegalArgumentException(String.format(
+						"The @CoherenceTopicListener annotated method %s must accept a List to receive batches.", method));
+			}
+			if (this.concurrency < 1) {
+				throw new IllegalArgumentException(String.format(
+						"The concurrency of @CoherenceTopicListener annotated method %s must be greater than zero.", method));
+			}
+			if (this.prefetch < 0 || this.maxOutstandingResults < 0) {
+				throw new IllegalArgumentException(String.format(
+						"The prefetch and maxOutstandingResults of @CoherenceTopicListener annotated method %s must not be negative.", method));
+			}
 		}
 
 		@Override
@@ -338,22 +493,185 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 		 * end and the {@link com.tangosol.net.topic.Subscriber} will be closed.</p>
 		 */
 		private void nextMessage() {
-			if (this.subscriber.isActive()) {
-				this.subscriber.receive().handle(this::handleMessage)
-						.handle((v, err) -> {
-							if (err != null) {
-								if (logger.isErrorEnabled()) {
-									logger.error(String.format("Error requesting message from topic %s for method %s - subscriber will be closed",
-											this.topicName, this.method),
-											err);
-								}
-								this.subscriber.close();
+			if (this.pipelined) {
+				receiveAhead();
+			}
+			else if (this.subscriber.isActive()) {
+				final CompletableFuture<Void> future = (this.batch)
+						? this.subscriber.receive(this.maxBatchSize).handle(this::handleBatch)
+						: this.subscriber.receive().handle(this::handleMessage);
+				future.handle((v, err) -> {
+					if (err != null) {
+						if (logger.isErrorEnabled()) {
+							logger.error(String.format("Error requesting message from topic %s for method %s - subscriber will be closed",
+									this.topicName, this.method),
+									err);
+						}
+						this.subscriber.close();
+					}
+					return VOID;
+				});
+			}
+		}
+
+		/**
+		 * <p>Request the next message, or batch of messages, unless a request is already outstanding,
+		 * {@link #concurrency} plus {@link #prefetch} received messages have not been processed yet, or
+		 * {@link #maxOutstandingResults} asynchronous results are incomplete.</p>
+		 * <p>Received messages are dispatched per channel onto the scheduler, so that messages of
+		 * different channels are processed concurrently while the messages of each channel are
+		 * processed and committed in order.</p>
+		 */
+		private void receiveAhead() {
+			while (this.subscriber.isActive() && this.receiving.compareAndSet(false, true)) {
+				if (isBelowMaxOutstandingResults()
+						&& this.permits.getAndUpdate((permits) -> (permits > 0) ? permits - 1 : permits) > 0) {
+					final CompletableFuture<Void> future = (this.batch)
+							? this.subscriber.receive(this.maxBatchSize).handle(this::dispatch)
+							: this.subscriber.receive().handle((element, err) ->
+									dispatch((element != null) ? Collections.singletonList(element) : Collections.emptyList(), err));
+					future.handle((v, err) -> {
+						if (err != null) {
+							if (logger.isErrorEnabled()) {
+								logger.error(String.format("Error requesting message from topic %s for method %s - subscriber will be closed",
+										this.topicName, this.method),
+										err);
+							}
+							this.subscriber.close();
+						}
+						return VOID;
+					});
+					return;
+				}
+				this.receiving.set(false);
+				if (this.permits.get() <= 0 || !isBelowMaxOutstandingResults()) {
+					// processing messages and completing results will request the next message
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Dispatch received messages onto the processing queue of their channel and request the next
+		 * message.
+		 * @param elements   the {@link com.tangosol.net.topic.Subscriber.Element Elements} received
+		 * @param throwable  any error from the subscriber
+		 * @return always returns {@link java.lang.Void} (i.e. {@code null})
+		 */
+		private Void dispatch(List<Subscriber.Element<E>> elements, Throwable throwable) {
+			if (throwable != null || elements.isEmpty()) {
+				this.receiving.set(false);
+				completeProcessing((throwable != null)
+						? process(elements, throwable)
+						: SubscriberExceptionHandler.Action.Continue);
+				return VOID;
+			}
+
+			final Map<Integer, List<Subscriber.Element<E>>> elementsByChannel = elements.stream()
+					.collect(Collectors.groupingBy(Subscriber.Element::getChannel, LinkedHashMap::new, Collectors.toList()));
+			final List<CompletableFuture<SubscriberExceptionHandler.Action>> actions = new ArrayList<>();
+			elementsByChannel.forEach((channel, channelElements) -> {
+				final CompletableFuture<SubscriberExceptionHandler.Action> action = new CompletableFuture<>();
+				this.channelLanes.compute(channel, (key, lane) -> ((lane != null) ? lane : CompletableFuture.completedFuture(VOID))
+						.thenRunAsync(() -> {
+							try {
+								action.complete(process(channelElements, null));
+							}
+							catch (Throwable thrown) {
+								action.completeExceptionally(thrown);
+							}
+						}, this::execute));
+				actions.add(action);
+			});
+
+			CompletableFuture.allOf(actions.toArray(new CompletableFuture[0])).handle((v, err) -> {
+				final SubscriberExceptionHandler.Action action = (err != null) ? SubscriberExceptionHandler.Action.Stop
+						: actions.stream().map(CompletableFuture::join)
+								.filter((result) -> result != SubscriberExceptionHandler.Action.Continue)
+								.findFirst()
+								.orElse(SubscriberExceptionHandler.Action.Continue);
+				if (err != null) {
+					logger.error(String.format("Error processing messages from topic %s for method %s - subscriber will be closed",
+							this.topicName, this.method), err);
+				}
+				completeProcessing(action);
+				return VOID;
+			});
+
+			this.receiving.set(false);
+			receiveAhead();
+			return VOID;
+		}
+
+		/**
+		 * Run the given processing task on the scheduler once fewer than {@link #concurrency} tasks are running.
+		 * @param task the processing task
+		 */
+		private void execute(Runnable task) {
+			this.pendingTasks.add(task);
+			runPendingTasks();
+		}
+
+		private void runPendingTasks() {
+			while (!this.pendingTasks.isEmpty()) {
+				final int active = this.activeTasks.get();
+				if (active >= this.concurrency) {
+					// a running task will run the pending tasks on completion
+					return;
+				}
+				if (this.activeTasks.compareAndSet(active, active + 1)) {
+					final Runnable task = this.pendingTasks.poll();
+					if (task == null) {
+						this.activeTasks.decrementAndGet();
+					}
+					else {
+						this.scheduler.schedule(() -> {
+							try {
+								task.run();
+							}
+							finally {
+								this.activeTasks.decrementAndGet();
+								runPendingTasks();
 							}
-							return VOID;
 						});
+					}
+				}
 			}
 		}
 
+		private boolean isBelowMaxOutstandingResults() {
+			return this.maxOutstandingResults == 0 || this.outstandingResults.get() < this.maxOutstandingResults;
+		}
+
+		/**
+		 * Track an asynchronous result of the {@link Method}, so that receiving pauses while
+		 * {@link #maxOutstandingResults} results are incomplete.
+		 */
+		private void acquireOutstandingResult() {
+			if (this.maxOutstandingResults > 0) {
+				this.outstandingResults.incrementAndGet();
+			}
+		}
+
+		private void releaseOutstandingResult() {
+			if (this.maxOutstandingResults > 0) {
+				this.outstandingResults.decrementAndGet();
+				receiveAhead();
+			}
+		}
+
+		private SubscriberExceptionHandler.Action process(List<Subscriber.Element<E>> elements, Throwable throwable) {
+			if (this.batch) {
+				return processBatch(elements, throwable);
+			}
+			return processMessage(elements.isEmpty() ? null : elements.get(0), throwable);
+		}
+
+		private void completeProcessing(SubscriberExceptionHandler.Action action) {
+			this.permits.incrementAndGet();
+			applyAction(action);
+		}
+
 		/**
 		 * <p>After the {@link Method} handles the message
 		 * the next message will be requested from the subscriber.</p>
@@ -367,7 +685,16 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 		 * @return always returns {@link java.lang.Void} (i.e. {@code null})
 		 */
 		private Void handleMessage(Subscriber.Element<E> element, Throwable throwable) {
-			SubscriberExceptionHandler.Action action = SubscriberExceptionHandler.Action.Continue;
+			return applyAction(processMessage(element, throwable));
+		}
+
+		/**
+		 * Forward the message to the {@link Method} and commit it.
+		 * @param element    the {@link com.tangosol.net.topic.Subscriber.Element} received
+		 * @param throwable  any error from the subscriber
+		 * @return the {@link SubscriberExceptionHandler.Action} to take
+		 */
+		private SubscriberExceptionHandler.Action processMessage(Subscriber.Element<E> element, Throwable throwable) {
 			Throwable error = null;
 
 			if (throwable == null) {
@@ -376,7 +703,7 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 					Object value = (Subscriber.Element.class.isAssignableFrom(this.paramClass) && this.paramClass.isAssignableFrom(subscriberElementClass))
 							? element
 							: element.getValue();
-					Object result = this.method.invoke(this.bean, value);
+					Object result = this.invoker.invoke(value);
 					handleResult(result);
 				}
 				catch (Throwable thrown) {
@@ -421,15 +748,116 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 					logger.error(String.format("Error committing element channel=%s position=%s", element.getChannel(), element.getPosition()), thrown);
 				}
 			}
-			else if (error instanceof CancellationException) {
-				// cancellation probably due to subscriber closing so we ignore the error
-				action = SubscriberExceptionHandler.Action.Continue;
+			return resolveAction(element, error);
+		}
+
+		/**
+		 * <p>After the {@link Method} handles a batch of messages the batch is committed
+		 * at its highest position per channel and the next batch will be requested from
+		 * the subscriber.</p>
+		 * <p>Errors are handled in the same way as by {@link #handleMessage(Subscriber.Element, Throwable)}.</p>
+		 * @param elements   the {@link com.tangosol.net.topic.Subscriber.Element Elements} received
+		 * @param throwable  any error from the subscriber
+		 * @return always returns {@link java.lang.Void} (i.e. {@code null})
+		 */
+		private Void handleBatch(List<Subscriber.Element<E>> elements, Throwable throwable) {
+			return applyAction(processBatch(elements, throwable));
+		}
+
+		/**
+		 * Forward the batch of messages to the {@link Method} and commit it.
+		 * @param elements   the {@link com.tangosol.net.topic.Subscriber.Element Elements} received
+		 * @param throwable  any error from the subscriber
+		 * @return the {@link SubscriberExceptionHandler.Action} to take
+		 */
+		private SubscriberExceptionHandler.Action processBatch(List<Subscriber.Element<E>> elements, Throwable throwable) {
+			Throwable error = throwable;
+
+			if (error == null && !elements.isEmpty()) {
+				try {
+					final List<Object> values = (this.batchOfElements)
+							? new ArrayList<>(elements)
+							: elements.stream().map(Subscriber.Element::getValue).collect(Collectors.toList());
+					Object result = this.invoker.invoke(values);
+					handleResult(result);
+				}
+				catch (Throwable thrown) {
+					error = thrown;
+				}
+			}
+
+			if (error == null && !elements.isEmpty() && this.commitStrategy != CommitStrategy.MANUAL) {
+				commitBatch(elements);
 			}
-			else {
-				// an error occurred
-				action = handleException(this.subscriber, this.method, element, error);
+
+			return resolveAction((elements == null || elements.isEmpty()) ? null : elements.get(0), error);
+		}
+
+		/**
+		 * Commit a batch of elements with a single request, at the highest position received per channel.
+		 * @param elements the elements to commit
+		 */
+		private void commitBatch(List<Subscriber.Element<E>> elements) {
+			final Map<Integer, Position> positions = new HashMap<>();
+			for (Subscriber.Element<E> element : elements) {
+				positions.merge(element.getChannel(), element.getPosition(),
+						(position, other) -> (position.compareTo(other) >= 0) ? position : other);
 			}
+			try {
+				CompletableFuture<Map<Integer, Subscriber.CommitResult>> future = this.subscriber.commitAsync(positions);
+				if (this.commitStrategy == CommitStrategy.ASYNC) {
+					// async commit, so log any failure in a future handler
+					future.handle((results, commitError) -> {
+						if (commitError != null) {
+							logger.error(String.format("Error committing positions %s", positions), commitError);
+						}
+						else {
+							logCommitFailures(results);
+						}
+						return VOID;
+					});
+				}
+				else {
+					// sync commit so wait for it to complete
+					logCommitFailures(future.join());
+				}
+			}
+			catch (Throwable thrown) {
+				// With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
+				logger.error(String.format("Error committing positions %s", positions), thrown);
+			}
+		}
 
+		private void logCommitFailures(Map<Integer, Subscriber.CommitResult> results) {
+			results.forEach((channel, result) -> {
+				if (!result.isSuccess()) {
+					// With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
+					logger.error(String.format("Failed to commit channel=%s status %s", channel, result));
+				}
+			});
+		}
+
+		/**
+		 * Determine the {@link SubscriberExceptionHandler.Action} for the outcome of processing.
+		 * @param element  the element processed, the first element of a batch, or {@code null}
+		 * @param error    any error that occurred, or {@code null}
+		 * @return the {@link SubscriberExceptionHandler.Action} to take
+		 */
+		private SubscriberExceptionHandler.Action resolveAction(Subscriber.Element<E> element, Throwable error) {
+			if (error == null || error instanceof CancellationException) {
+				// success, or cancellation probably due to subscriber closing so we ignore the error
+				return SubscriberExceptionHandler.Action.Continue;
+			}
+			// an error occurred
+			return handleException(this.subscriber, this.method, element, error);
+		}
+
+		/**
+		 * Either request the next message or close the subscriber.
+		 * @param action  the {@link SubscriberExceptionHandler.Action} to take
+		 * @return always returns {@link java.lang.Void} (i.e. {@code null})
+		 */
+		private Void applyAction(SubscriberExceptionHandler.Action action) {
 			switch (action) {
 				case Continue:
 					nextMessage();
@@ -446,11 +874,11 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 		}
 
 		/**
-		 * Handle the listener method result and if required forward to publishers.
+		 * Handle the listener method result, track it if it is asynchronous and if required forward to publishers.
 		 * @param result the method result
 		 */
 		private void handleResult(Object result) {
-			if (result == null || this.publishers.length == 0) {
+			if (result == null) {
 				return;
 			}
 
@@ -462,6 +890,7 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 			boolean isAsyncReturnType = CompletionStage.class.isAssignableFrom(type);
 
 			if (isAsyncReturnType) {
+				acquireOutstandingResult();
 				((CompletionStage<?>) result)
 						.handle((msg, err1) -> {
 							if (err1 == null) {
@@ -471,13 +900,18 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 								logger.error("Method " + this.method + " async result completed with an error", err1);
 							}
 							return VOID;
-						});
+						})
+						.whenComplete((v, err) -> releaseOutstandingResult());
 			}
-			else {
-				Flux<?> resultFlux = (Publishers.isConvertibleToPublisher(result.getClass()))
-						? Publishers.convertPublisher(result, Flux.class)
-						: Flux.just(result);
-				handleResultFlux(this.method, resultFlux);
+			else if (Publishers.isConvertibleToPublisher(result.getClass())
+					&& (this.publishers.length > 0 || this.maxOutstandingResults > 0)) {
+				// without @SendTo, reactive results are only subscribed to if they are counted
+				acquireOutstandingResult();
+				handleResultFlux(this.method, Publishers.convertPublisher(result, Flux.class)
+						.doFinally((signal) -> releaseOutstandingResult()));
+			}
+			else if (this.publishers.length > 0) {
+				handleResultFlux(this.method, Flux.just(result));
 			}
 		}
 
@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.messaging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import com.oracle.coherence.spring.annotation.OrderingStrategy;
+import com.oracle.coherence.spring.messaging.exceptions.CoherencePublisherException;
+import com.tangosol.net.topic.NamedTopic;
+import com.tangosol.net.topic.Publisher;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * Sends the messages of a {@link CoherencePublisherProxyFactoryBean} publisher method to a single topic.
+ * Messages are assigned to the channels of the topic according to an {@link OrderingStrategy}. For
+ * {@link OrderingStrategy#HASH}, the channel is selected by the hash code of the ordering key, which must not
+ * be {@code null}, and one Coherence publisher per channel is created on demand, ordered by the id of the
+ * channel. As each publisher method owns its {@link TopicPublisher} instances, these publishers are not shared
+ * between methods.
+ * If batching is enabled, messages are accumulated and handed to the Coherence publishers in one burst once the
+ * batch is full, the linger time elapsed or {@link #flush()} is called. {@link Publisher} offers no operation to
+ * publish several messages at once, but it queues the messages published while a request to a channel is in
+ * flight and sends them with the next request, so a burst takes fewer round trips than the same messages
+ * published as they arrive. Each message still completes its own {@link Publisher.Status} future.
+ * <p>
+ * If a maximum number of in-flight messages is set, callers wait for a message to complete before another
+ * one is accepted, for at most the configured maximum block time. Before waiting, the current batch is
+ * published, as its messages may hold all permits.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+final class TopicPublisher implements AutoCloseable {
+
+	private static final Log logger = LogFactory.getLog(TopicPublisher.class);
+
+	private final NamedTopic<Object> topic;
+
+	private final OrderingStrategy ordering;
+
+	/**
+	 * The publisher used by all strategies but {@link OrderingStrategy#HASH}.
+	 */
+	private final Publisher<Object> publisher;
+
+	/**
+	 * The publishers per channel used by {@link OrderingStrategy#HASH}, created on demand.
+	 */
+	private final AtomicReferenceArray<Publisher<Object>> channelPublishers;
+
+	private final int batchSize;
+
+	private final long lingerMillis;
+
+	private final ScheduledExecutorService lingerScheduler;
+
+	private final boolean batching;
+
+	/**
+	 * The permits for in-flight messages, {@code null} if the number of in-flight messages is not limited.
+	 */
+	private final Semaphore inFlightPermits;
+
+	private final Duration maxBlock;
+
+	/**
+	 * The messages of the current batch, {@code null} if no batch is open. Guarded by {@code this}.
+	 */
+	private List<PendingMessage> batch;
+
+	/**
+	 * The scheduled flush of the current batch, if any. Guarded by {@code this}.
+	 */
+	private ScheduledFuture<?> lingerTask;
+
+	/**
+	 * Create a {@link TopicPublisher}.
+	 * @param topic the topic to publish to
+	 * @param ordering the strategy used to select the channel of a message
+	 * @param batchSize the number of messages that trigger the publication of a batch, {@code 0} for no limit
+	 * @param lingerMillis the maximum time in milliseconds a message is held back, {@code 0} for no limit
+	 * @param lingerScheduler the scheduler used to flush batches after the linger time, required if
+	 * {@code lingerMillis} is greater than zero
+	 * @param maxInFlight the maximum number of messages that are accepted but not yet completed, {@code 0}
+	 * for no limit
+	 * @param maxBlock the maximum time to wait for an in-flight message to complete once {@code maxInFlight}
+	 * is reached, {@code null} to wait indefinitely, {@link Duration#ZERO} to fail immediately
+	 */
+	TopicPublisher(NamedTopic<Object> topic, OrderingStrategy ordering, int batchSize, long lingerMillis,
+			ScheduledExecutorService lingerScheduler, int maxInFlight, Duration maxBlock) {
+		Assert.notNull(topic, "topic must not be null.");
+		Assert.notNull(ordering, "ordering must not be null.");
+		Assert.isTrue(lingerMillis <= 0 || lingerScheduler != null, "A lingerScheduler is required if a linger time is set.");
+		this.topic = topic;
+		this.ordering = ordering;
+		if (ordering == OrderingStrategy.HASH) {
+			this.publisher = null;
+			this.channelPublishers = new AtomicReferenceArray<>(topic.getChannelCount());
+		}
+		else {
+			this.publisher = topic.createPublisher(getOrderBy(ordering));
+			this.channelPublishers = null;
+		}
+		this.batchSize = Math.max(0, batchSize);
+		this.lingerMillis = Math.max(0, lingerMillis);
+		this.lingerScheduler = lingerScheduler;
+		this.batching = this.batchSize > 1 || this.lingerMillis > 0;
+		this.inFlightPermits = (maxInFlight > 0) ? new Semaphore(maxInFlight) : null;
+		this.maxBlock = maxBlock;
+	}
+
+	private static Publisher.OrderBy<Object> getOrderBy(OrderingStrategy ordering) {
+		switch (ordering) {
+			case ROUND_ROBIN:
+				return Publisher.OrderBy.roundRobin();
+			case NONE:
+				return Publisher.OrderBy.none();
+			default:
+				return Publisher.OrderBy.thread();
+		}
+	}
+
+	/**
+	 * Publish a message, either immediately or as part of the next batch.
+	 * @param value the message to publish
+	 * @param orderingKey the key selecting the channel if the ordering strategy is {@link OrderingStrategy#HASH},
+	 * ignored otherwise
+	 * @return a future completed with the status of the published message
+	 * @throws CoherencePublisherException if the maximum number of in-flight messages is reached and no
+	 * message completed within the maximum block time
+	 * @throws IllegalArgumentException if the ordering strategy is {@link OrderingStrategy#HASH} and the ordering
+	 * key is {@code null}
+	 */
+	CompletableFuture<Publisher.Status> publish(Object value, Object orderingKey) {
+		return publish(value, orderingKey, null);
+	}
+
+	/**
+	 * Publish a message, either immediately or as part of the next batch.
+	 * @param value the message to publish
+	 * @param orderingKey the key selecting the channel if the ordering strategy is {@link OrderingStrategy#HASH},
+	 * ignored otherwise
+	 * @param failureMapper the function mapping a failure of the publication to the exception the returned future
+	 * completes with, {@code null} to complete it with the failure as is
+	 * @return a future completed with the status of the published message
+	 * @throws CoherencePublisherException if the maximum number of in-flight messages is reached and no
+	 * message completed within the maximum block time
+	 * @throws IllegalArgumentException if the ordering strategy is {@link OrderingStrategy#HASH} and the ordering
+	 * key is {@code null}
+	 */
+	CompletableFuture<Publisher.Status> publish(Object value, Object orderingKey,
+			Function<Throwable, ? extends RuntimeException> failureMapper) {
+		if (this.inFlightPermits == null) {
+			return doPublish(value, orderingKey, failureMapper);
+		}
+		acquirePermit();
+		final CompletableFuture<Publisher.Status> future;
+		try {
+			future = doPublish(value, orderingKey, failureMapper);
+		}
+		catch (RuntimeException ex) {
+			this.inFlightPermits.release();
+			throw ex;
+		}
+		future.whenComplete((status, ex) -> this.inFlightPermits.release());
+		return future;
+	}
+
+	/**
+	 * Publish a message, either immediately or as part of the next batch, without waiting for an in-flight permit.
+	 * Used by callers that must not block and limit the number of their in-flight messages themselves.
+	 * @param value the message to publish
+	 * @param orderingKey the key selecting the channel if the ordering strategy is {@link OrderingStrategy#HASH},
+	 * ignored otherwise
+	 * @return a future completed with the status of the published message
+	 * @throws IllegalArgumentException if the ordering strategy is {@link OrderingStrategy#HASH} and the ordering
+	 * key is {@code null}
+	 */
+	CompletableFuture<Publisher.Status> publishWithoutPermit(Object value, Object orderingKey) {
+		return doPublish(value, orderingKey, null);
+	}
+
+	private void acquirePermit() {
+		if (this.inFlightPermits.tryAcquire()) {
+			return;
+		}
+		if (this.batching && (this.maxBlock == null || !this.maxBlock.isZero())) {
+			// the permits may be held by the messages of the open batch, which only complete once it is sent
+			publishBatch();
+		}
+		try {
+			if (this.maxBlock == null) {
+				this.inFlightPermits.acquire();
+			}
+			else if (!this.inFlightPermits.tryAcquire(this.maxBlock.toNanos(), TimeUnit.NANOSECONDS)) {
+				throw new CoherencePublisherException(String.format(
+						"Unable to publish to topic '%s', the maximum number of in-flight messages was not released within %s.",
+						this.topic.getName(), this.maxBlock), this.topic.getName());
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new CoherencePublisherException(String.format(
+					"Interrupted while waiting to publish to topic '%s'.", this.topic.getName()), ex, this.topic.getName());
+		}
+	}
+
+	private CompletableFuture<Publisher.Status> doPublish(Object value, Object orderingKey,
+			Function<Throwable, ? extends RuntimeException> failureMapper) {
+		final Publisher<Object> publisher = getPublisher(orderingKey);
+		if (!this.batching) {
+			final CompletableFuture<Publisher.Status> future = publisher.publish(value);
+			return (failureMapper != null) ? future.exceptionally((ex) -> {
+				throw failureMapper.apply(ex);
+			}) : future;
+		}
+		final CompletableFuture<Publisher.Status> future = new CompletableFuture<>();
+		List<PendingMessage> fullBatch = null;
+		synchronized (this) {
+			if (this.batch == null) {
+				this.batch = new ArrayList<>((this.batchSize > 0) ? this.batchSize : 16);
+				if (this.lingerMillis > 0) {
+					this.lingerTask = this.lingerScheduler.schedule(this::publishBatch, this.lingerMillis, TimeUnit.MILLISECONDS);
+				}
+			}
+			this.batch.add(new PendingMessage(value, publisher, future, failureMapper));
+			if (this.batchSize > 0 && this.batch.size() >= this.batchSize) {
+				fullBatch = takeBatch();
+			}
+		}
+		if (fullBatch != null) {
+			send(fullBatch);
+		}
+		return future;
+	}
+
+	/**
+	 * Publish the current batch, if any, and flush the underlying publisher.
+	 * @return a future completed once all messages published so far have been sent
+	 */
+	CompletableFuture<Void> flush() {
+		final List<CompletableFuture<?>> futures = new ArrayList<>();
+		for (PendingMessage message : publishBatch()) {
+			futures.add(message.future);
+		}
+		for (Publisher<Object> publisher : getPublishers()) {
+			futures.add(publisher.flush());
+		}
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+	}
+
+	private Publisher<Object> getPublisher(Object orderingKey) {
+		if (this.channelPublishers == null) {
+			return this.publisher;
+		}
+		Assert.notNull(orderingKey, () -> String.format(
+				"The ordering key of a message to topic '%s' must not be null.", this.topic.getName()));
+		final int channel = Math.floorMod(hash(orderingKey), this.channelPublishers.length());
+		Publisher<Object> publisher = this.channelPublishers.get(channel);
+		if (publisher == null) {
+			synchronized (this.channelPublishers) {
+				publisher = this.channelPublishers.get(channel);
+				if (publisher == null) {
+					publisher = this.topic.createPublisher(Publisher.OrderBy.id(channel));
+					this.channelPublishers.set(channel, publisher);
+				}
+			}
+		}
+		return publisher;
+	}
+
+	/**
+	 * Return the hash of the key. Enums are hashed by name, as their {@link Object#hashCode()} differs between JVMs.
+	 * @param orderingKey the ordering key
+	 * @return the hash
+	 */
+	private static int hash(Object orderingKey) {
+		return (orderingKey instanceof Enum) ? ((Enum<?>) orderingKey).name().hashCode() : orderingKey.hashCode();
+	}
+
+	private List<Publisher<Object>> getPublishers() {
+		if (this.channelPublishers == null) {
+			return Collections.singletonList(this.publisher);
+		}
+		final List<Publisher<Object>> publishers = new ArrayList<>();
+		for (int i = 0; i < this.channelPublishers.length(); i++) {
+			final Publisher<Object> publisher = this.channelPublishers.get(i);
+			if (publisher != null) {
+				publishers.add(publisher);
+			}
+		}
+		return publishers;
+	}
+
+	private List<PendingMessage> publishBatch() {
+		final List<PendingMessage> messages;
+		synchronized (this) {
+			messages = takeBatch();
+		}
+		send(messages);
+		return messages;
+	}
+
+	private List<PendingMessage> takeBatch() {
+		final List<PendingMessage> messages = this.batch;
+		this.batch = null;
+		if (this.lingerTask != null) {
+			this.lingerTask.cancel(false);
+			this.lingerTask = null;
+		}
+		return (messages != null) ? messages : Collections.emptyList();
+	}
+
+	/**
+	 * Publish the messages back to back, so that the Coherence publishers send them with as few requests as possible.
+	 * @param messages the messages to publish
+	 */
+	private void send(List<PendingMessage> messages) {
+		for (PendingMessage message : messages) {
+			try {
+				message.publisher.publish(message.value).whenComplete((status, ex) -> {
+					if (ex != null) {
+						message.completeExceptionally(ex);
+					}
+					else {
+						message.future.complete(status);
+					}
+				});
+			}
+			catch (RuntimeException ex) {
+				message.completeExceptionally(ex);
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			flush().get(1, TimeUnit.MINUTES);
+		}
+		catch (Throwable throwable) {
+			logger.error("Error flushing publisher", throwable);
+		}
+
+		for (Publisher<Object> publisher : getPublishers()) {
+			try {
+				publisher.close();
+			}
+			catch (Throwable throwable) {
+				logger.error("Error closing publisher", throwable);
+			}
+		}
+	}
+
+	// ----- inner class PendingMessage -------------------------------------
+
+	private static final class PendingMessage {
+		private final Object value;
+		private final Publisher<Object> publisher;
+		private final CompletableFuture<Publisher.Status> future;
+		private final Function<Throwable, ? extends RuntimeException> failureMapper;
+
+		PendingMessage(Object value, Publisher<Object> publisher, CompletableFuture<Publisher.Status> future,
+				Function<Throwable, ? extends RuntimeException> failureMapper) {
+			this.value = value;
+			this.publisher = publisher;
+			this.future = future;
+			this.failureMapper = failureMapper;
+		}
+
+		void completeExceptionally(Throwable ex) {
+			this.future.completeExceptionally((this.failureMapper != null) ? this.failureMapper.apply(ex) : ex);
+		}
+	}
+}
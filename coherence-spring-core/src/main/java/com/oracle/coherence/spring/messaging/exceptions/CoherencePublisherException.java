@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.messaging.exceptions;
+
+/**
+ * Exception thrown if a {@link com.oracle.coherence.spring.annotation.CoherencePublisher} proxy is unable to
+ * accept a message, e.g. because the maximum number of in-flight messages was reached and no capacity became
+ * available within the configured {@code maxBlock} time.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+public class CoherencePublisherException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String topicName;
+
+	/**
+	 * Creates a new exception.
+	 *
+	 * @param message the message
+	 * @param topicName the name of the topic the message was sent to
+	 */
+	public CoherencePublisherException(String message, String topicName) {
+		super(message);
+		this.topicName = topicName;
+	}
+
+	/**
+	 * Creates a new exception.
+	 *
+	 * @param message the message
+	 * @param cause the cause
+	 * @param topicName the name of the topic the message was sent to
+	 */
+	public CoherencePublisherException(String message, Throwable cause, String topicName) {
+		super(message, cause);
+		this.topicName = topicName;
+	}
+
+	/**
+	 * Return the name of the topic the message was sent to.
+	 * @return the name of the topic
+	 */
+	public String getTopicName() {
+		return this.topicName;
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.oracle.coherence.spring.configuration.annotation.EnableCoherence;
+import com.tangosol.net.Coherence;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ *
+ * @author Gunnar Hillert
+ *
+ */
+@SpringJUnitConfig(BulkCacheableTests.Config.class)
+@DirtiesContext
+public class BulkCacheableTests {
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private BookService bookService;
+
+	@Test
+	public void bulkCacheableMethodIsOnlyInvokedForMissingKeys() {
+		assertThat(this.bookService.findBooks(Arrays.asList("1", "2")))
+				.containsEntry("1", "book-1").containsEntry("2", "book-2");
+		assertThat(this.bookService.findBooks(Arrays.asList("1", "2", "3")))
+				.containsEntry("1", "book-1").containsEntry("2", "book-2").containsEntry("3", "book-3");
+
+		assertThat(this.bookService.getInvocations()).hasSize(2);
+		assertThat(this.bookService.getInvocations().get(0)).containsExactly("1", "2");
+		assertThat(this.bookService.getInvocations().get(1)).containsExactly("3");
+	}
+
+	@Test
+	public void bulkCacheableMethodAcceptsSetOfKeys() {
+		assertThat(this.bookService.findBooksBySet(new LinkedHashSet<>(Arrays.asList("4", "5"))))
+				.containsEntry("4", "book-4").containsEntry("5", "book-5");
+	}
+
+	@Test
+	public void bulkCacheableMethodMustDeclareExactTypes() {
+		assertThatThrownBy(() -> this.bookService.findBooksByArrayList(new ArrayList<>(Arrays.asList("1"))))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("must declare a single Collection, List or Set parameter");
+		assertThatThrownBy(() -> this.bookService.findBooksAsHashMap(Arrays.asList("1")))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("must return a Map");
+	}
+
+	@Test
+	public void getAllLoadsMissingKeysInSingleCall() {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("bulk");
+		final List<Collection<String>> loaderInvocations = new ArrayList<>();
+
+		springCache.put("a", "cached");
+
+		final Map<String, String> values = springCache.getAll(Arrays.asList("a", "b", "c"), (keys) -> {
+			loaderInvocations.add(new ArrayList<>(keys));
+			final Map<String, String> loaded = new HashMap<>();
+			keys.forEach((key) -> loaded.put(key, "loaded-" + key));
+			return loaded;
+		});
+
+		assertThat(values).containsEntry("a", "cached").containsEntry("b", "loaded-b").containsEntry("c", "loaded-c");
+		assertThat(loaderInvocations).hasSize(1);
+		assertThat(loaderInvocations.get(0)).containsExactly("b", "c");
+		assertThat(springCache.<String, String>getAll(Arrays.asList("b", "c", "d")))
+				.containsOnlyKeys("b", "c");
+	}
+
+	public static class BookService {
+
+		private final List<Collection<String>> invocations = new ArrayList<>();
+
+		public List<Collection<String>> getInvocations() {
+			return this.invocations;
+		}
+
+		@BulkCacheable("books")
+		public Map<String, String> findBooks(Collection<String> isbns) {
+			this.invocations.add(new ArrayList<>(isbns));
+			return toBooks(isbns);
+		}
+
+		@BulkCacheable("books")
+		public Map<String, String> findBooksBySet(Set<String> isbns) {
+			return toBooks(isbns);
+		}
+
+		@BulkCacheable("books")
+		public Map<String, String> findBooksByArrayList(ArrayList<String> isbns) {
+			return toBooks(isbns);
+		}
+
+		@BulkCacheable("books")
+		public HashMap<String, String> findBooksAsHashMap(Collection<String> isbns) {
+			return toBooks(isbns);
+		}
+
+		private static HashMap<String, String> toBooks(Collection<String> isbns) {
+			final HashMap<String, String> books = new HashMap<>();
+			isbns.forEach((isbn) -> books.put(isbn, "book-" + isbn));
+			return books;
+		}
+
+	}
+
+	@Configuration
+	@EnableCoherence
+	@EnableCaching
+	static class Config {
+		@Bean
+		CacheManager cacheManager(Coherence coherence) {
+			return new CoherenceCacheManager(coherence);
+		}
+
+		@Bean
+		BookService bookService() {
+			return new BookService();
+		}
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.oracle.coherence.spring.configuration.annotation.EnableCoherence;
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedCache;
+import com.tangosol.util.Extractors;
+import com.tangosol.util.Filters;
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.MapListener;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ *
+ * @author Gunnar Hillert
+ *
+ */
+@SpringJUnitConfig(CoherenceCacheLocalTierTests.Config.class)
+@DirtiesContext
+public class CoherenceCacheLocalTierTests {
+
+	@Autowired
+	private Coherence coherence;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Test
+	public void localTierIsOnlyCreatedForConfiguredCaches() {
+		final CoherenceCache nearCache = (CoherenceCache) this.cacheManager.getCache("near");
+		final CoherenceCache remoteCache = (CoherenceCache) this.cacheManager.getCache("remote");
+
+		assertThat(nearCache.getLocalCache()).isNotNull();
+		assertThat(remoteCache.getLocalCache()).isNull();
+	}
+
+	@Test
+	public void hotKeysAreServedLocallyAndInvalidatedOnChange() {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("near");
+		final LocalCacheTier localCache = springCache.getLocalCache();
+		final NamedCache<String, String> namedCache = this.coherence.getSession().getCache("near");
+
+		springCache.put("foo", "bar");
+
+		await().atMost(Duration.ofSeconds(10)).until(() -> {
+			final long hits = localCache.getHitCount();
+			assertThat(springCache.get("foo").get()).isEqualTo("bar");
+			return localCache.getHitCount() > hits;
+		});
+
+		namedCache.put("foo", "baz");
+
+		await().atMost(Duration.ofSeconds(10)).until(() -> "baz".equals(springCache.get("foo").get()));
+		assertThat(localCache.getInvalidationCount()).isGreaterThanOrEqualTo(1);
+
+		springCache.evict("foo");
+		assertThat(springCache.get("foo")).isNull();
+	}
+
+	@Test
+	public void localTierIsBounded() {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("near");
+
+		for (int i = 0; i < 10; i++) {
+			springCache.put("key" + i, "value" + i);
+		}
+		await().atMost(Duration.ofSeconds(10)).until(() -> {
+			for (int i = 0; i < 10; i++) {
+				springCache.get("key" + i);
+			}
+			assertThat(springCache.getLocalCache().size()).isLessThanOrEqualTo(5);
+			return springCache.getLocalCache().size() == 5;
+		});
+	}
+
+	@Test
+	public void localTierIsPreloadedOnStartup() {
+		final NamedCache<String, String> namedCache = this.coherence.getSession().getCache("preload");
+		namedCache.put("a", "value-a");
+		namedCache.put("b", "value-b");
+		namedCache.put("c", "value-c");
+		namedCache.put("d", "value-d");
+
+		final CoherenceCacheConfiguration preloadConfiguration = new CoherenceCacheConfiguration();
+		preloadConfiguration.setLocalCacheEnabled(true);
+		preloadConfiguration.setPreloadKeys(new HashSet<>(Arrays.asList("a", "b")));
+		preloadConfiguration.setPreloadFilter(Filters.equal(Extractors.identity(), "value-c"));
+
+		final CoherenceCacheManager cacheManager = new CoherenceCacheManager(this.coherence);
+		cacheManager.setCacheConfigurations(Collections.singletonMap("preload", preloadConfiguration));
+		cacheManager.start();
+
+		final CoherenceCache springCache = (CoherenceCache) cacheManager.getCache("preload");
+		assertThat(cacheManager.isRunning()).isTrue();
+		assertThat(cacheManager.getWarmUpTimings()).containsOnlyKeys("preload");
+		assertThat(springCache.getLocalCache().size()).isEqualTo(3);
+		assertThat(springCache.getLocalCache().get("c")).isEqualTo("value-c");
+		assertThat(springCache.getLocalCache().get("d")).isNull();
+	}
+
+	@Test
+	public void localTierIsReleasedOnDestroy() {
+		final CoherenceCacheConfiguration releaseConfiguration = new CoherenceCacheConfiguration();
+		releaseConfiguration.setLocalCacheEnabled(true);
+
+		final CoherenceCacheManager cacheManager = new CoherenceCacheManager(this.coherence);
+		cacheManager.setCacheConfigurations(Collections.singletonMap("release", releaseConfiguration));
+
+		final CoherenceCache springCache = (CoherenceCache) cacheManager.getCache("release");
+		final LocalCacheTier localCache = springCache.getLocalCache();
+		springCache.put("foo", "bar");
+		await().atMost(Duration.ofSeconds(10)).until(() -> {
+			assertThat(springCache.get("foo").get()).isEqualTo("bar");
+			return localCache.size() == 1;
+		});
+
+		cacheManager.destroy();
+		assertThat(localCache.size()).isZero();
+
+		final Object reservation = localCache.reserve("foo");
+		assertThat(localCache.complete("foo", reservation, "bar")).isTrue();
+
+		final NamedCache<String, String> namedCache = this.coherence.getSession().getCache("release");
+		final AtomicBoolean updated = new AtomicBoolean();
+		namedCache.addMapListener(new MapListener<String, String>() {
+			@Override
+			public void entryInserted(MapEvent<String, String> event) {
+			}
+
+			@Override
+			public void entryUpdated(MapEvent<String, String> event) {
+				updated.set(true);
+			}
+
+			@Override
+			public void entryDeleted(MapEvent<String, String> event) {
+			}
+
+			@Override
+			public int characteristics() {
+				return SYNCHRONOUS;
+			}
+		});
+		namedCache.put("foo", "baz");
+
+		await().atMost(Duration.ofSeconds(10)).untilTrue(updated);
+		assertThat(localCache.get("foo")).isEqualTo("bar");
+		assertThat(localCache.getInvalidationCount()).isZero();
+	}
+
+	@Configuration
+	@EnableCoherence
+	@EnableCaching
+	static class Config {
+		@Bean
+		CacheManager cacheManager(Coherence coherence) {
+			final CoherenceCacheConfiguration nearConfiguration = new CoherenceCacheConfiguration();
+			nearConfiguration.setLocalCacheEnabled(true);
+			nearConfiguration.setLocalCacheMaxSize(5);
+
+			final CoherenceCacheManager cacheManager = new CoherenceCacheManager(coherence);
+			cacheManager.setCacheConfigurations(Collections.singletonMap("near", nearConfiguration));
+			return cacheManager;
+		}
+	}
+}
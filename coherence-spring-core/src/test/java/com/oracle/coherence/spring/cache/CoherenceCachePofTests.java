@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.util.Collections;
+
+import com.tangosol.io.pof.ConfigurablePofContext;
+import com.tangosol.net.cache.CacheMap;
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.support.NullValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the POF serialization of the types stored or invoked by {@link CoherenceCache}, using the POF
+ * type ids documented in the reference guide.
+ *
+ * @author Gunnar Hillert
+ */
+public class CoherenceCachePofTests {
+
+	private final ConfigurablePofContext pofContext = new ConfigurablePofContext("pof-config.xml");
+
+	@Test
+	public void nullValueIsSerialized() {
+		assertThat(roundTrip(NullValue.INSTANCE)).isSameAs(NullValue.INSTANCE);
+	}
+
+	@Test
+	public void processorsAreSerialized() {
+		assertRoundTrip(new PutIfAbsentProcessor(NullValue.INSTANCE, 1000L));
+		assertRoundTrip(new PutAllProcessor(Collections.singletonMap("key", "value"), CacheMap.EXPIRY_DEFAULT));
+		assertRoundTrip(new RefreshAheadProcessor(1000L));
+		assertRoundTrip(new RefreshAheadAggregator());
+	}
+
+	@Test
+	public void refreshAheadResultIsSerialized() {
+		final RefreshAheadProcessor.Result result = roundTrip(new RefreshAheadProcessor.Result("value", true, 1000L));
+		assertThat(result.getValue()).isEqualTo("value");
+		assertThat(result.isRefresh()).isTrue();
+		assertThat(result.getExpiry()).isEqualTo(1000L);
+	}
+
+	private void assertRoundTrip(Object value) {
+		final Binary binary = ExternalizableHelper.toBinary(value, this.pofContext);
+		final Object copy = ExternalizableHelper.fromBinary(binary, this.pofContext);
+		assertThat(copy).isInstanceOf(value.getClass());
+		assertThat(ExternalizableHelper.toBinary(copy, this.pofContext)).isEqualTo(binary);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T roundTrip(T value) {
+		return (T) ExternalizableHelper.fromBinary(ExternalizableHelper.toBinary(value, this.pofContext), this.pofContext);
+	}
+
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.oracle.coherence.spring.configuration.annotation.EnableCoherence;
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedCache;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ *
+ * @author Gunnar Hillert
+ *
+ */
+@SpringJUnitConfig(CoherenceCacheTests.Config.class)
+@DirtiesContext
+public class CoherenceCacheTests {
+
+	@Autowired
+	private Coherence coherence;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Test
+	public void concurrentSingleFlightLoadsInvokeLoaderOnce() throws Exception {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("single-flight");
+		final AtomicInteger loaderInvocations = new AtomicInteger();
+		final CountDownLatch start = new CountDownLatch(1);
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+			final List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return springCache.get("key", () -> {
+						loaderInvocations.incrementAndGet();
+						Thread.sleep(500);
+						return "value";
+					});
+				}));
+			}
+			start.countDown();
+
+			for (Future<String> result : results) {
+				assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("value");
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(loaderInvocations.get()).isEqualTo(1);
+		assertThat(springCache.get("key").get()).isEqualTo("value");
+	}
+
+	@Test
+	public void singleFlightLoadReturnsExistingClusterValue() {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("single-flight");
+		final NamedCache<String, String> namedCache = this.coherence.getSession().getCache("single-flight");
+
+		final String value = springCache.get("race", () -> {
+			namedCache.put("race", "winner");
+			return "loser";
+		});
+
+		assertThat(value).isEqualTo("winner");
+		assertThat(namedCache.get("race")).isEqualTo("winner");
+	}
+
+	@Test
+	public void singleFlightLoaderFailureIsPropagated() {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("single-flight");
+
+		assertThatThrownBy(() -> springCache.get("failing", () -> {
+			throw new IllegalArgumentException("boom");
+		})).isInstanceOf(IllegalStateException.class).hasRootCauseInstanceOf(IllegalArgumentException.class);
+		assertThat(springCache.get("failing")).isNull();
+	}
+
+	@Test
+	public void singleFlightLoaderErrorIsPropagatedToWaitingCallers() throws Exception {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("single-flight");
+		final CountDownLatch loading = new CountDownLatch(1);
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			final Future<String> loader = executor.submit(() -> springCache.get("error", () -> {
+				loading.countDown();
+				Thread.sleep(500);
+				throw new AssertionError("boom");
+			}));
+			loading.await(10, TimeUnit.SECONDS);
+			final Future<String> waiter = executor.submit(() -> springCache.get("error", () -> "unused"));
+
+			assertThatThrownBy(() -> loader.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+			assertThatThrownBy(() -> waiter.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertThat(springCache.get("error", () -> "value")).isEqualTo("value");
+	}
+
+	@Test
+	public void retrieveLoaderErrorCompletesExceptionally() {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("async");
+
+		final CompletableFuture<String> result = springCache.retrieve("error", () -> {
+			throw new AssertionError("boom");
+		});
+		assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+		assertThat(springCache.retrieve("error", () -> CompletableFuture.completedFuture("value")).join())
+				.isEqualTo("value");
+	}
+
+	@Test
+	public void retrieveCompletesWithNullOnMiss() throws Exception {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("async");
+
+		assertThat(springCache.retrieve("missing").get(10, TimeUnit.SECONDS)).isNull();
+	}
+
+	@Test
+	public void retrieveLoadsAndStoresMissingValue() throws Exception {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("async");
+		final AtomicInteger loaderInvocations = new AtomicInteger();
+
+		final CompletableFuture<String> first = springCache.retrieve("loaded", () -> {
+			loaderInvocations.incrementAndGet();
+			return CompletableFuture.supplyAsync(() -> "value");
+		});
+		assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("value");
+
+		final CompletableFuture<String> second = springCache.retrieve("loaded", () -> {
+			loaderInvocations.incrementAndGet();
+			return CompletableFuture.completedFuture("other");
+		});
+		assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(loaderInvocations.get()).isEqualTo(1);
+		assertThat(springCache.retrieve("loaded").get(10, TimeUnit.SECONDS)).isEqualTo("value");
+	}
+
+	@Test
+	public void putAsyncStoresValue() throws Exception {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("async");
+
+		springCache.putAsync("async-key", "async-value").get(10, TimeUnit.SECONDS);
+
+		assertThat(springCache.get("async-key").get()).isEqualTo("async-value");
+	}
+
+	@Test
+	public void nullValuesAreCached() {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("negative");
+		final AtomicInteger loaderInvocations = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			final String value = springCache.get("not-found", () -> {
+				loaderInvocations.incrementAndGet();
+				return null;
+			});
+			assertThat(value).isNull();
+		}
+
+		assertThat(loaderInvocations.get()).isEqualTo(1);
+		assertThat(springCache.get("not-found")).isNotNull();
+		assertThat(springCache.get("not-found").get()).isNull();
+		assertThat(springCache.get("not-found", String.class)).isNull();
+	}
+
+	@Test
+	public void entriesExpireAfterTimeToLive() {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("negative");
+
+		springCache.put("expiring", "value");
+		assertThat(springCache.get("expiring").get()).isEqualTo("value");
+
+		await().atMost(Duration.ofSeconds(10)).until(() -> springCache.get("expiring") == null);
+	}
+
+	@Test
+	public void entriesAreRefreshedAhead() throws Exception {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("refresh-ahead");
+		final NamedCache<String, String> namedCache = this.coherence.getSession().getCache("refresh-ahead");
+		final AtomicInteger refreshes = new AtomicInteger();
+		final CountDownLatch refreshed = new CountDownLatch(1);
+		final Callable<String> refreshLoader = () -> {
+			refreshes.incrementAndGet();
+			refreshed.await(10, TimeUnit.SECONDS);
+			return "v2";
+		};
+
+		assertThat(springCache.get("refreshed", () -> "v1")).isEqualTo("v1");
+		assertThat(springCache.get("refreshed", () -> "unused")).isEqualTo("v1");
+
+		await().atMost(Duration.ofSeconds(10)).until(() -> {
+			assertThat(springCache.get("refreshed", refreshLoader)).isEqualTo("v1");
+			return refreshes.get() > 0;
+		});
+		for (int i = 0; i < 5; i++) {
+			assertThat(springCache.get("refreshed", refreshLoader)).isEqualTo("v1");
+		}
+		refreshed.countDown();
+
+		await().atMost(Duration.ofSeconds(10)).until(() -> "v2".equals(namedCache.get("refreshed")));
+		assertThat(refreshes.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void refreshAheadReadsAreServedLocallyUntilDue() throws Exception {
+		final CoherenceCache springCache = (CoherenceCache) this.cacheManager.getCache("refresh-ahead-local");
+		final LocalCacheTier localCache = springCache.getLocalCache();
+		final AtomicInteger refreshes = new AtomicInteger();
+		final Callable<String> refreshLoader = () -> {
+			refreshes.incrementAndGet();
+			return "v2";
+		};
+
+		assertThat(springCache.get("local", () -> "v1")).isEqualTo("v1");
+		await().atMost(Duration.ofSeconds(10)).until(() -> {
+			final long hits = localCache.getHitCount();
+			assertThat(springCache.get("local", refreshLoader)).isEqualTo("v1");
+			return localCache.getHitCount() > hits;
+		});
+		assertThat(refreshes.get()).isZero();
+
+		await().atMost(Duration.ofSeconds(10)).until(() -> "v2".equals(springCache.get("local", refreshLoader)));
+		assertThat(refreshes.get()).isEqualTo(1);
+	}
+
+	@Configuration
+	@EnableCoherence
+	@EnableCaching
+	static class Config {
+		@Bean
+		CacheManager cacheManager(Coherence coherence) {
+			final CoherenceCacheConfiguration singleFlightConfiguration = new CoherenceCacheConfiguration();
+			singleFlightConfiguration.setLoadingMode(LoadingMode.SINGLE_FLIGHT);
+
+			final CoherenceCacheConfiguration negativeConfiguration = new CoherenceCacheConfiguration();
+			negativeConfiguration.setCacheNullValues(true);
+			negativeConfiguration.setTimeToLive(Duration.ofSeconds(2));
+
+			final CoherenceCacheConfiguration refreshAheadConfiguration = new CoherenceCacheConfiguration();
+			refreshAheadConfiguration.setTimeToLive(Duration.ofSeconds(5));
+			refreshAheadConfiguration.setRefreshAheadFactor(0.5);
+
+			final Map<String, CoherenceCacheConfiguration> cacheConfigurations = new HashMap<>();
+			cacheConfigurations.put("single-flight", singleFlightConfiguration);
+			cacheConfigurations.put("negative", negativeConfiguration);
+			cacheConfigurations.put("refresh-ahead", refreshAheadConfiguration);
+
+			final CoherenceCacheConfiguration localRefreshAheadConfiguration =
+					new CoherenceCacheConfiguration(refreshAheadConfiguration);
+			localRefreshAheadConfiguration.setLocalCacheEnabled(true);
+			cacheConfigurations.put("refresh-ahead-local", localRefreshAheadConfiguration);
+
+			final CoherenceCacheManager cacheManager = new CoherenceCacheManager(coherence);
+			cacheManager.setCacheConfigurations(cacheConfigurations);
+			return cacheManager;
+		}
+	}
+}
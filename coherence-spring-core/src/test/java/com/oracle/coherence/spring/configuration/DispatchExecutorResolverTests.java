@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.configuration;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link DispatchExecutorResolver}.
+ *
+ * @author Gunnar Hillert
+ */
+public class DispatchExecutorResolverTests {
+
+	@Test
+	public void defaultExecutorIsNotResolvedByDefault() {
+		final DispatchExecutorResolver resolver = new DispatchExecutorResolver();
+		resolver.setEnvironment(new MockEnvironment());
+		assertThat(resolver.getDefaultExecutor()).isNull();
+	}
+
+	@Test
+	public void threadPerTaskExecutorIsLimited() {
+		final DispatchExecutorResolver resolver = new DispatchExecutorResolver();
+		resolver.setEnvironment(new MockEnvironment()
+				.withProperty(DispatchExecutorResolver.THREAD_PER_TASK_PROPERTY, "true"));
+		assertThat(resolver.getDefaultExecutor()).isInstanceOfSatisfying(ThreadPoolExecutor.class,
+				(executor) -> assertThat(executor.getMaximumPoolSize())
+						.isEqualTo(DispatchExecutorResolver.DEFAULT_CONCURRENCY_LIMIT));
+	}
+
+	@Test
+	public void threadPerTaskExecutorUsesConfiguredLimit() {
+		final DispatchExecutorResolver resolver = new DispatchExecutorResolver();
+		resolver.setEnvironment(new MockEnvironment()
+				.withProperty(DispatchExecutorResolver.THREAD_PER_TASK_PROPERTY, "true")
+				.withProperty(DispatchExecutorResolver.CONCURRENCY_LIMIT_PROPERTY, "8"));
+		assertThat(resolver.getDefaultExecutor()).isInstanceOfSatisfying(ThreadPoolExecutor.class,
+				(executor) -> assertThat(executor.getMaximumPoolSize()).isEqualTo(8));
+	}
+
+	@Test
+	public void threadPerTaskExecutorQueuesTasksOnceLimitIsReached() throws Exception {
+		final DispatchExecutorResolver resolver = new DispatchExecutorResolver();
+		resolver.setEnvironment(new MockEnvironment()
+				.withProperty(DispatchExecutorResolver.THREAD_PER_TASK_PROPERTY, "true")
+				.withProperty(DispatchExecutorResolver.CONCURRENCY_LIMIT_PROPERTY, "1"));
+		final Executor executor = resolver.getDefaultExecutor();
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch completed = new CountDownLatch(1);
+
+		executor.execute(() -> {
+			try {
+				release.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		executor.execute(completed::countDown);
+		assertThat(completed.getCount()).isEqualTo(1);
+
+		release.countDown();
+		assertThat(completed.await(1, TimeUnit.MINUTES)).isTrue();
+	}
+
+}
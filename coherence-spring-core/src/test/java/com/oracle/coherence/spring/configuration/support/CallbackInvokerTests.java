@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.configuration.support;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ *
+ * @author Gunnar Hillert
+ *
+ */
+public class CallbackInvokerTests {
+
+	private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+	@Test
+	public void singletonBeanIsResolvedOnce() throws Throwable {
+		final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("listener", new RootBeanDefinition(Listener.class));
+		final CallbackInvoker invoker = CallbackInvoker.forBean(getMethod("echo"), beanFactory, "listener");
+
+		final int instances = INSTANCES.get();
+		assertThat(invoker.invoke("one")).isEqualTo("one");
+		assertThat(invoker.invoke("two")).isEqualTo("two");
+		assertThat(INSTANCES.get()).isEqualTo(instances + 1);
+	}
+
+	@Test
+	public void prototypeBeanIsResolvedPerInvocation() throws Throwable {
+		final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		final RootBeanDefinition beanDefinition = new RootBeanDefinition(Listener.class);
+		beanDefinition.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		beanFactory.registerBeanDefinition("listener", beanDefinition);
+		final CallbackInvoker invoker = CallbackInvoker.forBean(getMethod("echo"), beanFactory, "listener");
+
+		final int instances = INSTANCES.get();
+		invoker.invoke("one");
+		invoker.invoke("two");
+		assertThat(INSTANCES.get()).isEqualTo(instances + 2);
+	}
+
+	@Test
+	public void voidMethodsReturnNull() throws Throwable {
+		final Listener listener = new Listener();
+		final CallbackInvoker invoker = CallbackInvoker.forTarget(getMethod("record"), listener);
+
+		assertThat(invoker.invoke("value")).isNull();
+		assertThat(listener.recorded).isEqualTo("value");
+	}
+
+	@Test
+	public void exceptionsAreNotWrapped() {
+		final CallbackInvoker invoker = CallbackInvoker.forTarget(getMethod("fail"), new Listener());
+
+		assertThatThrownBy(() -> invoker.invoke("boom")).isInstanceOf(IOException.class).hasMessage("boom");
+		assertThatThrownBy(() -> invoker.invokeUnchecked("boom")).isInstanceOf(UndeclaredThrowableException.class)
+				.hasCauseInstanceOf(IOException.class);
+	}
+
+	private static Method getMethod(String name) {
+		return ReflectionUtils.findMethod(Listener.class, name, (Class<?>[]) null);
+	}
+
+	static class Listener {
+		private Object recorded;
+
+		Listener() {
+			INSTANCES.incrementAndGet();
+		}
+
+		String echo(String value) {
+			return value;
+		}
+
+		void record(Object value) {
+			this.recorded = value;
+		}
+
+		void fail(String message) throws IOException {
+			throw new IOException(message);
+		}
+	}
+}
@@ -15,17 +15,23 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.inject.Inject;
 
 import com.oracle.bedrock.testsupport.deferred.Eventually;
 import com.oracle.coherence.common.collections.ConcurrentHashMap;
+import com.oracle.coherence.spring.annotation.ListenerExecutor;
 import com.oracle.coherence.spring.annotation.MapEventTransformerBinding;
 import com.oracle.coherence.spring.annotation.MapEventTransformerFactory;
 import com.oracle.coherence.spring.annotation.Name;
 import com.oracle.coherence.spring.annotation.PropertyExtractor;
 import com.oracle.coherence.spring.annotation.WhereFilter;
+import com.oracle.coherence.spring.annotation.event.Batch;
 import com.oracle.coherence.spring.annotation.event.CacheName;
+import com.oracle.coherence.spring.annotation.event.Coalesce;
 import com.oracle.coherence.spring.annotation.event.Deleted;
 import com.oracle.coherence.spring.annotation.event.Inserted;
 import com.oracle.coherence.spring.annotation.event.MapName;
@@ -51,6 +57,7 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
@@ -131,6 +138,25 @@ class MapListenerTest {
 		assertThat(transformedEvents.get(2).getNewValue(), is("BART"));
 		assertThat(transformedEvents.get(3).getNewValue(), is("LISA"));
 		assertThat(transformedEvents.get(4).getNewValue(), is("MAGGIE"));
+
+		// Pinned listeners are notified on their own executor
+		List<String> pinnedThreads = this.listener.getPinnedThreads();
+		Eventually.assertDeferred(pinnedThreads::size, is(5));
+		pinnedThreads.forEach((threadName) -> assertThat(threadName.startsWith("pinned-"), is(true)));
+
+		// Coalesced listeners receive the latest state per key in batches, keys inserted and deleted within the
+		// same window are not reported at all
+		Map<String, MapEvent<String, Person>> coalescedEvents = this.listener.getCoalescedEvents();
+		Eventually.assertDeferred(() -> coalescedEvents.containsKey("homer")
+				&& coalescedEvents.get("homer").getNewValue().getLastName().equals("SIMPSON"), is(true));
+		Eventually.assertDeferred(() -> coalescedEvents.values().stream()
+				.allMatch((event) -> event.getKey().equals("homer") || event.getId() == MapEvent.ENTRY_DELETED), is(true));
+		assertThat(this.listener.getCoalescedCount() <= 11, is(true));
+
+		// Batch listeners receive the inserts in batches of at most two events
+		List<List<MapEvent<String, Person>>> batches = this.listener.getBatches();
+		Eventually.assertDeferred(() -> batches.stream().mapToInt(List::size).sum(), is(5));
+		batches.forEach((batch) -> assertThat(batch.size() <= 2, is(true)));
 	}
 
 	// ---- helper classes --------------------------------------------------
@@ -155,6 +181,14 @@ class MapListenerTest {
 
 		private final List<MapEvent<String, String>> transformedWithExtractorEvents = Collections.synchronizedList(new ArrayList<>());
 
+		private final List<String> pinnedThreads = Collections.synchronizedList(new ArrayList<>());
+
+		private final Map<String, MapEvent<String, Person>> coalescedEvents = new ConcurrentHashMap<>();
+
+		private final AtomicInteger coalescedCount = new AtomicInteger();
+
+		private final List<List<MapEvent<String, Person>>> batches = Collections.synchronizedList(new ArrayList<>());
+
 		Integer getEvents(int id) {
 			return this.events.get(id);
 		}
@@ -171,6 +205,41 @@ class MapListenerTest {
 			return this.transformedWithExtractorEvents;
 		}
 
+		public List<String> getPinnedThreads() {
+			return this.pinnedThreads;
+		}
+
+		public Map<String, MapEvent<String, Person>> getCoalescedEvents() {
+			return this.coalescedEvents;
+		}
+
+		public int getCoalescedCount() {
+			return this.coalescedCount.get();
+		}
+
+		@Coalesce(window = "500ms")
+		@CoherenceEventListener
+		void onPeopleCoalesced(@MapName("people") List<MapEvent<String, Person>> events) {
+			this.coalescedCount.addAndGet(events.size());
+			events.forEach((event) -> this.coalescedEvents.put(event.getKey(), event));
+		}
+
+		public List<List<MapEvent<String, Person>>> getBatches() {
+			return this.batches;
+		}
+
+		@Batch(maxSize = 2, maxWait = "1s")
+		@CoherenceEventListener
+		void onPeopleInsertedBatch(@Inserted @MapName("people") List<MapEvent<String, Person>> events) {
+			this.batches.add(events);
+		}
+
+		@ListenerExecutor("pinnedExecutor")
+		@CoherenceEventListener
+		void onPersonInsertedPinned(@Inserted @MapName("people") MapEvent<String, Person> event) {
+			this.pinnedThreads.add(Thread.currentThread().getName());
+		}
+
 		@Synchronous
 		@WhereFilter("firstName = 'Bart' and lastName = 'Simpson'")
 		@CoherenceEventListener
@@ -270,6 +339,11 @@ class MapListenerTest {
 			return new TestListener();
 		}
 
+		@Bean(destroyMethod = "shutdown")
+		ExecutorService pinnedExecutor() {
+			return Executors.newSingleThreadExecutor(new CustomizableThreadFactory("pinned-"));
+		}
+
 		@Bean
 		SessionConfigurationBean sessionConfigurationBeanDefault() {
 			final SessionConfigurationBean sessionConfigurationBean =
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.event.mapevent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.ObservableHashMap;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ *
+ * @author Gunnar Hillert
+ *
+ */
+public class MapEventBatcherTests {
+
+	private final ObservableHashMap<String, Integer> map = new ObservableHashMap<>();
+
+	private final List<List<MapEvent<String, Integer>>> batches = new ArrayList<>();
+
+	@Test
+	public void fullBatchesAreDeliveredImmediately() {
+		final MapEventBatcher<String, Integer> batcher = new MapEventBatcher<>(3, Duration.ofHours(1), this::record);
+
+		for (int i = 0; i < 7; i++) {
+			batcher.add(event(i));
+		}
+
+		assertThat(getBatches()).hasSize(2);
+		assertThat(getBatches().get(0)).extracting(MapEvent::getNewValue).containsExactly(0, 1, 2);
+		assertThat(getBatches().get(1)).extracting(MapEvent::getNewValue).containsExactly(3, 4, 5);
+		assertThat(batcher.getPendingCount()).isEqualTo(1);
+
+		batcher.flush();
+
+		assertThat(getBatches()).hasSize(3);
+		assertThat(getBatches().get(2)).extracting(MapEvent::getNewValue).containsExactly(6);
+		assertThat(batcher.getBatchCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void partialBatchesAreDeliveredAfterMaxWait() {
+		final MapEventBatcher<String, Integer> batcher = new MapEventBatcher<>(100, Duration.ofMillis(50), this::record);
+
+		batcher.add(event(1));
+		batcher.add(event(2));
+
+		await().atMost(Duration.ofSeconds(10)).until(() -> getBatches().size() == 1);
+		assertThat(getBatches().get(0)).extracting(MapEvent::getNewValue).containsExactly(1, 2);
+		assertThat(batcher.getPendingCount()).isZero();
+	}
+
+	@Test
+	public void batchesArePassedOnWithoutHoldingTheLock() throws Exception {
+		final CountDownLatch release = new CountDownLatch(1);
+		final MapEventBatcher<String, Integer> batcher = new MapEventBatcher<>(1, Duration.ofHours(1), (batch) -> {
+			try {
+				release.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			record(batch);
+		});
+		final CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> batcher.add(event(1)));
+		await().atMost(Duration.ofSeconds(10)).until(() -> batcher.getBatchCount() == 1);
+
+		CompletableFuture.runAsync(() -> batcher.add(event(2))).get(10, TimeUnit.SECONDS);
+		assertThat(batcher.getPendingCount()).isZero();
+
+		release.countDown();
+		blocked.get(10, TimeUnit.SECONDS);
+		assertThat(getBatches()).hasSize(2);
+		assertThat(getBatches().get(0)).extracting(MapEvent::getNewValue).containsExactly(1);
+		assertThat(getBatches().get(1)).extracting(MapEvent::getNewValue).containsExactly(2);
+	}
+
+	private synchronized void record(List<MapEvent<String, Integer>> batch) {
+		this.batches.add(batch);
+	}
+
+	private synchronized List<List<MapEvent<String, Integer>>> getBatches() {
+		return new ArrayList<>(this.batches);
+	}
+
+	private MapEvent<String, Integer> event(int value) {
+		return new MapEvent<>(this.map, MapEvent.ENTRY_INSERTED, "key-" + value, null, value);
+	}
+}
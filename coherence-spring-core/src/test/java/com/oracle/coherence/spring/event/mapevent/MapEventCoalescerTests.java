@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.event.mapevent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.ObservableHashMap;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ *
+ * @author Gunnar Hillert
+ *
+ */
+public class MapEventCoalescerTests {
+
+	private final ObservableHashMap<String, Integer> map = new ObservableHashMap<>();
+
+	@Test
+	public void eventsForTheSameKeyAreCollapsed() {
+		final List<List<MapEvent<String, Integer>>> batches = new ArrayList<>();
+		final MapEventCoalescer<String, Integer> coalescer = new MapEventCoalescer<>(Duration.ofHours(1), batches::add);
+
+		coalescer.add(event(MapEvent.ENTRY_INSERTED, "a", null, 1));
+		coalescer.add(event(MapEvent.ENTRY_UPDATED, "b", 10, 11));
+		coalescer.add(event(MapEvent.ENTRY_UPDATED, "a", 1, 2));
+		coalescer.add(event(MapEvent.ENTRY_UPDATED, "b", 11, 12));
+		coalescer.add(event(MapEvent.ENTRY_UPDATED, "a", 2, 3));
+
+		assertThat(coalescer.getPendingCount()).isEqualTo(2);
+		assertThat(coalescer.getCoalescedCount()).isEqualTo(3);
+
+		coalescer.flush();
+
+		assertThat(batches).hasSize(1);
+		final List<MapEvent<String, Integer>> events = batches.get(0);
+		assertThat(events).hasSize(2);
+		assertThat(events.get(0).getKey()).isEqualTo("a");
+		assertThat(events.get(0).getId()).isEqualTo(MapEvent.ENTRY_INSERTED);
+		assertThat(events.get(0).getOldValue()).isNull();
+		assertThat(events.get(0).getNewValue()).isEqualTo(3);
+		assertThat(events.get(1).getKey()).isEqualTo("b");
+		assertThat(events.get(1).getId()).isEqualTo(MapEvent.ENTRY_UPDATED);
+		assertThat(events.get(1).getOldValue()).isEqualTo(10);
+		assertThat(events.get(1).getNewValue()).isEqualTo(12);
+		assertThat(coalescer.getPendingCount()).isZero();
+	}
+
+	@Test
+	public void deleteFollowedByInsertIsReportedAsUpdate() {
+		final MapEvent<String, Integer> collapsed = MapEventCoalescer.collapse(
+				event(MapEvent.ENTRY_DELETED, "a", 1, null), event(MapEvent.ENTRY_INSERTED, "a", null, 2));
+
+		assertThat(collapsed.getId()).isEqualTo(MapEvent.ENTRY_UPDATED);
+		assertThat(collapsed.getOldValue()).isEqualTo(1);
+		assertThat(collapsed.getNewValue()).isEqualTo(2);
+	}
+
+	@Test
+	public void insertFollowedByDeleteIsNotReported() {
+		final List<List<MapEvent<String, Integer>>> batches = new ArrayList<>();
+		final MapEventCoalescer<String, Integer> coalescer = new MapEventCoalescer<>(Duration.ofHours(1), batches::add);
+
+		coalescer.add(event(MapEvent.ENTRY_INSERTED, "a", null, 1));
+		coalescer.add(event(MapEvent.ENTRY_UPDATED, "b", 10, 11));
+		coalescer.add(event(MapEvent.ENTRY_UPDATED, "a", 1, 2));
+		coalescer.add(event(MapEvent.ENTRY_DELETED, "a", 2, null));
+		coalescer.flush();
+
+		assertThat(batches).hasSize(1);
+		assertThat(batches.get(0)).hasSize(1);
+		assertThat(batches.get(0).get(0).getKey()).isEqualTo("b");
+
+		coalescer.add(event(MapEvent.ENTRY_INSERTED, "c", null, 1));
+		coalescer.add(event(MapEvent.ENTRY_DELETED, "c", 1, null));
+		coalescer.flush();
+
+		assertThat(batches).hasSize(1);
+	}
+
+	@Test
+	public void windowIsFlushedAfterItElapsed() {
+		final List<MapEvent<String, Integer>> received = new ArrayList<>();
+		final MapEventCoalescer<String, Integer> coalescer = new MapEventCoalescer<>(Duration.ofMillis(50),
+				(events) -> {
+					synchronized (received) {
+						received.addAll(events);
+					}
+				});
+
+		coalescer.add(event(MapEvent.ENTRY_UPDATED, "a", 1, 2));
+		coalescer.add(event(MapEvent.ENTRY_UPDATED, "a", 2, 3));
+
+		await().atMost(Duration.ofSeconds(10)).until(() -> {
+			synchronized (received) {
+				return received.size() == 1;
+			}
+		});
+		assertThat(received.get(0).getNewValue()).isEqualTo(3);
+	}
+
+	@Test
+	public void windowsAcceptUnitSuffixes() {
+		assertThat(AnnotatedMapListener.parseWindow("50ms")).isEqualTo(Duration.ofMillis(50));
+		assertThat(AnnotatedMapListener.parseWindow("PT0.05S")).isEqualTo(Duration.ofMillis(50));
+		assertThat(AnnotatedMapListener.parseWindow("2s")).isEqualTo(Duration.ofSeconds(2));
+	}
+
+	private MapEvent<String, Integer> event(int id, String key, Integer oldValue, Integer newValue) {
+		return new MapEvent<>(this.map, id, key, oldValue, newValue);
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.event.mapevent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.oracle.coherence.spring.annotation.event.OverflowPolicy;
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.ObservableHashMap;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ *
+ * @author Gunnar Hillert
+ *
+ */
+public class MapEventDispatcherTests {
+
+	private final ObservableHashMap<String, Integer> map = new ObservableHashMap<>();
+
+	@Test
+	public void eventsForTheSameKeyAreDeliveredInOrder() {
+		final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final MapEventDispatcher<String, Integer> dispatcher = new MapEventDispatcher<>((event) ->
+					received.computeIfAbsent(event.getKey(), (key) -> Collections.synchronizedList(new ArrayList<>()))
+							.add(event.getNewValue()), executor, 4, 16, OverflowPolicy.BLOCK);
+
+			for (int i = 0; i < 500; i++) {
+				dispatcher.dispatch(event("key-" + (i % 10), i));
+			}
+
+			await().atMost(Duration.ofSeconds(10)).until(() -> dispatcher.getQueueDepth() == 0
+					&& received.values().stream().mapToInt(List::size).sum() == 500);
+			for (List<Integer> values : received.values()) {
+				assertThat(values).isSorted();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void dropOldestDiscardsQueuedEvents() {
+		final List<Runnable> tasks = new ArrayList<>();
+		final List<Integer> received = new ArrayList<>();
+		final MapEventDispatcher<String, Integer> dispatcher = new MapEventDispatcher<>(
+				(event) -> received.add(event.getNewValue()), tasks::add, 1, 2, OverflowPolicy.DROP_OLDEST);
+
+		dispatcher.dispatch(event("a", 1));
+		dispatcher.dispatch(event("b", 2));
+		dispatcher.dispatch(event("c", 3));
+
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(2);
+		assertThat(dispatcher.getDroppedCount()).isEqualTo(1);
+		assertThat(tasks).hasSize(1);
+
+		tasks.get(0).run();
+
+		assertThat(received).containsExactly(2, 3);
+		assertThat(dispatcher.getQueueDepth()).isZero();
+	}
+
+	@Test
+	public void coalesceReplacesQueuedEventForTheSameKey() {
+		final List<Runnable> tasks = new ArrayList<>();
+		final List<String> received = new ArrayList<>();
+		final MapEventDispatcher<String, Integer> dispatcher = new MapEventDispatcher<>(
+				(event) -> received.add(event.getKey() + "=" + event.getNewValue()), tasks::add, 1, 2, OverflowPolicy.COALESCE);
+
+		dispatcher.dispatch(event("a", 1));
+		dispatcher.dispatch(event("b", 2));
+		dispatcher.dispatch(event("a", 3));
+
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(2);
+		assertThat(dispatcher.getCoalescedCount()).isEqualTo(1);
+
+		tasks.get(0).run();
+
+		assertThat(received).containsExactly("a=3", "b=2");
+	}
+
+	@Test
+	public void listenerExceptionsDoNotStopDelivery() {
+		final List<Runnable> tasks = new ArrayList<>();
+		final List<Integer> received = new ArrayList<>();
+		final MapEventDispatcher<String, Integer> dispatcher = new MapEventDispatcher<>((event) -> {
+			if (event.getNewValue() == 1) {
+				throw new IllegalStateException("boom");
+			}
+			received.add(event.getNewValue());
+		}, tasks::add, 1, 8, OverflowPolicy.BLOCK);
+
+		dispatcher.dispatch(event("a", 1));
+		dispatcher.dispatch(event("a", 2));
+		tasks.get(0).run();
+
+		assertThat(received).containsExactly(2);
+	}
+
+	@Test
+	public void lagIsReportedForQueuedEvents() throws Exception {
+		final List<Runnable> tasks = new ArrayList<>();
+		final MapEventDispatcher<String, Integer> dispatcher = new MapEventDispatcher<>((event) -> { }, tasks::add, 2, 8,
+				OverflowPolicy.BLOCK);
+
+		assertThat(dispatcher.getLagMillis()).isZero();
+		dispatcher.dispatch(event("a", 1));
+		Thread.sleep(50);
+
+		assertThat(dispatcher.getLagMillis()).isGreaterThanOrEqualTo(50);
+		tasks.forEach(Runnable::run);
+		assertThat(dispatcher.getLagMillis()).isZero();
+	}
+
+	private MapEvent<String, Integer> event(String key, Integer value) {
+		return new MapEvent<>(this.map, MapEvent.ENTRY_UPDATED, key, null, value);
+	}
+}
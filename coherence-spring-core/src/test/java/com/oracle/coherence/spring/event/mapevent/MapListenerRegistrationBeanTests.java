@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.event.mapevent;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.oracle.coherence.spring.annotation.event.Batch;
+import com.oracle.coherence.spring.annotation.event.CacheName;
+import com.oracle.coherence.spring.annotation.event.Coalesce;
+import com.oracle.coherence.spring.annotation.event.DispatchQueue;
+import com.oracle.coherence.spring.annotation.event.OverflowPolicy;
+import com.oracle.coherence.spring.annotation.event.ServiceName;
+import com.oracle.coherence.spring.annotation.event.Synchronous;
+import com.tangosol.util.MapEvent;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ *
+ * @author Gunnar Hillert
+ *
+ */
+public class MapListenerRegistrationBeanTests {
+
+	private final GenericApplicationContext applicationContext = new GenericApplicationContext();
+
+	@Test
+	public void listenersAreRoutedByServiceAndCacheName() {
+		final MapListenerRegistrationBean registrationBean = new MapListenerRegistrationBean(null, null);
+		final AnnotatedMapListener<?, ?> all = listener("onAll");
+		final AnnotatedMapListener<?, ?> people = listener("onPeople");
+		final AnnotatedMapListener<?, ?> storage = listener("onStorage");
+		final AnnotatedMapListener<?, ?> storagePeople = listener("onStoragePeople");
+		registrationBean.addMapListener(all);
+		registrationBean.addMapListener(people);
+		registrationBean.addMapListener(storage);
+		registrationBean.addMapListener(storagePeople);
+
+		assertThat(registrationBean.getMapListeners("StorageService", "people"))
+				.containsExactlyInAnyOrder(all, people, storage, storagePeople);
+		assertThat(registrationBean.getMapListeners("StorageService", "orders")).containsExactlyInAnyOrder(all, storage);
+		assertThat(registrationBean.getMapListeners("OtherService", "people")).containsExactlyInAnyOrder(all, people);
+		assertThat(registrationBean.getMapListeners("OtherService", "orders")).containsExactly(all);
+	}
+
+	@Test
+	public void listenersAddedAfterLookupAreRouted() {
+		final MapListenerRegistrationBean registrationBean = new MapListenerRegistrationBean(null, null);
+		final AnnotatedMapListener<?, ?> all = listener("onAll");
+		registrationBean.addMapListener(all);
+		assertThat(registrationBean.getMapListeners("StorageService", "people")).containsExactly(all);
+
+		final AnnotatedMapListener<?, ?> people = listener("onPeople");
+		registrationBean.addMapListener(people);
+
+		assertThat(registrationBean.getMapListeners("StorageService", "people")).containsExactlyInAnyOrder(all, people);
+	}
+
+	@Test
+	public void onlyListsOfEventsAreReceivedAsBatches() {
+		assertThat(observer("onAll", MapEvent.class).isBatch()).isFalse();
+		assertThat(observer("onBatch", List.class).isBatch()).isTrue();
+		assertThat(observer("onCollection", Collection.class).isBatch()).isFalse();
+	}
+
+	@Test
+	public void coalescingCannotBeCombinedWithBatchOrDispatchQueue() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new AnnotatedMapListener<>(observer("onCoalescedBatch", List.class), Collections.emptySet()));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new AnnotatedMapListener<>(observer("onCoalescedQueue", List.class), Collections.emptySet()));
+	}
+
+	@Test
+	public void coalescingCannotBeCombinedWithSynchronousDelivery() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new AnnotatedMapListener<>(observer("onCoalescedSynchronous", MapEvent.class), Collections.emptySet()));
+	}
+
+	@Test
+	public void batchesCannotBeDispatchedThroughSeveralLanes() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new AnnotatedMapListener<>(observer("onBatchLanes", List.class), Collections.emptySet()));
+		assertThat(new AnnotatedMapListener<>(observer("onBatchQueue", List.class), Collections.emptySet()).getBatcher())
+				.isNotNull();
+	}
+
+	private MethodMapListener<Object, Object> observer(String methodName, Class<?> parameterType) {
+		final Method method = ReflectionUtils.findMethod(Listeners.class, methodName, parameterType);
+		return new MethodMapListener<>("listeners", method, this.applicationContext);
+	}
+
+	private AnnotatedMapListener<?, ?> listener(String methodName) {
+		final Method method = ReflectionUtils.findMethod(Listeners.class, methodName, MapEvent.class);
+		final MethodMapListener<Object, Object> observer = new MethodMapListener<>("listeners", method, this.applicationContext);
+		return new AnnotatedMapListener<>(observer, Collections.emptySet());
+	}
+
+	static class Listeners {
+
+		void onAll(MapEvent<Object, Object> event) {
+		}
+
+		void onPeople(@CacheName("people") MapEvent<Object, Object> event) {
+		}
+
+		void onStorage(@ServiceName("StorageService") MapEvent<Object, Object> event) {
+		}
+
+		void onStoragePeople(@ServiceName("StorageService") @CacheName("people") MapEvent<Object, Object> event) {
+		}
+
+		void onBatch(List<MapEvent<Object, Object>> events) {
+		}
+
+		void onCollection(Collection<MapEvent<Object, Object>> events) {
+		}
+
+		@Coalesce(window = "1s")
+		@Batch
+		void onCoalescedBatch(List<MapEvent<Object, Object>> events) {
+		}
+
+		@Coalesce(window = "1s")
+		@DispatchQueue(capacity = 10)
+		void onCoalescedQueue(List<MapEvent<Object, Object>> events) {
+		}
+
+		@Coalesce(window = "1s")
+		@Synchronous
+		void onCoalescedSynchronous(MapEvent<Object, Object> event) {
+		}
+
+		@DispatchQueue(lanes = 4)
+		void onBatchLanes(List<MapEvent<Object, Object>> events) {
+		}
+
+		@DispatchQueue(capacity = 10, overflow = OverflowPolicy.DROP_OLDEST)
+		void onBatchQueue(List<MapEvent<Object, Object>> events) {
+		}
+	}
+}
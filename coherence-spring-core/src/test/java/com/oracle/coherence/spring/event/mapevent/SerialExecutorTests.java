@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.event.mapevent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.oracle.coherence.spring.annotation.event.OverflowPolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ *
+ * @author Gunnar Hillert
+ *
+ */
+public class SerialExecutorTests {
+
+	private final List<Integer> results = new ArrayList<>();
+
+	private final DeferringExecutor delegate = new DeferringExecutor();
+
+	@Test
+	public void tasksRunInOrderAndStopOnceDrained() {
+		final SerialExecutor executor = new SerialExecutor(this.delegate, 10, OverflowPolicy.BLOCK);
+		executor.execute(() -> this.results.add(1));
+		executor.execute(() -> this.results.add(2));
+
+		this.delegate.runAll();
+
+		assertThat(this.results).containsExactly(1, 2);
+		assertThat(this.delegate.submitted).isEqualTo(2);
+		assertThat(executor.getQueueDepth()).isZero();
+	}
+
+	@Test
+	public void offeredTasksExceedTheCapacityWithoutBlocking() {
+		final SerialExecutor executor = new SerialExecutor(this.delegate, 1, OverflowPolicy.BLOCK);
+		executor.offer(() -> this.results.add(1));
+		executor.offer(() -> this.results.add(2));
+		executor.offer(() -> this.results.add(3));
+		assertThat(executor.getQueueDepth()).isEqualTo(3);
+
+		this.delegate.runAll();
+		executor.awaitCapacity();
+
+		assertThat(this.results).containsExactly(1, 2, 3);
+		assertThat(executor.getDroppedCount()).isZero();
+	}
+
+	@Test
+	public void oldestTaskIsDroppedOnceFull() {
+		final SerialExecutor executor = new SerialExecutor(this.delegate, 1, OverflowPolicy.DROP_OLDEST);
+		executor.execute(() -> this.results.add(1));
+		executor.execute(() -> this.results.add(2));
+
+		this.delegate.runAll();
+
+		assertThat(this.results).containsExactly(2);
+		assertThat(executor.getDroppedCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void rejectedTasksDoNotStallLaterTasks() {
+		final SerialExecutor executor = new SerialExecutor(this.delegate, 10, OverflowPolicy.BLOCK);
+		executor.execute(() -> this.results.add(1));
+		executor.execute(() -> this.results.add(2));
+		this.delegate.reject = true;
+
+		this.delegate.runAll();
+		assertThat(this.results).containsExactly(1);
+		assertThat(executor.getDroppedCount()).isEqualTo(1);
+
+		this.delegate.reject = false;
+		executor.execute(() -> this.results.add(3));
+		this.delegate.runAll();
+
+		assertThat(this.results).containsExactly(1, 3);
+	}
+
+	/**
+	 * Runs submitted tasks only when asked to, optionally rejecting them.
+	 */
+	private static final class DeferringExecutor implements Executor {
+
+		private final List<Runnable> tasks = new ArrayList<>();
+
+		private int submitted;
+
+		private boolean reject;
+
+		@Override
+		public void execute(Runnable task) {
+			if (this.reject) {
+				throw new RejectedExecutionException();
+			}
+			this.submitted++;
+			this.tasks.add(task);
+		}
+
+		void runAll() {
+			while (!this.tasks.isEmpty()) {
+				this.tasks.remove(0).run();
+			}
+		}
+	}
+}
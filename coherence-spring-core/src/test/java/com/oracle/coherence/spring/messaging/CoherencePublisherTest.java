@@ -6,17 +6,29 @@
  */
 package com.oracle.coherence.spring.messaging;
 
-
+import java.io.Flushable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import javax.inject.Singleton;
 
+import com.oracle.coherence.spring.annotation.Batching;
 import com.oracle.coherence.spring.annotation.CoherencePublisher;
 import com.oracle.coherence.spring.annotation.CoherencePublisherScan;
+import com.oracle.coherence.spring.annotation.Ordering;
+import com.oracle.coherence.spring.annotation.OrderingKey;
+import com.oracle.coherence.spring.annotation.OrderingStrategy;
 import com.oracle.coherence.spring.annotation.Topic;
 import com.oracle.coherence.spring.configuration.annotation.EnableCoherence;
+import com.oracle.coherence.spring.messaging.exceptions.CoherencePublisherException;
 import com.tangosol.net.Coherence;
 import com.tangosol.net.topic.NamedTopic;
 import com.tangosol.net.topic.Publisher;
@@ -34,6 +46,7 @@ import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringJUnitConfig(CoherencePublisherTest.Config.class)
 @DirtiesContext
@@ -45,6 +58,27 @@ public class CoherencePublisherTest {
 	@Autowired
 	PublishersOne publishersOne;
 
+	@Autowired
+	BatchingPublishers batchingPublishers;
+
+	@Autowired
+	LingeringPublishers lingeringPublishers;
+
+	@Autowired
+	DefaultLingerPublishers defaultLingerPublishers;
+
+	@Autowired
+	BoundedPublishers boundedPublishers;
+
+	@Autowired
+	BlockingPublishers blockingPublishers;
+
+	@Autowired
+	OrderedPublishers orderedPublishers;
+
+	@Autowired
+	FailingPublishers failingPublishers;
+
 	@Test
 	void shouldSendMessage() throws Exception {
 		Subscriber<String> subscriber = getSubscriber("One");
@@ -242,11 +276,226 @@ public class CoherencePublisherTest {
 		assertThat(element.getValue(), is("Three"));
 	}
 
+	@Test
+	void shouldPublishBatchOnceFull() throws Exception {
+		Subscriber<String> subscriber = getSubscriber("Batched");
+
+		CompletableFuture<Publisher.Status> first = this.batchingPublishers.send("One");
+		CompletableFuture<Publisher.Status> second = this.batchingPublishers.send("Two");
+		assertThat(first.isDone(), is(false));
+		assertThat(second.isDone(), is(false));
+
+		CompletableFuture<Publisher.Status> third = this.batchingPublishers.send("Three");
+		assertThat(first.get(1, TimeUnit.MINUTES), is(notNullValue()));
+		assertThat(second.get(1, TimeUnit.MINUTES), is(notNullValue()));
+		assertThat(third.get(1, TimeUnit.MINUTES), is(notNullValue()));
+
+		assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("One"));
+		assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("Two"));
+		assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("Three"));
+	}
+
+	@Test
+	void shouldPublishPartialBatchOnFlush() throws Exception {
+		Subscriber<String> subscriber = getSubscriber("Flushed");
+
+		CompletableFuture<Publisher.Status> future = this.batchingPublishers.sendFlushed("Flushed");
+		assertThat(future.isDone(), is(false));
+
+		this.batchingPublishers.flush();
+		assertThat(future.isDone(), is(true));
+		assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("Flushed"));
+	}
+
+	@Test
+	void shouldPublishBatchOnceFullWithMethodBatchSize() throws Exception {
+		Subscriber<String> subscriber = getSubscriber("MethodBatched");
+
+		CompletableFuture<Publisher.Status> first = this.batchingPublishers.sendInPairs("One");
+		assertThat(first.isDone(), is(false));
+
+		CompletableFuture<Publisher.Status> second = this.batchingPublishers.sendInPairs("Two");
+		assertThat(first.get(1, TimeUnit.MINUTES), is(notNullValue()));
+		assertThat(second.get(1, TimeUnit.MINUTES), is(notNullValue()));
+
+		assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("One"));
+		assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("Two"));
+	}
+
+	@Test
+	void shouldPublishPartialBatchAfterLinger() throws Exception {
+		Subscriber<String> subscriber = getSubscriber("Lingered");
+
+		CompletableFuture<Publisher.Status> future = this.lingeringPublishers.send("Lingered");
+
+		assertThat(future.get(1, TimeUnit.MINUTES), is(notNullValue()));
+		assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("Lingered"));
+	}
+
+	@Test
+	void shouldPublishPartialBatchAfterDefaultLinger() throws Exception {
+		Subscriber<String> subscriber = getSubscriber("DefaultLinger");
+
+		CompletableFuture<Publisher.Status> future = this.defaultLingerPublishers.send("Lingered");
+
+		assertThat(future.get(1, TimeUnit.MINUTES), is(notNullValue()));
+		assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("Lingered"));
+	}
+
+	@Test
+	void shouldRejectZeroLingerForBatches() {
+		CoherencePublisherProxyFactoryBean factoryBean = new CoherencePublisherProxyFactoryBean(DefaultLingerPublishers.class);
+		factoryBean.setBatchSize(100);
+		factoryBean.setLinger("PT0S");
+
+		assertThrows(IllegalArgumentException.class, factoryBean::getObject);
+	}
+
+	@Test
+	void shouldFailFastOnceMaxInFlightIsReached() throws Exception {
+		CompletableFuture<Publisher.Status> first = this.boundedPublishers.send("One");
+		CompletableFuture<Publisher.Status> second = this.boundedPublishers.send("Two");
+
+		assertThrows(CoherencePublisherException.class, () -> this.boundedPublishers.send("Three"));
+
+		this.boundedPublishers.flush();
+		assertThat(first.isDone(), is(true));
+		assertThat(second.isDone(), is(true));
+
+		CompletableFuture<Publisher.Status> fourth = this.boundedPublishers.send("Four");
+		this.boundedPublishers.flush();
+		assertThat(fourth.get(1, TimeUnit.MINUTES), is(notNullValue()));
+	}
+
+	@Test
+	void shouldLimitReactiveSendsWithoutFailingOnceMaxInFlightIsReached() throws Exception {
+		Subscriber<String> subscriber = getSubscriber("BoundedReactive");
+
+		List<Publisher.Status> statuses = this.boundedPublishers.sendAll(Flux.just("One", "Two", "Three"))
+				.get(1, TimeUnit.MINUTES);
+
+		assertThat(statuses.size(), is(3));
+		assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("One"));
+		assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("Two"));
+		assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("Three"));
+	}
+
+	@Test
+	void shouldPublishOpenBatchBeforeWaitingForInFlightMessages() throws Exception {
+		CompletableFuture<Publisher.Status> first = this.blockingPublishers.send("One");
+		CompletableFuture<Publisher.Status> second = this.blockingPublishers.send("Two");
+		assertThat(first.isDone(), is(false));
+
+		CompletableFuture<Publisher.Status> third = CompletableFuture
+				.supplyAsync(() -> this.blockingPublishers.send("Three"))
+				.get(1, TimeUnit.MINUTES);
+		assertThat(first.get(1, TimeUnit.MINUTES), is(notNullValue()));
+		assertThat(second.get(1, TimeUnit.MINUTES), is(notNullValue()));
+		assertThat(third.isDone(), is(false));
+	}
+
+	@Test
+	void shouldPublishMessagesWithEqualOrderingKeyToSameChannel() throws Exception {
+		Subscriber<String> subscriber = getSubscriber("Ordered");
+
+		for (int i = 0; i < 10; i++) {
+			this.orderedPublishers.send("A", "A-" + i).get(1, TimeUnit.MINUTES);
+			this.orderedPublishers.send("B", "B-" + i).get(1, TimeUnit.MINUTES);
+		}
+
+		Map<String, Set<Integer>> channels = new HashMap<>();
+		Map<String, List<String>> received = new HashMap<>();
+		for (int i = 0; i < 20; i++) {
+			Subscriber.Element<String> element = subscriber.receive().get(1, TimeUnit.MINUTES);
+			String key = element.getValue().substring(0, 1);
+			channels.computeIfAbsent(key, (k) -> new HashSet<>()).add(element.getChannel());
+			received.computeIfAbsent(key, (k) -> new ArrayList<>()).add(element.getValue());
+		}
+
+		assertThat(channels.get("A").size(), is(1));
+		assertThat(channels.get("B").size(), is(1));
+		for (int i = 0; i < 10; i++) {
+			assertThat(received.get("A").get(i), is("A-" + i));
+			assertThat(received.get("B").get(i), is("B-" + i));
+		}
+	}
+
+	@Test
+	void shouldPublishMessagesWithEqualEnumOrderingKeyToSameChannel() throws Exception {
+		Subscriber<String> subscriber = getSubscriber("OrderedByEnumKey");
+
+		for (int i = 0; i < 10; i++) {
+			this.orderedPublishers.send(Region.EUROPE, "EUROPE-" + i).get(1, TimeUnit.MINUTES);
+		}
+
+		Set<Integer> channels = new HashSet<>();
+		for (int i = 0; i < 10; i++) {
+			Subscriber.Element<String> element = subscriber.receive().get(1, TimeUnit.MINUTES);
+			channels.add(element.getChannel());
+			assertThat(element.getValue(), is("EUROPE-" + i));
+		}
+		assertThat(channels.size(), is(1));
+	}
+
+	@Test
+	void shouldRejectNullOrderingKey() {
+		assertThrows(IllegalArgumentException.class, () -> this.orderedPublishers.send((String) null, "Unordered"));
+	}
+
+	@Test
+	void shouldPublishRoundRobinToAllChannels() throws Exception {
+		Subscriber<String> subscriber = getSubscriber("RoundRobin");
+		int channelCount = this.coherence.getSession().getTopic("RoundRobin").getChannelCount();
+
+		for (int i = 0; i < channelCount; i++) {
+			this.orderedPublishers.sendRoundRobin("Message-" + i).get(1, TimeUnit.MINUTES);
+		}
+
+		Set<Integer> channels = new HashSet<>();
+		for (int i = 0; i < channelCount; i++) {
+			channels.add(subscriber.receive().get(1, TimeUnit.MINUTES).getChannel());
+		}
+		assertThat(channels.size() > 1, is(true));
+	}
+
 	private Subscriber<String> getSubscriber(String name) {
 		NamedTopic<String> topic = this.coherence.getSession().getTopic(name);
 		return topic.createSubscriber();
 	}
 
+	@Test
+	void shouldWrapFailureOfValue() {
+		ExecutionException exception = assertThrows(ExecutionException.class,
+				() -> this.failingPublishers.sendValue(new Unserializable()).get(1, TimeUnit.MINUTES));
+		assertSendFailure(exception.getCause());
+	}
+
+	@Test
+	void shouldWrapFailureOfRuntimeValue() {
+		ExecutionException exception = assertThrows(ExecutionException.class,
+				() -> this.failingPublishers.sendRuntimeValue(new Unserializable()).get(1, TimeUnit.MINUTES));
+		assertSendFailure(exception.getCause());
+	}
+
+	@Test
+	void shouldWrapFailureOfReactiveValue() {
+		ExecutionException exception = assertThrows(ExecutionException.class,
+				() -> this.failingPublishers.sendReactiveValue(Mono.just(new Unserializable())).get(1, TimeUnit.MINUTES));
+		assertSendFailure(exception.getCause());
+	}
+
+	@Test
+	void shouldWrapFailureOfReactiveReturn() {
+		Throwable exception = assertThrows(RuntimeException.class,
+				() -> this.failingPublishers.sendWithReactiveReturn(new Unserializable()).block(Duration.ofMinutes(1)));
+		assertSendFailure(exception);
+	}
+
+	private static void assertSendFailure(Throwable exception) {
+		assertThat(exception.getClass(), is(RuntimeException.class));
+		assertThat(exception.getMessage().startsWith("Exception sending message for method"), is(true));
+	}
+
 	@Configuration
 	@EnableCoherence
 	@EnableCaching
@@ -282,4 +531,91 @@ public class CoherencePublisherTest {
 		Flux<Publisher.Status> sendReactiveWithReactiveResponse(Flux<String> observable);
 	}
 
+	@CoherencePublisher(batchSize = 2, linger = "PT0.1S")
+	interface FailingPublishers {
+		@Topic("Failing")
+		CompletableFuture<Publisher.Status> sendValue(Unserializable value);
+
+		@Topic("Failing")
+		CompletableFuture<Publisher.Status> sendRuntimeValue(Object value);
+
+		@Topic("Failing")
+		CompletableFuture<Publisher.Status> sendReactiveValue(Mono<Unserializable> value);
+
+		@Topic("Failing")
+		Mono<Publisher.Status> sendWithReactiveReturn(Unserializable value);
+	}
+
+	/**
+	 * An ordering key whose {@link Object#hashCode()} differs between JVMs.
+	 */
+	enum Region {
+		EUROPE
+	}
+
+	/**
+	 * A message that cannot be serialized, so that publishing it fails.
+	 */
+	static class Unserializable {
+	}
+
+	@CoherencePublisher(batchSize = 3, linger = "PT1M")
+	interface BatchingPublishers extends Flushable {
+		@Topic("Batched")
+		CompletableFuture<Publisher.Status> send(String message);
+
+		@Topic("Flushed")
+		CompletableFuture<Publisher.Status> sendFlushed(String message);
+
+		@Topic("MethodBatched")
+		@Batching(batchSize = 2, linger = "PT1M")
+		CompletableFuture<Publisher.Status> sendInPairs(String message);
+
+		@Override
+		void flush();
+	}
+
+	@CoherencePublisher(batchSize = 100, maxInFlight = 2, maxBlock = "PT0S")
+	interface BoundedPublishers extends Flushable {
+		@Topic("Bounded")
+		CompletableFuture<Publisher.Status> send(String message);
+
+		@Topic("BoundedReactive")
+		CompletableFuture<List<Publisher.Status>> sendAll(Flux<String> messages);
+
+		@Override
+		void flush();
+	}
+
+	@CoherencePublisher(batchSize = 100, maxInFlight = 2, linger = "PT10M")
+	interface BlockingPublishers {
+		@Topic("Blocking")
+		CompletableFuture<Publisher.Status> send(String message);
+	}
+
+	@CoherencePublisher
+	interface OrderedPublishers {
+		@Topic("Ordered")
+		CompletableFuture<Publisher.Status> send(@OrderingKey String key, String message);
+
+		@Topic("OrderedByEnumKey")
+		CompletableFuture<Publisher.Status> send(@OrderingKey Region key, String message);
+
+		@Topic("RoundRobin")
+		@Ordering(OrderingStrategy.ROUND_ROBIN)
+		CompletableFuture<Publisher.Status> sendRoundRobin(String message);
+	}
+
+	@CoherencePublisher(batchSize = 100, linger = "PT0.1S")
+	interface LingeringPublishers {
+		@Topic("Lingered")
+		CompletableFuture<Publisher.Status> send(String message);
+	}
+
+	@CoherencePublisher(batchSize = 100)
+	interface DefaultLingerPublishers {
+		@Topic("DefaultLinger")
+		CompletableFuture<Publisher.Status> send(String message);
+	}
+
 }
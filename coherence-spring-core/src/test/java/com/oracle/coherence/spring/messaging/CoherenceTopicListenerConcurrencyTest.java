@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.messaging;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+import com.oracle.coherence.spring.annotation.CoherenceTopicListener;
+import com.oracle.coherence.spring.annotation.Topic;
+import com.oracle.coherence.spring.configuration.annotation.EnableCoherence;
+import com.tangosol.net.Coherence;
+import com.tangosol.net.topic.NamedTopic;
+import com.tangosol.net.topic.Publisher;
+import com.tangosol.net.topic.Subscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link CoherenceTopicListener#concurrency()} using a {@code consumers}
+ * {@link ExecutorService}.
+ */
+@SpringJUnitConfig(CoherenceTopicListenerConcurrencyTest.Config.class)
+@DirtiesContext
+class CoherenceTopicListenerConcurrencyTest {
+
+	@Inject
+	Coherence coherence;
+
+	@Inject
+	ConcurrentListener listener;
+
+	@Autowired
+	CoherenceTopicListenerSubscribers processor;
+
+	@BeforeEach
+	void setup() {
+		// ensure that all subscriber methods are subscribed before the tests start
+		// as subscription is async
+		Eventually.assertDeferred(() -> this.processor.isSubscribed(), is(true));
+	}
+
+	@Test
+	void shouldProcessChannelsConcurrentlyInOrder() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		NamedTopic<Integer> topic = this.coherence.getSession().getTopic("Concurrent");
+
+		try (Publisher<Integer> publisher = topic.createPublisher(Publisher.OrderByValue.value((v) -> v))) {
+			for (int i = 0; i < 40; i++) {
+				publisher.publish(count.getAndIncrement()).get(1, TimeUnit.MINUTES);
+			}
+
+			Eventually.assertDeferred(() -> this.listener.elements.size(), is(40));
+			assertThat(this.listener.maxActive.get() > 1, is(true));
+			assertThat(this.listener.maxActive.get() <= ConcurrentListener.CONCURRENCY, is(true));
+			for (Subscriber.Element<Integer> element : this.listener.elements) {
+				for (Subscriber.Element<Integer> other : this.listener.elements) {
+					if (element.getChannel() == other.getChannel() && element.getPosition().compareTo(other.getPosition()) < 0) {
+						assertThat(this.listener.elements.indexOf(element) < this.listener.elements.indexOf(other), is(true));
+					}
+				}
+			}
+		}
+	}
+
+	@Singleton
+	static class ConcurrentListener {
+		public static final int CONCURRENCY = 4;
+
+		private final List<Subscriber.Element<Integer>> elements = new CopyOnWriteArrayList<>();
+
+		private final AtomicInteger active = new AtomicInteger();
+
+		private final AtomicInteger maxActive = new AtomicInteger();
+
+		@Topic("Concurrent")
+		@CoherenceTopicListener(concurrency = CONCURRENCY)
+		void concurrent(Subscriber.Element<Integer> element) throws InterruptedException {
+			this.maxActive.accumulateAndGet(this.active.incrementAndGet(), Math::max);
+			Thread.sleep(50);
+			this.elements.add(element);
+			this.active.decrementAndGet();
+		}
+	}
+
+	@Configuration
+	@EnableCoherence
+	static class Config {
+		@Bean
+		ConcurrentListener getConcurrentListener() {
+			return new ConcurrentListener();
+		}
+
+		@Bean(destroyMethod = "shutdown")
+		ExecutorService consumers() {
+			return Executors.newFixedThreadPool(ConcurrentListener.CONCURRENCY);
+		}
+	}
+
+}
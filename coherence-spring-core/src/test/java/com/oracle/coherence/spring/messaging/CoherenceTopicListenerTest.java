@@ -8,9 +8,12 @@ package com.oracle.coherence.spring.messaging;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -78,6 +81,12 @@ class CoherenceTopicListenerTest {
 	@Inject
 	ListenerSix listenerSix;
 
+	@Inject
+	ListenerSeven listenerSeven;
+
+	@Inject
+	ListenerNine listenerNine;
+
 	@Autowired
 	CoherenceTopicListenerSubscribers processor;
 
@@ -382,6 +391,85 @@ class CoherenceTopicListenerTest {
 		}
 	}
 
+	@Test
+	void shouldReceiveBatchOfValues() throws Exception {
+		try (Publisher<String> publisher = getPublisher("TwentyOneBatch")) {
+			for (int i = 0; i < 25; i++) {
+				publisher.publish("message-" + i).get(1, TimeUnit.MINUTES);
+			}
+
+			Eventually.assertDeferred(() -> this.listenerSeven.values.size(), is(25));
+			for (Integer batchSize : this.listenerSeven.batchSizes) {
+				assertThat(batchSize <= ListenerSeven.MAX_BATCH_SIZE, is(true));
+			}
+		}
+	}
+
+	@Test
+	void shouldReceiveListValuesWithoutBatching() throws Exception {
+		try (Publisher<List<String>> publisher = getPublisher("TwentyOneList")) {
+			publisher.publish(Arrays.asList("a", "b")).get(1, TimeUnit.MINUTES);
+			publisher.publish(Collections.singletonList("c")).get(1, TimeUnit.MINUTES);
+
+			Eventually.assertDeferred(() -> this.listenerSeven.lists.size(), is(2));
+			assertThat(this.listenerSeven.lists, containsInAnyOrder(Arrays.asList("a", "b"), Collections.singletonList("c")));
+		}
+	}
+
+	@Test
+	void shouldCommitBatchOfElements() throws Exception {
+		NamedTopic<String> topic = this.coherence.getSession().getTopic("TwentyTwoBatch");
+		PagedTopicCaches caches = new PagedTopicCaches(topic.getName(), (CacheService) topic.getService());
+		SubscriberGroupId groupId = SubscriberGroupId.withName(ListenerSeven.GROUP_ID);
+
+		try (Publisher<String> publisher = topic.createPublisher()) {
+			for (int i = 0; i < 25; i++) {
+				publisher.publish("element-" + i).get(1, TimeUnit.MINUTES);
+			}
+
+			Eventually.assertDeferred(() -> this.listenerSeven.elements.size(), is(25));
+			for (Subscriber.Element<String> element : this.listenerSeven.elements) {
+				Eventually.assertDeferred(() -> caches.isCommitted(groupId, element.getChannel(), element.getPosition()), is(true));
+			}
+		}
+	}
+
+	@Test
+	void shouldPauseReceivingWhileAsyncResultsAreOutstanding() throws Exception {
+		try (Publisher<String> publisher = getPublisher("TwentyFourBackpressure")) {
+			for (int i = 0; i < 5; i++) {
+				publisher.publish("message-" + i).get(1, TimeUnit.MINUTES);
+			}
+
+			Eventually.assertDeferred(() -> this.listenerNine.results.size(), is(ListenerNine.MAX_OUTSTANDING_RESULTS));
+			Thread.sleep(500);
+			assertThat(this.listenerNine.results.size(), is(ListenerNine.MAX_OUTSTANDING_RESULTS));
+
+			Eventually.assertDeferred(() -> {
+				this.listenerNine.results.forEach((result) -> result.complete(null));
+				return this.listenerNine.results.size();
+			}, is(5));
+		}
+	}
+
+	@Test
+	void shouldSubscribeToReactiveResultsWithoutSendTo() throws Exception {
+		try (Publisher<String> publisher = getPublisher("TwentyFiveReactiveBackpressure")) {
+			for (int i = 0; i < 5; i++) {
+				publisher.publish("message-" + i).get(1, TimeUnit.MINUTES);
+			}
+
+			Eventually.assertDeferred(() -> this.listenerNine.subscriptions.get(), is(ListenerNine.MAX_OUTSTANDING_RESULTS));
+			Thread.sleep(500);
+			assertThat(this.listenerNine.reactiveResults.size(), is(ListenerNine.MAX_OUTSTANDING_RESULTS));
+
+			Eventually.assertDeferred(() -> {
+				this.listenerNine.reactiveResults.forEach((result) -> result.complete(null));
+				return this.listenerNine.subscriptions.get();
+			}, is(5));
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> Publisher<T> getPublisher(String name, Publisher.Option... options) {
 		NamedTopic<String> topic = this.coherence.getSession().getTopic(name);
@@ -656,6 +744,71 @@ class CoherenceTopicListenerTest {
 		}
 	}
 
+	@Singleton
+	static class ListenerSeven {
+		public static final String GROUP_ID = "test";
+
+		public static final int MAX_BATCH_SIZE = 10;
+
+		private final List<String> values = new CopyOnWriteArrayList<>();
+
+		private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+		private final List<Subscriber.Element<String>> elements = new CopyOnWriteArrayList<>();
+
+		private final List<List<String>> lists = new CopyOnWriteArrayList<>();
+
+		@Topic("TwentyOneBatch")
+		@CoherenceTopicListener(maxBatchSize = MAX_BATCH_SIZE)
+		void values(List<String> batch) {
+			this.batchSizes.add(batch.size());
+			this.values.addAll(batch);
+		}
+
+		@Topic("TwentyOneList")
+		@CoherenceTopicListener
+		void lists(List<String> list) {
+			this.lists.add(list);
+		}
+
+		@Topic("TwentyTwoBatch")
+		@SubscriberGroup(GROUP_ID)
+		@CoherenceTopicListener(maxBatchSize = MAX_BATCH_SIZE)
+		void elements(List<Subscriber.Element<String>> batch) {
+			this.elements.addAll(batch);
+		}
+	}
+
+	@Singleton
+	static class ListenerNine {
+		public static final int MAX_OUTSTANDING_RESULTS = 2;
+
+		private final List<CompletableFuture<Void>> results = new CopyOnWriteArrayList<>();
+
+		private final List<CompletableFuture<Void>> reactiveResults = new CopyOnWriteArrayList<>();
+
+		private final AtomicInteger subscriptions = new AtomicInteger();
+
+		@Topic("TwentyFourBackpressure")
+		@CoherenceTopicListener(maxOutstandingResults = MAX_OUTSTANDING_RESULTS)
+		CompletableFuture<Void> backpressure(String value) {
+			final CompletableFuture<Void> result = new CompletableFuture<>();
+			this.results.add(result);
+			return result;
+		}
+
+		@Topic("TwentyFiveReactiveBackpressure")
+		@CoherenceTopicListener(maxOutstandingResults = MAX_OUTSTANDING_RESULTS)
+		Mono<Void> reactiveBackpressure(String value) {
+			return Mono.defer(() -> {
+				final CompletableFuture<Void> result = new CompletableFuture<>();
+				this.reactiveResults.add(result);
+				this.subscriptions.incrementAndGet();
+				return Mono.fromFuture(result);
+			});
+		}
+	}
+
 	@Configuration
 	@EnableCoherence
 	@EnableCaching
@@ -689,6 +842,16 @@ class CoherenceTopicListenerTest {
 		ListenerSix getListenerSix() {
 			return new ListenerSix();
 		}
+
+		@Bean
+		ListenerSeven getListenerSeven() {
+			return new ListenerSeven();
+		}
+
+		@Bean
+		ListenerNine getListenerNine() {
+			return new ListenerNine();
+		}
 	}
 
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.session;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.tangosol.util.Binary;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * Writes sessions asynchronously, one write per session id at a time, so that the writes for a session are applied
+ * in the order they were submitted. Until its last write completed, the submitted state of a session is available
+ * through {@link #getPendingWrite(String)}, which lets the repository read its own writes. The submitted state is
+ * serialized, so later changes of the session by the caller neither affect the write nor the pending state.
+ * <p>
+ * At most {@code maxPendingWrites} writes are pending at a time; once reached, {@link #submit} blocks until a
+ * pending write completed.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ */
+final class AsyncSessionWriter {
+
+	private static final Log logger = LogFactory.getLog(AsyncSessionWriter.class);
+
+	/**
+	 * The latest submitted write per session id whose chain of writes did not complete yet. Guarded by itself.
+	 */
+	private final Map<String, PendingWrite> pendingWrites = new HashMap<>();
+
+	private final Semaphore permits;
+
+	AsyncSessionWriter(int maxPendingWrites) {
+		Assert.isTrue(maxPendingWrites > 0, "maxPendingWrites must be greater than zero");
+		this.permits = new Semaphore(maxPendingWrites);
+	}
+
+	/**
+	 * Submit a write for a session. The write starts once all writes previously submitted for the same session id
+	 * completed.
+	 * @param id the session id
+	 * @param session the serialized state of the session after the write, or {@code null} if the write removes the
+	 * session
+	 * @param write the supplier starting the write
+	 * @return the future completing with the write
+	 * @throws IllegalStateException if interrupted while waiting for a pending write to complete
+	 */
+	CompletableFuture<?> submit(String id, Binary session, Supplier<CompletableFuture<?>> write) {
+		try {
+			this.permits.acquire();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting to save session " + id, ex);
+		}
+		final PendingWrite pendingWrite;
+		synchronized (this.pendingWrites) {
+			final PendingWrite previous = this.pendingWrites.get(id);
+			final CompletableFuture<?> future = (previous != null)
+					? previous.future.handle((result, ex) -> null).thenCompose((ignored) -> write.get())
+					: start(write);
+			pendingWrite = new PendingWrite(session, future);
+			this.pendingWrites.put(id, pendingWrite);
+		}
+		pendingWrite.future.whenComplete((result, ex) -> {
+			synchronized (this.pendingWrites) {
+				this.pendingWrites.remove(id, pendingWrite);
+			}
+			this.permits.release();
+			if (ex != null) {
+				logger.error("Unable to save session " + id, ex);
+			}
+		});
+		return pendingWrite.future;
+	}
+
+	private static CompletableFuture<?> start(Supplier<CompletableFuture<?>> write) {
+		try {
+			return write.get();
+		}
+		catch (RuntimeException ex) {
+			final CompletableFuture<?> future = new CompletableFuture<>();
+			future.completeExceptionally(ex);
+			return future;
+		}
+	}
+
+	/**
+	 * Return the latest submitted write for the session, if it did not complete yet.
+	 * @param id the session id
+	 * @return the pending write or {@code null}
+	 */
+	PendingWrite getPendingWrite(String id) {
+		synchronized (this.pendingWrites) {
+			return this.pendingWrites.get(id);
+		}
+	}
+
+	/**
+	 * Wait for all pending writes to complete.
+	 */
+	void flush() {
+		flush((session) -> true);
+	}
+
+	/**
+	 * Wait for the pending writes of the sessions matching the predicate to complete.
+	 * @param predicate the predicate testing the serialized state of a session after its pending write, which is
+	 * {@code null} for a pending removal
+	 */
+	void flush(Predicate<Binary> predicate) {
+		final List<CompletableFuture<?>> futures = new ArrayList<>();
+		synchronized (this.pendingWrites) {
+			for (PendingWrite pendingWrite : this.pendingWrites.values()) {
+				if (predicate.test(pendingWrite.session)) {
+					futures.add(pendingWrite.future);
+				}
+			}
+		}
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+		}
+		catch (CompletionException ex) {
+			// already logged per write
+		}
+	}
+
+	/**
+	 * A submitted write and the state of the session after it.
+	 */
+	static final class PendingWrite {
+
+		private final Binary session;
+
+		private final CompletableFuture<?> future;
+
+		PendingWrite(Binary session, CompletableFuture<?> future) {
+			this.session = session;
+			this.future = future;
+		}
+
+		/**
+		 * Return the serialized state of the session after the write.
+		 * @return the session or {@code null} if the write removes the session
+		 */
+		Binary getSession() {
+			return this.session;
+		}
+	}
+
+}
@@ -7,10 +7,18 @@
 package com.oracle.coherence.spring.session;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -18,9 +26,16 @@ import javax.annotation.PreDestroy;
 import com.oracle.coherence.spring.session.events.CoherenceSessionCreatedEventHandler;
 import com.oracle.coherence.spring.session.events.SessionRemovedMapListener;
 import com.oracle.coherence.spring.session.support.PrincipalNameExtractor;
+import com.oracle.coherence.spring.session.support.SessionMetadata;
+import com.tangosol.io.Serializer;
 import com.tangosol.net.NamedCache;
 import com.tangosol.net.events.internal.NamedEventInterceptor;
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.Extractors;
 import com.tangosol.util.Filter;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.aggregator.ReducerAggregator;
 import com.tangosol.util.filter.EqualsFilter;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -58,10 +73,21 @@ public class CoherenceIndexedSessionRepository implements FindByIndexNameSession
 	 */
 	public static final String PRINCIPAL_NAME_ATTRIBUTE = "principalName";
 
+	/**
+	 * The default maximum number of pending asynchronous session writes.
+	 */
+	public static final int DEFAULT_MAX_PENDING_WRITES = 10000;
+
 	static final String SPRING_SECURITY_CONTEXT = "SPRING_SECURITY_CONTEXT";
 
 	private static final Log logger = LogFactory.getLog(CoherenceIndexedSessionRepository.class);
 
+	/**
+	 * Extracts the values of a {@link SessionMetadata} from a session.
+	 */
+	private static final ValueExtractor<MapSession, List<?>> SESSION_METADATA_EXTRACTOR =
+			Extractors.multi("id", "creationTime", "lastAccessedTime", "maxInactiveInterval");
+
 	private final com.tangosol.net.Session coherenceSession;
 
 	private ApplicationEventPublisher eventPublisher;
@@ -82,6 +108,29 @@ public class CoherenceIndexedSessionRepository implements FindByIndexNameSession
 
 	private NamedCache<String, MapSession> sessionCache;
 
+	private boolean binaryAttributes;
+
+	private Serializer serializer;
+
+	private int localCacheMaxSize;
+
+	private Duration lastAccessedTimeGranularity = Duration.ZERO;
+
+	private double lastAccessedTimeGranularityRatio;
+
+	private SessionWriteMode writeMode = SessionWriteMode.SYNC;
+
+	private Duration writeAcknowledgementTimeout = Duration.ofMillis(100);
+
+	private int maxPendingWrites = DEFAULT_MAX_PENDING_WRITES;
+
+	private AsyncSessionWriter asyncSessionWriter;
+
+	/**
+	 * The locally cached sessions with their version, {@code null} if no local cache is used. Guarded by itself.
+	 */
+	private Map<String, LocalSession> localSessions;
+
 	/**
 	 * Create a new {@link CoherenceIndexedSessionRepository} instance.
 	 * @param coherenceSession the Coherence {@link com.tangosol.net.Session} instance to use for managing sessions
@@ -94,6 +143,18 @@ public class CoherenceIndexedSessionRepository implements FindByIndexNameSession
 	@PostConstruct
 	public void init() {
 		this.sessionCache = this.coherenceSession.getCache(this.sessionMapName);
+		this.sessionCache.addIndex(new PrincipalNameExtractor(), false, null);
+		this.serializer = this.sessionCache.getCacheService().getSerializer();
+		this.asyncSessionWriter = new AsyncSessionWriter(this.maxPendingWrites);
+		if (this.localCacheMaxSize > 0) {
+			final int maxSize = this.localCacheMaxSize;
+			this.localSessions = new LinkedHashMap<String, LocalSession>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, LocalSession> eldest) {
+					return size() > maxSize;
+				}
+			};
+		}
 
 		final CoherenceSessionCreatedEventHandler coherenceSessionEventHandler = new CoherenceSessionCreatedEventHandler(this.eventPublisher);
 		final SessionRemovedMapListener sessionRemovedMapListener = new SessionRemovedMapListener(this.eventPublisher);
@@ -114,6 +175,9 @@ public class CoherenceIndexedSessionRepository implements FindByIndexNameSession
 
 	@PreDestroy
 	public void close() {
+		if (this.writeMode != SessionWriteMode.SYNC) {
+			this.asyncSessionWriter.flush();
+		}
 		this.sessionCache.close();
 	}
 
@@ -165,6 +229,166 @@ public class CoherenceIndexedSessionRepository implements FindByIndexNameSession
 		this.saveMode = saveMode;
 	}
 
+	/**
+	 * Set whether session attributes are stored as serialized {@link Binary} values. Reading a session then only
+	 * transfers the serialized attributes, which are deserialized on first access through
+	 * {@link Session#getAttribute(String)}, and changed attributes are sent as serialized values. This also means
+	 * that the attribute classes are not required by the cache servers. Defaults to {@code false}.
+	 * <p>
+	 * Attribute values of the sessions published with session events are not deserialized.
+	 * @param binaryAttributes true to store attributes as serialized values
+	 */
+	public void setBinaryAttributes(boolean binaryAttributes) {
+		this.binaryAttributes = binaryAttributes;
+	}
+
+	public boolean isBinaryAttributes() {
+		return this.binaryAttributes;
+	}
+
+	/**
+	 * Set the maximum number of sessions kept in a local cache. A session found in the local cache is revalidated
+	 * against the stored session by a {@link SessionRevalidationProcessor}, which only transfers the session if it
+	 * was changed since it was cached. Updated sessions are cached with the version of the state they were updated
+	 * to, new sessions once they were updated. With sticky sessions, most reads therefore do not fetch the session. A value of {@code 0} disables the local
+	 * cache, which is the default.
+	 * <p>
+	 * Sessions read from the local cache are copies of the cached session, but unless
+	 * {@link #setBinaryAttributes(boolean) binary attributes} are used, they share the attribute values.
+	 * @param localCacheMaxSize the maximum number of locally cached sessions, must not be negative
+	 */
+	public void setLocalCacheMaxSize(int localCacheMaxSize) {
+		Assert.isTrue(localCacheMaxSize >= 0, "localCacheMaxSize must not be negative");
+		this.localCacheMaxSize = localCacheMaxSize;
+	}
+
+	public int getLocalCacheMaxSize() {
+		return this.localCacheMaxSize;
+	}
+
+	/**
+	 * Set the minimum amount of time by which the last accessed time of a session must have advanced since it was
+	 * last stored before a change of only the last accessed time is saved. Requests that merely access a session
+	 * then do not write to the session store, at the cost of the session expiring up to this amount of time early.
+	 * The default is {@link Duration#ZERO}, which saves every change of the last accessed time.
+	 * <p>
+	 * If other changes of the session are saved, the last accessed time is always saved with them.
+	 * @param lastAccessedTimeGranularity the granularity, must not be null or negative
+	 * @see #setLastAccessedTimeGranularityRatio(double)
+	 */
+	public void setLastAccessedTimeGranularity(Duration lastAccessedTimeGranularity) {
+		Assert.notNull(lastAccessedTimeGranularity, "lastAccessedTimeGranularity must not be null");
+		Assert.isTrue(!lastAccessedTimeGranularity.isNegative(), "lastAccessedTimeGranularity must not be negative");
+		this.lastAccessedTimeGranularity = lastAccessedTimeGranularity;
+	}
+
+	public Duration getLastAccessedTimeGranularity() {
+		return this.lastAccessedTimeGranularity;
+	}
+
+	/**
+	 * Set the granularity of the last accessed time as a fraction of the maximum inactive interval of each session.
+	 * If both this ratio and the {@link #setLastAccessedTimeGranularity(Duration) granularity} are set, the larger
+	 * of the two resulting durations applies. The default is {@code 0}.
+	 * @param lastAccessedTimeGranularityRatio the fraction of the maximum inactive interval, must be at least
+	 * {@code 0} and less than {@code 1}
+	 */
+	public void setLastAccessedTimeGranularityRatio(double lastAccessedTimeGranularityRatio) {
+		Assert.isTrue(lastAccessedTimeGranularityRatio >= 0 && lastAccessedTimeGranularityRatio < 1,
+				"lastAccessedTimeGranularityRatio must be at least 0 and less than 1");
+		this.lastAccessedTimeGranularityRatio = lastAccessedTimeGranularityRatio;
+	}
+
+	public double getLastAccessedTimeGranularityRatio() {
+		return this.lastAccessedTimeGranularityRatio;
+	}
+
+	/**
+	 * Set how {@link #save(CoherenceSpringSession)} waits for session changes to be written. With an asynchronous
+	 * {@link SessionWriteMode}, the writes for a session are applied in the order they were saved and sessions
+	 * read by this repository reflect saved changes that were not written yet. Defaults to
+	 * {@link SessionWriteMode#SYNC}.
+	 * <p>
+	 * Changes that were not written yet are neither visible to other members of the cluster nor to
+	 * {@link #findByIndexNameAndIndexValue(String, String)}, and they are lost if the application stops abruptly.
+	 * @param writeMode the write mode, must not be null
+	 * @see #setWriteAcknowledgementTimeout(Duration)
+	 */
+	public void setWriteMode(SessionWriteMode writeMode) {
+		Assert.notNull(writeMode, "writeMode must not be null");
+		this.writeMode = writeMode;
+	}
+
+	public SessionWriteMode getWriteMode() {
+		return this.writeMode;
+	}
+
+	/**
+	 * Set how long {@link #save(CoherenceSpringSession)} waits for a write to complete with
+	 * {@link SessionWriteMode#ACKNOWLEDGED}. If the write does not complete in time, it continues in the
+	 * background. Defaults to 100 milliseconds.
+	 * @param writeAcknowledgementTimeout the acknowledgement timeout, must not be null or negative
+	 */
+	public void setWriteAcknowledgementTimeout(Duration writeAcknowledgementTimeout) {
+		Assert.notNull(writeAcknowledgementTimeout, "writeAcknowledgementTimeout must not be null");
+		Assert.isTrue(!writeAcknowledgementTimeout.isNegative(), "writeAcknowledgementTimeout must not be negative");
+		this.writeAcknowledgementTimeout = writeAcknowledgementTimeout;
+	}
+
+	public Duration getWriteAcknowledgementTimeout() {
+		return this.writeAcknowledgementTimeout;
+	}
+
+	/**
+	 * Set the maximum number of asynchronous writes that may be pending at a time with
+	 * {@link SessionWriteMode#ACKNOWLEDGED} or {@link SessionWriteMode#FIRE_AND_FORGET}. Once reached,
+	 * {@link #save(CoherenceSpringSession)} blocks until a pending write completed. Defaults to
+	 * {@link #DEFAULT_MAX_PENDING_WRITES}. Must be set before the repository is initialized.
+	 * @param maxPendingWrites the maximum number of pending writes, must be greater than zero
+	 */
+	public void setMaxPendingWrites(int maxPendingWrites) {
+		Assert.isTrue(maxPendingWrites > 0, "maxPendingWrites must be greater than zero");
+		this.maxPendingWrites = maxPendingWrites;
+	}
+
+	public int getMaxPendingWrites() {
+		return this.maxPendingWrites;
+	}
+
+	/**
+	 * Determine whether the last accessed time of the session advanced far enough since it was last stored to
+	 * be saved on its own.
+	 * @param session the session
+	 * @return true if the last accessed time should be saved
+	 * @see #setLastAccessedTimeGranularity(Duration)
+	 */
+	boolean isLastAccessedTimeSaveRequired(CoherenceSpringSession session) {
+		Duration granularity = this.lastAccessedTimeGranularity;
+		final Duration maxInactiveInterval = session.getMaxInactiveInterval();
+		if (this.lastAccessedTimeGranularityRatio > 0 && !maxInactiveInterval.isNegative()) {
+			final Duration ratio = Duration.ofMillis((long) (maxInactiveInterval.toMillis() * this.lastAccessedTimeGranularityRatio));
+			if (ratio.compareTo(granularity) > 0) {
+				granularity = ratio;
+			}
+		}
+		return granularity.isZero() || Duration.between(session.getStoredLastAccessedTime(),
+				session.getLastAccessedTime()).compareTo(granularity) >= 0;
+	}
+
+	/**
+	 * Deserialize an attribute value stored as {@link Binary}.
+	 * @param binary the serialized attribute value
+	 * @param <T> the type of the attribute value
+	 * @return the attribute value
+	 */
+	<T> T deserializeAttribute(Binary binary) {
+		return ExternalizableHelper.fromBinary(binary, this.serializer);
+	}
+
+	private Binary serializeAttribute(Object value) {
+		return ExternalizableHelper.toBinary(value, this.serializer);
+	}
+
 	@Override
 	public CoherenceSpringSession createSession() {
 		MapSession cached = new MapSession();
@@ -181,29 +405,26 @@ public class CoherenceIndexedSessionRepository implements FindByIndexNameSession
 		final long maxInactiveIntervalMillis = session.getMaxInactiveInterval().toMillis();
 		final boolean expireCacheEntry = maxInactiveIntervalMillis > 0;
 
+		if (this.binaryAttributes) {
+			session.serializeAttributes(this::serializeAttribute);
+		}
+
 		if (session.isNew()) {
-			if (expireCacheEntry) {
-				this.sessionCache.put(session.getId(), session.getDelegate(), maxInactiveIntervalMillis);
-			}
-			else {
-				this.sessionCache.put(session.getId(), session.getDelegate());
-			}
+			putSession(session.getId(), session.getDelegate(), expireCacheEntry ? maxInactiveIntervalMillis : 0);
+			session.setStoredVersion(null);
 		}
 		else if (session.isSessionIdChanged()) {
-			this.sessionCache.remove(session.getOriginalId());
+			removeSession(session.getOriginalId());
+			evictLocalSession(session.getOriginalId());
 			session.setOriginalId(session.getId());
 
-			if (expireCacheEntry) {
-				this.sessionCache.put(session.getId(), session.getDelegate(), maxInactiveIntervalMillis);
-			}
-			else {
-				this.sessionCache.put(session.getId(), session.getDelegate());
-			}
+			putSession(session.getId(), session.getDelegate(), expireCacheEntry ? maxInactiveIntervalMillis : 0);
+			session.setStoredVersion(null);
 		}
 		else if (session.hasChanges()) {
 			final SessionUpdateEntryProcessor entryProcessor = new SessionUpdateEntryProcessor();
 			entryProcessor.setDefaultMaxInactiveInterval(this.defaultMaxInactiveInterval);
-			if (session.isLastAccessedTimeChanged()) {
+			if (!session.getLastAccessedTime().equals(session.getStoredLastAccessedTime())) {
 				entryProcessor.setLastAccessedTime(session.getLastAccessedTime());
 			}
 			if (session.isMaxInactiveIntervalChanged()) {
@@ -212,28 +433,172 @@ public class CoherenceIndexedSessionRepository implements FindByIndexNameSession
 			if (!session.getDelta().isEmpty()) {
 				entryProcessor.setDelta(new HashMap<>(session.getDelta()));
 			}
-			this.sessionCache.invoke(session.getId(), entryProcessor);
+			if (this.localSessions != null) {
+				entryProcessor.setBaseVersion(session.getStoredVersion());
+			}
+			final String id = session.getId();
+			if (this.writeMode == SessionWriteMode.SYNC) {
+				final Object result = this.sessionCache.invoke(id, entryProcessor);
+				session.setStoredVersion(cacheLocalSession(id, session.getDelegate(), result));
+			}
+			else {
+				session.setStoredVersion(null);
+				final Binary snapshot = ExternalizableHelper.toBinary(session.getDelegate(), this.serializer);
+				final Binary processor = ExternalizableHelper.toBinary(entryProcessor, this.serializer);
+				submitWrite(id, snapshot, () -> this.sessionCache.async()
+						.invoke(id, ExternalizableHelper.<SessionUpdateEntryProcessor>fromBinary(processor, this.serializer))
+						.whenComplete((result, ex) -> cacheLocalSession(id,
+								ExternalizableHelper.fromBinary(snapshot, this.serializer), result)));
+			}
 		}
 		session.clearChangeFlags();
 
 	}
 
+	/**
+	 * Store the session.
+	 * @param id the session id
+	 * @param session the session
+	 * @param expiryMillis the expiry of the cache entry in milliseconds, {@code 0} for the default expiry of the cache
+	 */
+	private void putSession(String id, MapSession session, long expiryMillis) {
+		if (this.writeMode == SessionWriteMode.SYNC) {
+			if (expiryMillis > 0) {
+				this.sessionCache.put(id, session, expiryMillis);
+			}
+			else {
+				this.sessionCache.put(id, session);
+			}
+			return;
+		}
+		final Binary snapshot = ExternalizableHelper.toBinary(session, this.serializer);
+		submitWrite(id, snapshot, () -> {
+			final MapSession value = ExternalizableHelper.fromBinary(snapshot, this.serializer);
+			return (expiryMillis > 0) ? this.sessionCache.async().put(id, value, expiryMillis)
+					: this.sessionCache.async().put(id, value);
+		});
+	}
+
+	private void removeSession(String id) {
+		if (this.writeMode == SessionWriteMode.SYNC) {
+			this.sessionCache.remove(id);
+		}
+		else {
+			submitWrite(id, null, () -> this.sessionCache.async().remove(id));
+		}
+	}
+
+	private void submitWrite(String id, Binary session, Supplier<CompletableFuture<?>> write) {
+		final CompletableFuture<?> future = this.asyncSessionWriter.submit(id, session, write);
+		if (this.writeMode != SessionWriteMode.ACKNOWLEDGED) {
+			return;
+		}
+		try {
+			future.get(this.writeAcknowledgementTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Write of session %s not acknowledged within %sms, continuing in the background",
+						id, this.writeAcknowledgementTimeout.toMillis()));
+			}
+		}
+		catch (ExecutionException ex) {
+			throw new IllegalStateException("Unable to save session " + id, ex.getCause());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	@Override
 	public CoherenceSpringSession findById(String id) {
-		MapSession saved = this.sessionCache.get(id);
+		final LocalSession saved = findSession(id);
 		if (saved == null) {
 			return null;
 		}
-		if (saved.isExpired()) {
-			deleteById(saved.getId());
+		if (saved.session.isExpired()) {
+			deleteById(saved.session.getId());
 			return null;
 		}
-		return new CoherenceSpringSession(this, saved, false);
+		final CoherenceSpringSession session = new CoherenceSpringSession(this, saved.session, false);
+		session.setStoredVersion(saved.version);
+		return session;
+	}
+
+	private LocalSession findSession(String id) {
+		if (this.writeMode != SessionWriteMode.SYNC) {
+			final AsyncSessionWriter.PendingWrite pendingWrite = this.asyncSessionWriter.getPendingWrite(id);
+			if (pendingWrite != null) {
+				return (pendingWrite.getSession() != null)
+						? new LocalSession(ExternalizableHelper.fromBinary(pendingWrite.getSession(), this.serializer), null)
+						: null;
+			}
+		}
+		if (this.localSessions != null) {
+			return findLocalSession(id);
+		}
+		final MapSession session = this.sessionCache.get(id);
+		return (session != null) ? new LocalSession(session, null) : null;
+	}
+
+	private LocalSession findLocalSession(String id) {
+		final LocalSession cached;
+		synchronized (this.localSessions) {
+			cached = this.localSessions.get(id);
+		}
+		final Object[] result = this.sessionCache.invoke(id,
+				new SessionRevalidationProcessor((cached != null) ? cached.version : null));
+		if (result == null) {
+			evictLocalSession(id);
+			return null;
+		}
+		final Long version = (Long) result[0];
+		final MapSession session;
+		if (result[1] != null) {
+			session = ExternalizableHelper.fromBinary((Binary) result[1], this.serializer);
+			synchronized (this.localSessions) {
+				this.localSessions.put(id, new LocalSession(session, version));
+			}
+		}
+		else {
+			session = cached.session;
+		}
+		return new LocalSession(new MapSession(session), version);
+	}
+
+	/**
+	 * Cache the state a session was updated to by a {@link SessionUpdateEntryProcessor}, if the processor returned
+	 * the version of the updated session. Otherwise the stored session may include changes not known locally, and
+	 * the session is evicted.
+	 * @param id the session id
+	 * @param session the updated state of the session
+	 * @param result the result of the entry processor
+	 * @return the version of the stored session or {@code null} if it is not known
+	 */
+	private Long cacheLocalSession(String id, MapSession session, Object result) {
+		if (!(result instanceof Long)) {
+			evictLocalSession(id);
+			return null;
+		}
+		final Long version = (Long) result;
+		synchronized (this.localSessions) {
+			this.localSessions.put(id, new LocalSession(new MapSession(session), version));
+		}
+		return version;
+	}
+
+	private void evictLocalSession(String id) {
+		if (this.localSessions != null) {
+			synchronized (this.localSessions) {
+				this.localSessions.remove(id);
+			}
+		}
 	}
 
 	@Override
 	public void deleteById(String id) {
-		this.sessionCache.remove(id);
+		removeSession(id);
+		evictLocalSession(id);
 	}
 
 	@Override
@@ -241,8 +606,7 @@ public class CoherenceIndexedSessionRepository implements FindByIndexNameSession
 		if (!PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
 			return Collections.emptyMap();
 		}
-		final Filter<?> filter = new EqualsFilter<>(new PrincipalNameExtractor(), indexValue);
-		final Set<Map.Entry<String, MapSession>> sessions = this.sessionCache.entrySet(filter);
+		final Set<Map.Entry<String, MapSession>> sessions = this.sessionCache.entrySet(principalNameFilter(indexValue));
 
 		final Map<String, CoherenceSpringSession> sessionMap = new HashMap<>(sessions.size());
 		for (Map.Entry<String, MapSession> session : sessions) {
@@ -251,6 +615,49 @@ public class CoherenceIndexedSessionRepository implements FindByIndexNameSession
 		return sessionMap;
 	}
 
+	/**
+	 * Find the id and timestamps of the sessions of a principal. Unlike
+	 * {@link #findByPrincipalName(String)}, this only transfers the extracted values instead of the sessions.
+	 * @param principalName the principal name
+	 * @return a map of session ids to the metadata of the sessions
+	 */
+	public Map<String, SessionMetadata> findSessionMetadataByPrincipalName(String principalName) {
+		final Map<String, List<?>> values = this.sessionCache.aggregate(principalNameFilter(principalName),
+				new ReducerAggregator<>(SESSION_METADATA_EXTRACTOR));
+
+		final Map<String, SessionMetadata> sessionMetadata = new HashMap<>(values.size());
+		for (List<?> value : values.values()) {
+			final String id = (String) value.get(0);
+			sessionMetadata.put(id, new SessionMetadata(id, (Instant) value.get(1), (Instant) value.get(2), (Duration) value.get(3)));
+		}
+		return sessionMetadata;
+	}
+
+	/**
+	 * Delete all sessions of a principal, for instance to log the principal out everywhere. The sessions are
+	 * removed by a single request to the cache servers.
+	 * <p>
+	 * With an asynchronous {@link #setWriteMode(SessionWriteMode) write mode}, pending writes of sessions of the
+	 * principal are awaited first, so that they neither re-create a deleted session nor keep it readable.
+	 * @param principalName the principal name
+	 * @return the ids of the deleted sessions
+	 */
+	public Set<String> deleteByPrincipalName(String principalName) {
+		if (this.writeMode != SessionWriteMode.SYNC) {
+			final PrincipalNameExtractor principalNameExtractor = new PrincipalNameExtractor();
+			this.asyncSessionWriter.flush((session) -> session != null && principalName
+					.equals(principalNameExtractor.extract(ExternalizableHelper.fromBinary(session, this.serializer))));
+		}
+		final Set<String> ids = this.sessionCache.invokeAll(principalNameFilter(principalName),
+				new SessionRemovalProcessor()).keySet();
+		ids.forEach(this::evictLocalSession);
+		return ids;
+	}
+
+	private static Filter<MapSession> principalNameFilter(String principalName) {
+		return new EqualsFilter<>(new PrincipalNameExtractor(), principalName);
+	}
+
 	public FlushMode getFlushMode() {
 		return this.flushMode;
 	}
@@ -274,4 +681,19 @@ public class CoherenceIndexedSessionRepository implements FindByIndexNameSession
 		Assert.notNull(applicationEventPublisher, "ApplicationEventPublisher cannot be null");
 		this.eventPublisher = applicationEventPublisher;
 	}
+
+	/**
+	 * A session and the version of its stored state, if known.
+	 */
+	private static final class LocalSession {
+
+		private final MapSession session;
+
+		private final Long version;
+
+		LocalSession(MapSession session, Long version) {
+			this.session = session;
+			this.version = version;
+		}
+	}
 }
@@ -11,6 +11,9 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+
+import com.tangosol.util.Binary;
 
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.FlushMode;
@@ -40,13 +43,30 @@ final class CoherenceSpringSession implements Session {
 
 	private String originalId;
 
+	/**
+	 * The last accessed time of the session in the session store.
+	 */
+	private Instant storedLastAccessedTime;
+
+	/**
+	 * The version of the session in the session store, if known.
+	 */
+	private Long storedVersion;
+
 	private final Map<String, Object> delta = new HashMap<>();
 
+	/**
+	 * The deserialized values of attributes that are stored as {@link Binary} in the delegate, if the repository
+	 * uses {@link CoherenceIndexedSessionRepository#setBinaryAttributes(boolean) binary attributes}.
+	 */
+	private final Map<String, Object> attributeValues = new HashMap<>();
+
 	CoherenceSpringSession(CoherenceIndexedSessionRepository coherenceIndexedSessionRepository, MapSession cached, boolean isNew) {
 		this.coherenceIndexedSessionRepository = coherenceIndexedSessionRepository;
 		this.delegate = cached;
 		this.isNew = isNew;
 		this.originalId = cached.getId();
+		this.storedLastAccessedTime = cached.getLastAccessedTime();
 		if (this.isNew || (coherenceIndexedSessionRepository.getSaveMode() == SaveMode.ALWAYS)) {
 			getAttributeNames()
 					.forEach((attributeName) -> this.delta.put(attributeName, cached.getAttribute(attributeName)));
@@ -107,10 +127,6 @@ final class CoherenceSpringSession implements Session {
 		return this.sessionIdChanged;
 	}
 
-	boolean isLastAccessedTimeChanged() {
-		return this.lastAccessedTimeChanged;
-	}
-
 	boolean isMaxInactiveIntervalChanged() {
 		return this.maxInactiveIntervalChanged;
 	}
@@ -119,13 +135,39 @@ final class CoherenceSpringSession implements Session {
 		return this.originalId;
 	}
 
+	Instant getStoredLastAccessedTime() {
+		return this.storedLastAccessedTime;
+	}
+
+	Long getStoredVersion() {
+		return this.storedVersion;
+	}
+
+	void setStoredVersion(Long storedVersion) {
+		this.storedVersion = storedVersion;
+	}
+
 	Map<String, Object> getDelta() {
 		return this.delta;
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public synchronized <T> T getAttribute(String attributeName) {
-		final T attributeValue = this.delegate.getAttribute(attributeName);
+		final T attributeValue;
+		if (this.attributeValues.containsKey(attributeName)) {
+			attributeValue = (T) this.attributeValues.get(attributeName);
+		}
+		else {
+			final Object storedValue = this.delegate.getAttribute(attributeName);
+			if (storedValue instanceof Binary) {
+				attributeValue = this.coherenceIndexedSessionRepository.deserializeAttribute((Binary) storedValue);
+				this.attributeValues.put(attributeName, attributeValue);
+			}
+			else {
+				attributeValue = (T) storedValue;
+			}
+		}
 		if (attributeValue != null
 				&& this.coherenceIndexedSessionRepository.getSaveMode().equals(SaveMode.ON_GET_ATTRIBUTE)) {
 			this.delta.put(attributeName, attributeValue);
@@ -141,12 +183,14 @@ final class CoherenceSpringSession implements Session {
 	@Override
 	public void setAttribute(String attributeName, Object attributeValue) {
 		this.delegate.setAttribute(attributeName, attributeValue);
+		this.attributeValues.remove(attributeName);
 		this.delta.put(attributeName, attributeValue);
 		if (CoherenceIndexedSessionRepository.SPRING_SECURITY_CONTEXT.equals(attributeName)) {
 			final Map<String, String> indexes = this.coherenceIndexedSessionRepository.getIndexResolver()
 					.resolveIndexesFor(this);
 			final String principal = (attributeValue != null) ? indexes.get(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME) : null;
 			this.delegate.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, principal);
+			this.delta.put(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, principal);
 		}
 		flushIfNeeded();
 	}
@@ -160,15 +204,46 @@ final class CoherenceSpringSession implements Session {
 		return this.delegate;
 	}
 
+	/**
+	 * Serialize the changed attributes, both in the delegate and in the delta, so that they are stored as
+	 * {@link Binary} values. The deserialized values are retained for subsequent reads. The principal name
+	 * attribute is left as is, so that it can be indexed.
+	 * @param serializer the function serializing an attribute value
+	 */
+	synchronized void serializeAttributes(Function<Object, Binary> serializer) {
+		for (Map.Entry<String, Object> attribute : this.delta.entrySet()) {
+			final String attributeName = attribute.getKey();
+			final Object value = this.attributeValues.containsKey(attributeName)
+					? this.attributeValues.get(attributeName) : attribute.getValue();
+			if (value == null || value instanceof Binary
+					|| FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME.equals(attributeName)) {
+				continue;
+			}
+			final Binary binary = serializer.apply(value);
+			attribute.setValue(binary);
+			this.delegate.setAttribute(attributeName, binary);
+			this.attributeValues.put(attributeName, value);
+		}
+	}
+
 	void setOriginalId(String originalId) {
 		this.originalId = originalId;
 	}
 
+	/**
+	 * Determine whether the session has changes to save. A change of only the last accessed time is ignored until
+	 * it reaches the granularity configured on the repository.
+	 * @return true if the session has changes to save
+	 */
 	boolean hasChanges() {
-		return (this.lastAccessedTimeChanged || this.maxInactiveIntervalChanged || !this.delta.isEmpty());
+		return ((this.lastAccessedTimeChanged && this.coherenceIndexedSessionRepository.isLastAccessedTimeSaveRequired(this))
+				|| this.maxInactiveIntervalChanged || !this.delta.isEmpty());
 	}
 
 	void clearChangeFlags() {
+		if (this.isNew || this.sessionIdChanged || hasChanges()) {
+			this.storedLastAccessedTime = this.delegate.getLastAccessedTime();
+		}
 		this.isNew = false;
 		this.lastAccessedTimeChanged = false;
 		this.sessionIdChanged = false;
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.session;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+import org.springframework.session.MapSession;
+
+/**
+ * Coherence {@link InvocableMap.EntryProcessor} that removes a session. Unlike a plain removal, it returns
+ * {@link Boolean#TRUE} for each removed session, so that the result of an {@code invokeAll} holds the ids of all
+ * removed sessions without transferring the sessions themselves.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see CoherenceIndexedSessionRepository#deleteByPrincipalName(String)
+ */
+public class SessionRemovalProcessor extends AbstractProcessor<String, MapSession, Boolean>
+		implements PortableObject {
+
+	@Override
+	public Boolean process(InvocableMap.Entry<String, MapSession> entry) {
+		if (!entry.isPresent()) {
+			return null;
+		}
+		entry.remove(false);
+		return Boolean.TRUE;
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) {
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) {
+	}
+
+}
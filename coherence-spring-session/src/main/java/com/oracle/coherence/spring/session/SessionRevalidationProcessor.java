@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.session;
+
+import java.io.IOException;
+
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+import org.springframework.session.MapSession;
+
+/**
+ * Coherence {@link InvocableMap.EntryProcessor} that revalidates a locally cached session against the stored
+ * session. The version of a session is a counter stored as {@link ExternalizableHelper#DECO_APP_1 decoration} of
+ * the cache entry, which the {@link SessionUpdateEntryProcessor} increments with each update. Sessions stored
+ * otherwise, for instance by {@link com.tangosol.net.NamedCache#put(Object, Object) put}, have no known version.
+ * <p>
+ * The processor returns {@code null} if the session does not exist. Otherwise it returns an array holding the
+ * current version, {@code null} if not known, and, if that version differs from the version known by the caller,
+ * the serialized session as {@link Binary}, so that the session is not deserialized by the cache server.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see CoherenceIndexedSessionRepository#setLocalCacheMaxSize(int)
+ */
+public class SessionRevalidationProcessor extends AbstractProcessor<String, MapSession, Object[]>
+		implements PortableObject {
+
+	/**
+	 * The decoration of the cache entry holding the version of the session.
+	 */
+	static final int VERSION_DECORATION = ExternalizableHelper.DECO_APP_1;
+
+	private Long version;
+
+	/**
+	 * Default constructor used for serialization.
+	 */
+	public SessionRevalidationProcessor() {
+	}
+
+	/**
+	 * Create a {@link SessionRevalidationProcessor}.
+	 * @param version the version of the session known by the caller, or {@code null} to always return the session
+	 */
+	public SessionRevalidationProcessor(Long version) {
+		this.version = version;
+	}
+
+	@Override
+	public Object[] process(InvocableMap.Entry<String, MapSession> entry) {
+		if (!entry.isPresent()) {
+			return null;
+		}
+		final BinaryEntry<?, ?> binaryEntry = SessionUpdateEntryProcessor.getBinaryEntry(entry);
+		final Long currentVersion = getVersion(binaryEntry);
+
+		if (this.version != null && this.version.equals(currentVersion)) {
+			return new Object[] {currentVersion, null};
+		}
+		return new Object[] {currentVersion, getStoredValue(binaryEntry).toBinary()};
+	}
+
+	/**
+	 * Return the serialized session of an entry without decorations such as its expiry or version.
+	 * @param entry the entry
+	 * @return the serialized session
+	 */
+	static ReadBuffer getStoredValue(BinaryEntry<?, ?> entry) {
+		return ExternalizableHelper.getUndecorated((ReadBuffer) entry.getBinaryValue());
+	}
+
+	/**
+	 * Return the version of the session of an entry.
+	 * @param entry the entry
+	 * @return the version or {@code null} if the session was not stored with a version
+	 */
+	static Long getVersion(BinaryEntry<?, ?> entry) {
+		final Binary value = entry.getBinaryValue();
+		final Binary version = (value != null) ? ExternalizableHelper.getDecoration(value, VERSION_DECORATION) : null;
+		return (version != null) ? ExternalizableHelper.fromBinary(version, entry.getSerializer()) : null;
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+		this.version = pofReader.readObject(0);
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+		pofWriter.writeObject(0, this.version);
+	}
+
+}
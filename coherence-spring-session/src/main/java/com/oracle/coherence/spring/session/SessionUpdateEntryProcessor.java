@@ -11,12 +11,14 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.tangosol.coherence.memcached.server.MemcachedHelper;
 import com.tangosol.io.pof.PofReader;
 import com.tangosol.io.pof.PofWriter;
 import com.tangosol.io.pof.PortableObject;
 import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.InvocableMap;
 import com.tangosol.util.processor.AbstractProcessor;
 
@@ -24,6 +26,11 @@ import org.springframework.session.MapSession;
 
 /**
  * Coherence {@link InvocableMap.EntryProcessor} responsible for handling updates to session.
+ * <p>
+ * The processor increments the {@link SessionRevalidationProcessor version} of the session, or assigns a random
+ * version if the stored session has none. It returns {@link Boolean#FALSE} if the session does not exist. If a base
+ * version was set and the stored session still had that version, it returns the version of the updated session,
+ * otherwise {@link Boolean#TRUE}.
  *
  * @author Gunnar Hillert
  * @since 3.0
@@ -37,9 +44,15 @@ public class SessionUpdateEntryProcessor extends AbstractProcessor<String, MapSe
 	private Duration maxInactiveInterval;
 	private Duration defaultMaxInactiveInterval;
 	private Map<String, Object> delta;
+	private Long baseVersion;
 
 	@Override
 	public Object process(InvocableMap.Entry<String, MapSession> entry) {
+		if (!entry.isPresent()) {
+			return Boolean.FALSE;
+		}
+		final Long currentVersion = SessionRevalidationProcessor.getVersion(getBinaryEntry(entry));
+		final boolean unchanged = this.baseVersion != null && this.baseVersion.equals(currentVersion);
 		final MapSession mapSession = entry.getValue();
 
 		if (mapSession == null) {
@@ -67,6 +80,11 @@ public class SessionUpdateEntryProcessor extends AbstractProcessor<String, MapSe
 
 		entry.setValue(mapSession, false);
 
+		// a session without version may have been stored by anyone, so its new version must not be predictable
+		final Long version = (currentVersion != null) ? currentVersion + 1 : ThreadLocalRandom.current().nextLong();
+		binaryEntry.updateBinaryValue(ExternalizableHelper.decorate(binaryEntry.getBinaryValue(),
+				SessionRevalidationProcessor.VERSION_DECORATION, ExternalizableHelper.toBinary(version, binaryEntry.getSerializer())));
+
 		if (this.maxInactiveInterval != null && !this.maxInactiveInterval.isNegative()) {
 			binaryEntry.expire(this.maxInactiveInterval.toMillis());
 		}
@@ -74,6 +92,9 @@ public class SessionUpdateEntryProcessor extends AbstractProcessor<String, MapSe
 			binaryEntry.expire(this.defaultMaxInactiveInterval.toMillis());
 		}
 
+		if (unchanged) {
+			return version;
+		}
 		return Boolean.TRUE;
 	}
 
@@ -103,12 +124,22 @@ public class SessionUpdateEntryProcessor extends AbstractProcessor<String, MapSe
 		this.delta = delta;
 	}
 
+	/**
+	 * Set the version of the stored session the changes are based on, so that the version of the updated session
+	 * is returned if the stored session was not changed otherwise in the meantime.
+	 * @param baseVersion the version, may be {@code null}
+	 */
+	void setBaseVersion(Long baseVersion) {
+		this.baseVersion = baseVersion;
+	}
+
 	@Override
 	public void readExternal(PofReader pofReader) throws IOException {
 		this.lastAccessedTime = pofReader.readObject(0);
 		this.maxInactiveInterval = pofReader.readObject(1);
 		this.delta = pofReader.readMap(2, new HashMap<>());
 		this.defaultMaxInactiveInterval = pofReader.readObject(3);
+		this.baseVersion = pofReader.readObject(4);
 
 	}
 
@@ -118,6 +149,7 @@ public class SessionUpdateEntryProcessor extends AbstractProcessor<String, MapSe
 		pofWriter.writeObject(1, this.maxInactiveInterval);
 		pofWriter.writeMap(2, this.delta);
 		pofWriter.writeObject(3, this.defaultMaxInactiveInterval);
+		pofWriter.writeObject(4, this.baseVersion);
 	}
 
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.session;
+
+/**
+ * Determines how {@link CoherenceIndexedSessionRepository#save(CoherenceSpringSession)} waits for session changes to
+ * be written to Coherence.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see CoherenceIndexedSessionRepository#setWriteMode(SessionWriteMode)
+ */
+public enum SessionWriteMode {
+
+	/**
+	 * Session changes are written before {@code save} returns. This is the default.
+	 */
+	SYNC,
+
+	/**
+	 * Session changes are written asynchronously and {@code save} waits for the write to complete for at most the
+	 * {@link CoherenceIndexedSessionRepository#setWriteAcknowledgementTimeout(java.time.Duration) acknowledgement
+	 * timeout}.
+	 */
+	ACKNOWLEDGED,
+
+	/**
+	 * Session changes are written asynchronously and {@code save} returns immediately.
+	 */
+	FIRE_AND_FORGET
+
+}
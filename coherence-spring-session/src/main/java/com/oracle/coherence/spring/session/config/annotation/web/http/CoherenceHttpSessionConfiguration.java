@@ -13,6 +13,7 @@ import java.util.stream.Collectors;
 
 import com.oracle.coherence.spring.configuration.CoherenceSpringConfiguration;
 import com.oracle.coherence.spring.session.CoherenceIndexedSessionRepository;
+import com.oracle.coherence.spring.session.SessionWriteMode;
 import com.oracle.coherence.spring.session.config.annotation.SpringSessionCoherenceInstance;
 import com.tangosol.net.Coherence;
 
@@ -55,6 +56,14 @@ public class CoherenceHttpSessionConfiguration extends SpringHttpSessionConfigur
 
 	private FlushMode flushMode = FlushMode.ON_SAVE;
 	private SaveMode saveMode = SaveMode.ON_SET_ATTRIBUTE;
+	private boolean binaryAttributes;
+	private int localCacheMaxSize;
+	private int lastAccessedTimeGranularityInSeconds;
+	private double lastAccessedTimeGranularityRatio;
+	private SessionWriteMode writeMode = SessionWriteMode.SYNC;
+	private int writeAcknowledgementTimeoutInMillis = 100;
+
+	private int maxPendingWrites = CoherenceIndexedSessionRepository.DEFAULT_MAX_PENDING_WRITES;
 
 	private Coherence coherence;
 
@@ -94,6 +103,13 @@ public class CoherenceHttpSessionConfiguration extends SpringHttpSessionConfigur
 		}
 		this.flushMode = attributes.getEnum("flushMode");
 		this.saveMode = attributes.getEnum("saveMode");
+		this.binaryAttributes = attributes.getBoolean("binaryAttributes");
+		this.localCacheMaxSize = attributes.getNumber("localCacheMaxSize");
+		this.lastAccessedTimeGranularityInSeconds = attributes.getNumber("lastAccessedTimeGranularityInSeconds");
+		this.lastAccessedTimeGranularityRatio = attributes.getNumber("lastAccessedTimeGranularityRatio");
+		this.writeMode = attributes.getEnum("writeMode");
+		this.writeAcknowledgementTimeoutInMillis = attributes.getNumber("writeAcknowledgementTimeoutInMillis");
+		this.maxPendingWrites = attributes.getNumber("maxPendingWrites");
 	}
 
 	@Autowired(required = false)
@@ -123,6 +139,34 @@ public class CoherenceHttpSessionConfiguration extends SpringHttpSessionConfigur
 		this.saveMode = saveMode;
 	}
 
+	public void setBinaryAttributes(boolean binaryAttributes) {
+		this.binaryAttributes = binaryAttributes;
+	}
+
+	public void setLocalCacheMaxSize(int localCacheMaxSize) {
+		this.localCacheMaxSize = localCacheMaxSize;
+	}
+
+	public void setLastAccessedTimeGranularityInSeconds(int lastAccessedTimeGranularityInSeconds) {
+		this.lastAccessedTimeGranularityInSeconds = lastAccessedTimeGranularityInSeconds;
+	}
+
+	public void setLastAccessedTimeGranularityRatio(double lastAccessedTimeGranularityRatio) {
+		this.lastAccessedTimeGranularityRatio = lastAccessedTimeGranularityRatio;
+	}
+
+	public void setWriteMode(SessionWriteMode writeMode) {
+		this.writeMode = writeMode;
+	}
+
+	public void setWriteAcknowledgementTimeoutInMillis(int writeAcknowledgementTimeoutInMillis) {
+		this.writeAcknowledgementTimeoutInMillis = writeAcknowledgementTimeoutInMillis;
+	}
+
+	public void setMaxPendingWrites(int maxPendingWrites) {
+		this.maxPendingWrites = maxPendingWrites;
+	}
+
 	private CoherenceIndexedSessionRepository createCoherenceIndexedSessionRepository() {
 		final com.tangosol.net.Session coherenceSession;
 		if (StringUtils.hasText(this.coherenceSessionName)) {
@@ -142,6 +186,13 @@ public class CoherenceHttpSessionConfiguration extends SpringHttpSessionConfigur
 		sessionRepository.setDefaultMaxInactiveInterval(Duration.ofSeconds(this.maxInactiveIntervalInSeconds));
 		sessionRepository.setFlushMode(this.flushMode);
 		sessionRepository.setSaveMode(this.saveMode);
+		sessionRepository.setBinaryAttributes(this.binaryAttributes);
+		sessionRepository.setLocalCacheMaxSize(this.localCacheMaxSize);
+		sessionRepository.setLastAccessedTimeGranularity(Duration.ofSeconds(this.lastAccessedTimeGranularityInSeconds));
+		sessionRepository.setLastAccessedTimeGranularityRatio(this.lastAccessedTimeGranularityRatio);
+		sessionRepository.setWriteMode(this.writeMode);
+		sessionRepository.setWriteAcknowledgementTimeout(Duration.ofMillis(this.writeAcknowledgementTimeoutInMillis));
+		sessionRepository.setMaxPendingWrites(this.maxPendingWrites);
 		this.sessionRepositoryCustomizers
 				.forEach((sessionRepositoryCustomizer) -> sessionRepositoryCustomizer.customize(sessionRepository));
 		return sessionRepository;
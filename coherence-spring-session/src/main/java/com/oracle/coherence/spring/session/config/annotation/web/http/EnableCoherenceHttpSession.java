@@ -13,6 +13,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import com.oracle.coherence.spring.session.CoherenceIndexedSessionRepository;
+import com.oracle.coherence.spring.session.SessionWriteMode;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -77,4 +78,63 @@ public @interface EnableCoherenceHttpSession {
 	 */
 	SaveMode saveMode() default SaveMode.ON_SET_ATTRIBUTE;
 
+	/**
+	 * Whether session attributes are stored as serialized values that are only deserialized when accessed. The
+	 * default is {@code false}, which stores attributes as part of the serialized session.
+	 * @return true to store session attributes as serialized values
+	 * @see CoherenceIndexedSessionRepository#setBinaryAttributes(boolean)
+	 */
+	boolean binaryAttributes() default false;
+
+	/**
+	 * The maximum number of sessions cached locally. Locally cached sessions are revalidated against the stored
+	 * sessions on read and are only transferred again if they were changed. The default is {@code 0}, which
+	 * disables the local cache.
+	 * @return the maximum number of locally cached sessions
+	 * @see CoherenceIndexedSessionRepository#setLocalCacheMaxSize(int)
+	 */
+	int localCacheMaxSize() default 0;
+
+	/**
+	 * The minimum number of seconds the last accessed time of a session must have advanced before it is saved
+	 * without other changes of the session. The default is {@code 0}, which saves every change of the last accessed
+	 * time.
+	 * @return the granularity of the last accessed time in seconds
+	 * @see CoherenceIndexedSessionRepository#setLastAccessedTimeGranularity(java.time.Duration)
+	 */
+	int lastAccessedTimeGranularityInSeconds() default 0;
+
+	/**
+	 * The minimum advance of the last accessed time of a session before it is saved without other changes of the
+	 * session, as a fraction of the maximum inactive interval of the session. The default is {@code 0}.
+	 * @return the granularity of the last accessed time as a fraction of the maximum inactive interval
+	 * @see CoherenceIndexedSessionRepository#setLastAccessedTimeGranularityRatio(double)
+	 */
+	double lastAccessedTimeGranularityRatio() default 0;
+
+	/**
+	 * Write mode for Coherence sessions. The default is {@link SessionWriteMode#SYNC}, which writes session changes
+	 * before {@link SessionRepository#save(Session)} returns. The asynchronous write modes take the write off the
+	 * request thread.
+	 * @return the {@link SessionWriteMode} to use
+	 * @see CoherenceIndexedSessionRepository#setWriteMode(SessionWriteMode)
+	 */
+	SessionWriteMode writeMode() default SessionWriteMode.SYNC;
+
+	/**
+	 * The maximum number of milliseconds {@link SessionRepository#save(Session)} waits for session changes to be
+	 * written with {@link SessionWriteMode#ACKNOWLEDGED}. The default is 100 milliseconds.
+	 * @return the acknowledgement timeout in milliseconds
+	 */
+	int writeAcknowledgementTimeoutInMillis() default 100;
+
+	/**
+	 * The maximum number of session writes pending at a time with the asynchronous write modes. Once reached,
+	 * {@link SessionRepository#save(Session)} waits for a pending write to complete. The default is
+	 * {@link CoherenceIndexedSessionRepository#DEFAULT_MAX_PENDING_WRITES}.
+	 * @return the maximum number of pending writes
+	 * @see CoherenceIndexedSessionRepository#setMaxPendingWrites(int)
+	 */
+	int maxPendingWrites() default CoherenceIndexedSessionRepository.DEFAULT_MAX_PENDING_WRITES;
+
 }
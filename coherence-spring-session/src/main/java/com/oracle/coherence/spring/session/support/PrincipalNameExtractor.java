@@ -15,7 +15,9 @@ import com.tangosol.util.extractor.AbstractExtractor;
 import org.springframework.session.MapSession;
 
 /**
- * ValueExtractor that returns the name of the Spring Security principal from the {@link MapSession}.
+ * ValueExtractor that returns the name of the Spring Security principal from the {@link MapSession}. All instances
+ * are equal, so that queries using this extractor are resolved by the index created by
+ * {@link CoherenceIndexedSessionRepository#init()}.
  *
  * @author Gunnar Hillert
  * @since 3.0
@@ -27,6 +29,16 @@ public class PrincipalNameExtractor extends AbstractExtractor<MapSession, String
 		return session.getAttribute(CoherenceIndexedSessionRepository.PRINCIPAL_NAME_INDEX_NAME);
 	}
 
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof PrincipalNameExtractor;
+	}
+
+	@Override
+	public int hashCode() {
+		return PrincipalNameExtractor.class.hashCode();
+	}
+
 	@Override
 	public void readExternal(PofReader in) {
 	}
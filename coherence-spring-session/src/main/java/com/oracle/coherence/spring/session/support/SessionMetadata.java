@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.session.support;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.session.Session;
+
+/**
+ * The id and timestamps of a {@link Session}, without its attributes.
+ *
+ * @author Gunnar Hillert
+ * @since 3.0
+ * @see com.oracle.coherence.spring.session.CoherenceIndexedSessionRepository#findSessionMetadataByPrincipalName(String)
+ */
+public final class SessionMetadata {
+
+	private final String id;
+
+	private final Instant creationTime;
+
+	private final Instant lastAccessedTime;
+
+	private final Duration maxInactiveInterval;
+
+	public SessionMetadata(String id, Instant creationTime, Instant lastAccessedTime, Duration maxInactiveInterval) {
+		this.id = id;
+		this.creationTime = creationTime;
+		this.lastAccessedTime = lastAccessedTime;
+		this.maxInactiveInterval = maxInactiveInterval;
+	}
+
+	public String getId() {
+		return this.id;
+	}
+
+	public Instant getCreationTime() {
+		return this.creationTime;
+	}
+
+	public Instant getLastAccessedTime() {
+		return this.lastAccessedTime;
+	}
+
+	public Duration getMaxInactiveInterval() {
+		return this.maxInactiveInterval;
+	}
+
+	/**
+	 * Determine whether the session expired, in the same way as {@link Session#isExpired()}.
+	 * @return true if the session expired
+	 */
+	public boolean isExpired() {
+		if (this.maxInactiveInterval.isNegative()) {
+			return false;
+		}
+		return Instant.now().minus(this.maxInactiveInterval).compareTo(this.lastAccessedTime) >= 0;
+	}
+
+	@Override
+	public String toString() {
+		return "SessionMetadata{" +
+				"id='" + this.id + '\'' +
+				", creationTime=" + this.creationTime +
+				", lastAccessedTime=" + this.lastAccessedTime +
+				", maxInactiveInterval=" + this.maxInactiveInterval +
+				'}';
+	}
+}
@@ -8,6 +8,7 @@ package com.oracle.coherence.spring.session;
 
 import java.util.Map;
 
+import com.oracle.coherence.spring.session.support.SessionMetadata;
 import com.tangosol.net.Coherence;
 import com.tangosol.net.Session;
 import com.tangosol.net.cache.CacheMap;
@@ -306,4 +307,39 @@ abstract class AbstractCoherenceIndexedSessionRepositoryTests {
 		assertThat(this.repository.findById(session.getId())).isNull();
 	}
 
+	@Test
+	void findSessionMetadataAndDeleteByPrincipal() {
+		final String username = "kyle.broflovski";
+		final CoherenceSpringSession firstSession = createSessionWithSecurityContext(username);
+		final CoherenceSpringSession secondSession = createSessionWithSecurityContext(username);
+		final CoherenceSpringSession otherSession = createSessionWithSecurityContext("stan.marsh");
+
+		final Map<String, SessionMetadata> sessionMetadata = this.repository.findSessionMetadataByPrincipalName(username);
+		assertThat(sessionMetadata).containsOnlyKeys(firstSession.getId(), secondSession.getId());
+		final SessionMetadata firstSessionMetadata = sessionMetadata.get(firstSession.getId());
+		assertThat(firstSessionMetadata.getCreationTime()).isEqualTo(firstSession.getCreationTime());
+		assertThat(firstSessionMetadata.getMaxInactiveInterval()).isEqualTo(firstSession.getMaxInactiveInterval());
+		assertThat(firstSessionMetadata.isExpired()).isFalse();
+
+		assertThat(this.repository.deleteByPrincipalName(username))
+				.containsExactlyInAnyOrder(firstSession.getId(), secondSession.getId());
+		assertThat(this.repository.findById(firstSession.getId())).isNull();
+		assertThat(this.repository.findById(secondSession.getId())).isNull();
+		assertThat(this.repository.findByPrincipalName(username)).isEmpty();
+		assertThat(this.repository.findById(otherSession.getId())).isNotNull();
+
+		this.repository.deleteById(otherSession.getId());
+	}
+
+	CoherenceSpringSession createSessionWithSecurityContext(String username) {
+		final CoherenceSpringSession session = this.repository.createSession();
+		final Authentication authentication = new UsernamePasswordAuthenticationToken(username, "password",
+				AuthorityUtils.createAuthorityList("ROLE_USER"));
+		final SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+		securityContext.setAuthentication(authentication);
+		session.setAttribute(SPRING_SECURITY_CONTEXT, securityContext);
+		this.repository.save(session);
+		return session;
+	}
+
 }
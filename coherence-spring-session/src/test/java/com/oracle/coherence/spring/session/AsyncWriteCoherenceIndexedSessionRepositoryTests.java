@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.session;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.oracle.coherence.spring.configuration.annotation.EnableCoherence;
+import com.oracle.coherence.spring.session.config.annotation.web.http.EnableCoherenceHttpSession;
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedCache;
+import com.tangosol.util.InvocableMap;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.MapSession;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link CoherenceIndexedSessionRepository} using embedded Coherence and asynchronous writes. The
+ * acknowledgement timeout is long enough for the inherited tests to observe the writes in the cache.
+ *
+ * @author Gunnar Hillert
+ */
+@DirtiesContext
+@SpringJUnitWebConfig
+class AsyncWriteCoherenceIndexedSessionRepositoryTests extends AbstractCoherenceIndexedSessionRepositoryTests {
+
+	@Autowired
+	private Coherence coherence;
+
+	@Autowired
+	private CoherenceIndexedSessionRepository repository;
+
+	@Test
+	void savedChangesAreReadAndEventuallyWritten() {
+		this.repository.setWriteMode(SessionWriteMode.FIRE_AND_FORGET);
+		try {
+			final CoherenceSpringSession session = this.repository.createSession();
+			session.setAttribute("color", "red");
+			this.repository.save(session);
+
+			final CoherenceSpringSession found = this.repository.findById(session.getId());
+			assertThat(found.<String>getAttribute("color")).isEqualTo("red");
+
+			found.setAttribute("color", "blue");
+			this.repository.save(found);
+			assertThat(this.repository.findById(session.getId()).<String>getAttribute("color")).isEqualTo("blue");
+
+			await().atMost(Duration.ofSeconds(10)).until(() -> {
+				final MapSession stored = getStoredSession(session.getId());
+				return stored != null && "blue".equals(stored.getAttribute("color"));
+			});
+		}
+		finally {
+			this.repository.setWriteMode(SessionWriteMode.ACKNOWLEDGED);
+		}
+	}
+
+	@Test
+	void savedStateIsNotChangedByLaterChanges() {
+		this.repository.setWriteMode(SessionWriteMode.FIRE_AND_FORGET);
+		try {
+			final CoherenceSpringSession session = this.repository.createSession();
+			final List<String> colors = new ArrayList<>();
+			colors.add("red");
+			session.setAttribute("colors", colors);
+			this.repository.save(session);
+			colors.add("blue");
+
+			assertThat(this.repository.findById(session.getId()).<List<String>>getAttribute("colors"))
+					.containsExactly("red");
+			await().atMost(Duration.ofSeconds(10)).until(() -> getStoredSession(session.getId()) != null);
+			assertThat(getStoredSession(session.getId()).<List<String>>getAttribute("colors")).containsExactly("red");
+		}
+		finally {
+			this.repository.setWriteMode(SessionWriteMode.ACKNOWLEDGED);
+		}
+	}
+
+	@Test
+	void deletedSessionIsNotFound() {
+		this.repository.setWriteMode(SessionWriteMode.FIRE_AND_FORGET);
+		try {
+			final CoherenceSpringSession session = this.repository.createSession();
+			this.repository.save(session);
+			this.repository.deleteById(session.getId());
+
+			assertThat(this.repository.findById(session.getId())).isNull();
+			await().atMost(Duration.ofSeconds(10)).until(() -> getStoredSession(session.getId()) == null);
+		}
+		finally {
+			this.repository.setWriteMode(SessionWriteMode.ACKNOWLEDGED);
+		}
+	}
+
+	@Test
+	void pendingSessionIsDeletedByPrincipal() {
+		this.repository.setWriteMode(SessionWriteMode.FIRE_AND_FORGET);
+		try {
+			final String username = "kenny.mccormick";
+			final CoherenceSpringSession session = createSessionWithSecurityContext(username);
+
+			assertThat(this.repository.deleteByPrincipalName(username)).containsExactly(session.getId());
+			assertThat(this.repository.findById(session.getId())).isNull();
+			assertThat(getStoredSession(session.getId())).isNull();
+		}
+		finally {
+			this.repository.setWriteMode(SessionWriteMode.ACKNOWLEDGED);
+		}
+	}
+
+	private MapSession getStoredSession(String id) {
+		final NamedCache<String, MapSession> cache = this.coherence.getSession()
+				.getCache(CoherenceIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME);
+		return cache.invoke(id, InvocableMap.Entry::getValue);
+	}
+
+	@EnableCoherenceHttpSession(writeMode = SessionWriteMode.ACKNOWLEDGED, writeAcknowledgementTimeoutInMillis = 10000)
+	@EnableCoherence
+	@Configuration
+	static class CoherenceSessionConfig {
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.session;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.oracle.coherence.spring.configuration.annotation.EnableCoherence;
+import com.oracle.coherence.spring.session.config.annotation.web.http.EnableCoherenceHttpSession;
+import com.tangosol.net.Coherence;
+import com.tangosol.net.cache.CacheMap;
+import com.tangosol.util.Binary;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.MapSession;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CoherenceIndexedSessionRepository} using embedded Coherence and attributes stored as
+ * serialized values.
+ *
+ * @author Gunnar Hillert
+ */
+@DirtiesContext
+@SpringJUnitWebConfig
+class BinaryAttributesCoherenceIndexedSessionRepositoryTests extends AbstractCoherenceIndexedSessionRepositoryTests {
+
+	@Autowired
+	private Coherence coherence;
+
+	@Autowired
+	private CoherenceIndexedSessionRepository repository;
+
+	@Test
+	void attributesAreStoredAsSerializedValues() {
+		final CoherenceSpringSession session = this.repository.createSession();
+		final List<String> cart = new ArrayList<>(Arrays.asList("book", "pen"));
+		session.setAttribute("cart", cart);
+		this.repository.save(session);
+
+		final CacheMap<String, MapSession> cacheMap = this.coherence.getSession()
+				.getCache(CoherenceIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME);
+		assertThat(cacheMap.get(session.getId()).<Object>getAttribute("cart")).isInstanceOf(Binary.class);
+
+		final CoherenceSpringSession found = this.repository.findById(session.getId());
+		assertThat(found.<List<String>>getAttribute("cart")).isEqualTo(cart);
+
+		found.setAttribute("count", 42);
+		this.repository.save(found);
+
+		final CoherenceSpringSession updated = this.repository.findById(session.getId());
+		assertThat(updated.<Integer>getAttribute("count")).isEqualTo(42);
+		assertThat(updated.<List<String>>getAttribute("cart")).isEqualTo(cart);
+		assertThat(cacheMap.get(session.getId()).<Object>getAttribute("count")).isInstanceOf(Binary.class);
+	}
+
+	@EnableCoherenceHttpSession(binaryAttributes = true)
+	@EnableCoherence
+	@Configuration
+	static class CoherenceSessionConfig {
+	}
+
+}
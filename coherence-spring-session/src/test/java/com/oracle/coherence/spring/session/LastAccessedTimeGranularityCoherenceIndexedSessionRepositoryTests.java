@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.session;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.oracle.coherence.spring.configuration.annotation.EnableCoherence;
+import com.oracle.coherence.spring.session.config.annotation.web.http.EnableCoherenceHttpSession;
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedCache;
+import com.tangosol.util.InvocableMap;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.MapSession;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CoherenceIndexedSessionRepository} using embedded Coherence and a granularity for saving the
+ * last accessed time.
+ *
+ * @author Gunnar Hillert
+ */
+@DirtiesContext
+@SpringJUnitWebConfig
+class LastAccessedTimeGranularityCoherenceIndexedSessionRepositoryTests extends AbstractCoherenceIndexedSessionRepositoryTests {
+
+	@Autowired
+	private Coherence coherence;
+
+	@Autowired
+	private CoherenceIndexedSessionRepository repository;
+
+	@Test
+	void lastAccessedTimeIsSavedOnceGranularityIsReached() {
+		final CoherenceSpringSession session = this.repository.createSession();
+		this.repository.save(session);
+		final Instant created = getStoredSession(session.getId()).getLastAccessedTime();
+
+		final CoherenceSpringSession accessed = this.repository.findById(session.getId());
+		accessed.setLastAccessedTime(created.plusSeconds(30));
+		this.repository.save(accessed);
+		assertThat(getStoredSession(session.getId()).getLastAccessedTime()).isEqualTo(created);
+
+		accessed.setLastAccessedTime(created.plusSeconds(60));
+		this.repository.save(accessed);
+		assertThat(getStoredSession(session.getId()).getLastAccessedTime()).isEqualTo(created.plusSeconds(60));
+	}
+
+	@Test
+	void lastAccessedTimeIsSavedWithOtherChanges() {
+		final CoherenceSpringSession session = this.repository.createSession();
+		this.repository.save(session);
+		final Instant created = getStoredSession(session.getId()).getLastAccessedTime();
+
+		final CoherenceSpringSession accessed = this.repository.findById(session.getId());
+		accessed.setLastAccessedTime(created.plusSeconds(1));
+		accessed.setAttribute("color", "red");
+		this.repository.save(accessed);
+
+		final MapSession stored = getStoredSession(session.getId());
+		assertThat(stored.getLastAccessedTime()).isEqualTo(created.plusSeconds(1));
+		assertThat(stored.<String>getAttribute("color")).isEqualTo("red");
+	}
+
+	@Test
+	void granularityRatioAppliesToMaxInactiveInterval() {
+		final CoherenceSpringSession session = this.repository.createSession();
+		session.setMaxInactiveInterval(Duration.ofHours(100));
+		this.repository.save(session);
+		final Instant created = getStoredSession(session.getId()).getLastAccessedTime();
+
+		final CoherenceSpringSession accessed = this.repository.findById(session.getId());
+		accessed.setLastAccessedTime(created.plus(Duration.ofMinutes(30)));
+		this.repository.save(accessed);
+		assertThat(getStoredSession(session.getId()).getLastAccessedTime()).isEqualTo(created);
+	}
+
+	/**
+	 * Read the session from the cache servers, bypassing the near cache, which holds the instance modified by the
+	 * repository.
+	 */
+	private MapSession getStoredSession(String id) {
+		final NamedCache<String, MapSession> cache = this.coherence.getSession()
+				.getCache(CoherenceIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME);
+		return cache.invoke(id, InvocableMap.Entry::getValue);
+	}
+
+	@EnableCoherenceHttpSession(lastAccessedTimeGranularityInSeconds = 60, lastAccessedTimeGranularityRatio = 0.01)
+	@EnableCoherence
+	@Configuration
+	static class CoherenceSessionConfig {
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.session;
+
+import com.oracle.coherence.spring.configuration.annotation.EnableCoherence;
+import com.oracle.coherence.spring.session.config.annotation.web.http.EnableCoherenceHttpSession;
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedCache;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.MapSession;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CoherenceIndexedSessionRepository} using embedded Coherence and a local session cache.
+ *
+ * @author Gunnar Hillert
+ */
+@DirtiesContext
+@SpringJUnitWebConfig
+class LocalCacheCoherenceIndexedSessionRepositoryTests extends AbstractCoherenceIndexedSessionRepositoryTests {
+
+	@Autowired
+	private Coherence coherence;
+
+	@Autowired
+	private CoherenceIndexedSessionRepository repository;
+
+	@Test
+	void locallyCachedSessionIsRevalidated() {
+		final CoherenceSpringSession session = this.repository.createSession();
+		session.setAttribute("color", "red");
+		this.repository.save(session);
+
+		assertThat(this.repository.findById(session.getId()).<String>getAttribute("color")).isEqualTo("red");
+
+		final NamedCache<String, MapSession> cache = this.coherence.getSession()
+				.getCache(CoherenceIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME);
+		final MapSession stored = cache.get(session.getId());
+		stored.setAttribute("color", "blue");
+		cache.put(session.getId(), stored);
+
+		assertThat(this.repository.findById(session.getId()).<String>getAttribute("color")).isEqualTo("blue");
+
+		cache.remove(session.getId());
+
+		assertThat(this.repository.findById(session.getId())).isNull();
+	}
+
+	@Test
+	void locallyCachedSessionIsNotModifiedByCallers() {
+		final CoherenceSpringSession session = this.repository.createSession();
+		session.setAttribute("color", "red");
+		this.repository.save(session);
+
+		final CoherenceSpringSession found = this.repository.findById(session.getId());
+		found.getDelegate().setAttribute("color", "green");
+
+		assertThat(this.repository.findById(session.getId()).<String>getAttribute("color")).isEqualTo("red");
+	}
+
+	@Test
+	void updatedSessionIsCachedWithItsStoredVersion() {
+		final CoherenceSpringSession session = this.repository.createSession();
+		session.setAttribute("color", "red");
+		this.repository.save(session);
+		assertThat(session.getStoredVersion()).isNull();
+
+		final CoherenceSpringSession created = this.repository.findById(session.getId());
+		created.setAttribute("color", "yellow");
+		this.repository.save(created);
+
+		final NamedCache<String, MapSession> cache = this.coherence.getSession()
+				.getCache(CoherenceIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME);
+		final CoherenceSpringSession found = this.repository.findById(session.getId());
+		assertThat(found.getStoredVersion()).isNotNull();
+		assertThat(cache.invoke(found.getId(), new SessionRevalidationProcessor(found.getStoredVersion()))[1]).isNull();
+
+		found.setAttribute("color", "green");
+		this.repository.save(found);
+
+		assertThat(cache.invoke(found.getId(), new SessionRevalidationProcessor(found.getStoredVersion()))[1]).isNull();
+		assertThat(this.repository.findById(found.getId()).<String>getAttribute("color")).isEqualTo("green");
+
+		final MapSession stored = cache.get(found.getId());
+		stored.setAttribute("size", "large");
+		cache.put(found.getId(), stored);
+		found.setAttribute("color", "blue");
+		this.repository.save(found);
+
+		assertThat(found.getStoredVersion()).isNull();
+		final CoherenceSpringSession updated = this.repository.findById(found.getId());
+		assertThat(updated.<String>getAttribute("color")).isEqualTo("blue");
+		assertThat(updated.<String>getAttribute("size")).isEqualTo("large");
+	}
+
+	@EnableCoherenceHttpSession(localCacheMaxSize = 100)
+	@EnableCoherence
+	@Configuration
+	static class CoherenceSessionConfig {
+	}
+
+}